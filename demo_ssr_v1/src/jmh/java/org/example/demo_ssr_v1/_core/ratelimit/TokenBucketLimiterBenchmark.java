@@ -0,0 +1,48 @@
+package org.example.demo_ssr_v1._core.ratelimit;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 1건당 요청 수 제한 비용
+ * - sameKey : 모든 스레드가 같은 키 (한 IP 에서 몰아치는 경우 - CAS 경합 최대)
+ * - manyKeys: 키 1만 개에 고르게 분산 (일반 트래픽)
+ *
+ * ./gradlew jmh -Pjmh.includes=TokenBucketLimiterBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+@Threads(8)
+public class TokenBucketLimiterBenchmark {
+
+    private static final int KEY_COUNT = 10_000;
+
+    private TokenBucketLimiter limiter;
+    private String[] keys;
+
+    @Setup
+    public void setUp() {
+        // 거절 경로와 허용 경로가 섞이도록 넉넉한 버킷
+        limiter = new TokenBucketLimiter("bench", 1_000, 6_000_000, KEY_COUNT * 2);
+        keys = new String[KEY_COUNT];
+        for (int i = 0; i < KEY_COUNT; i++) {
+            keys[i] = "10.0." + (i / 256) + "." + (i % 256);
+        }
+    }
+
+    @Benchmark
+    public long sameKey() {
+        return limiter.tryAcquire("10.0.0.1", System.nanoTime());
+    }
+
+    @Benchmark
+    public long manyKeys() {
+        return limiter.tryAcquire(keys[ThreadLocalRandom.current().nextInt(KEY_COUNT)], System.nanoTime());
+    }
+}
@@ -0,0 +1,44 @@
+package org.example.demo_ssr_v1._core.security;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BCrypt cost factor 별 해싱 / 검증 시간
+ * - cost 가 1 오를 때마다 시간이 약 2배 -> password.bcrypt-strength 를 정할 때 참고
+ * - 로그인 1건이 해싱 스레드 하나를 점유하는 시간 = matches 결과
+ *
+ * ./gradlew jmh -Pjmh.includes=BCryptCostBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class BCryptCostBenchmark {
+
+    @Param({"8", "10", "12"})
+    public int strength;
+
+    private BCryptPasswordEncoder encoder;
+    private String encoded;
+
+    @Setup
+    public void setUp() {
+        encoder = new BCryptPasswordEncoder(strength);
+        encoded = encoder.encode("password1234");
+    }
+
+    @Benchmark
+    public String encode() {
+        return encoder.encode("password1234");
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches("password1234", encoded);
+    }
+}
@@ -0,0 +1,106 @@
+package org.example.demo_ssr_v1._core.security;
+
+import com.samskivert.mustache.Mustache;
+import com.samskivert.mustache.Template;
+import org.example.demo_ssr_v1._core.errors.exception.Exception503;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 폭주 중 일반 페이지(게시글 목록 렌더링) 처리량 비교 (부하 테스트)
+ *
+ * - login 스레드 : 톰캣 워커처럼 로그인 요청을 계속 보냄 (BCrypt matches)
+ * - browse 스레드 : 게시글 목록 화면 렌더링 (머스태치)
+ *
+ * mode
+ * - direct : 요청 스레드에서 바로 BCrypt 실행 (기존 방식) -> 로그인 스레드 수 만큼 CPU 를 차지
+ * - pooled : PasswordHashingService 사용 -> 해싱은 hashThreads 개 스레드에서만 실행, 초과분은 바로 거절
+ *
+ * 비교 지표: browse 처리량 (ops/s) 이 pooled 에서 유지되는지, login 은 거절(rejected) 로 빠르게 끝나는지
+ *
+ * ./gradlew jmh -Pjmh.includes=LoginBrowseMixBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class LoginBrowseMixBenchmark {
+
+    @State(Scope.Group)
+    public static class Shared {
+
+        @Param({"direct", "pooled"})
+        public String mode;
+
+        // 해싱 전용 스레드 수 (pooled 모드) - 코어 절반만 해싱에 사용
+        @Param({"2"})
+        public int hashThreads;
+
+        BCryptPasswordEncoder encoder;
+        PasswordHashingService hashingService;
+        String encoded;
+        Template template;
+        Map<String, Object> model;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            encoder = new BCryptPasswordEncoder(10);
+            encoded = encoder.encode("password1234");
+            hashingService = new PasswordHashingService(encoder, hashThreads, 16, 3000);
+
+            template = Mustache.compiler().compile("""
+                    <ul>
+                    {{#boards}}
+                      <li><a href="/board/{{id}}">{{title}}</a> <small>{{username}} · {{createdAt}}</small></li>
+                    {{/boards}}
+                    </ul>
+                    """);
+            List<Map<String, Object>> boards = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                Map<String, Object> board = new HashMap<>();
+                board.put("id", i);
+                board.put("title", "게시글 제목 " + i);
+                board.put("username", "user" + i);
+                board.put("createdAt", "2024-01-01 12:00:00");
+                boards.add(board);
+            }
+            model = Map.of("boards", boards);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            hashingService.shutdown();
+        }
+    }
+
+    @Benchmark
+    @Group("mix")
+    @GroupThreads(8)
+    public void login(Shared shared, Blackhole blackhole) {
+        if ("direct".equals(shared.mode)) {
+            blackhole.consume(shared.encoder.matches("password1234", shared.encoded));
+            return;
+        }
+        try {
+            blackhole.consume(shared.hashingService.matches("password1234", shared.encoded));
+        } catch (Exception503 e) {
+            // 과부하로 거절된 로그인 (사용자는 바로 503 응답을 받음)
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    @Group("mix")
+    @GroupThreads(4)
+    public String browse(Shared shared) {
+        return shared.template.execute(shared.model);
+    }
+}
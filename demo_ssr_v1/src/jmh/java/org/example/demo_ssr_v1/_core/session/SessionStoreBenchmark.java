@@ -0,0 +1,102 @@
+package org.example.demo_ssr_v1._core.session;
+
+import org.example.demo_ssr_v1.user.SessionUser;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.session.MapSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+import org.springframework.session.jdbc.JdbcIndexedSessionRepository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 1건당 세션 저장소 읽기 / 쓰기 비용
+ * - memory       : 톰캣 메모리 세션과 같은 조건 (Map 저장) -> 기준값
+ * - jdbc-java    : JDBC 세션 + 기본 자바 직렬화
+ * - jdbc-compact : JDBC 세션 + SessionAttributeCodec
+ *
+ * request : 로그인 사용자의 일반 요청 (세션 조회 -> 마지막 접근 시간 갱신 -> 저장)
+ * login   : 로그인 (세션 생성 -> sessionUser 저장) + 로그아웃 (삭제)
+ *
+ * JDBC 는 H2 인메모리 DB 라 네트워크 왕복이 빠진 값 -> 실제 MySQL 에서는 쿼리 수 x RTT 만큼 더해진다.
+ * 속성 직렬화 크기는 setUp 에서 출력
+ *
+ * ./gradlew jmh -Pjmh.includes=SessionStoreBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class SessionStoreBenchmark {
+
+    private static final SessionUser SESSION_USER =
+            new SessionUser(1L, "ssar", 1 << 1, "/images/profile/5f0c1a2e-ssar.png");
+
+    @Param({"memory", "jdbc-java", "jdbc-compact"})
+    public String store;
+
+    private SessionRepository<Session> repository;
+    private String sessionId;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        if ("memory".equals(store)) {
+            repository = (SessionRepository<Session>) (SessionRepository<?>)
+                    new MapSessionRepository(new ConcurrentHashMap<>());
+        } else {
+            DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                    "jdbc:h2:mem:session_" + store + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+            new ResourceDatabasePopulator(
+                    new ClassPathResource("org/springframework/session/jdbc/schema-h2.sql")).execute(dataSource);
+
+            JdbcIndexedSessionRepository jdbcRepository = new JdbcIndexedSessionRepository(
+                    new JdbcTemplate(dataSource),
+                    new TransactionTemplate(new DataSourceTransactionManager(dataSource)));
+            if ("jdbc-compact".equals(store)) {
+                jdbcRepository.setConversionService(
+                        SessionAttributeCodec.conversionService(getClass().getClassLoader()));
+            }
+            repository = (SessionRepository<Session>) (SessionRepository<?>) jdbcRepository;
+        }
+
+        Session session = repository.createSession();
+        session.setAttribute("sessionUser", SESSION_USER);
+        repository.save(session);
+        sessionId = session.getId();
+
+        byte[] javaBytes = new SerializingConverter().convert(SESSION_USER);
+        byte[] compactBytes = new SessionAttributeCodec(getClass().getClassLoader()).encode(SESSION_USER);
+        System.out.println("sessionUser 직렬화 크기 - java: " + javaBytes.length + " bytes, compact: "
+                + compactBytes.length + " bytes");
+    }
+
+    @Benchmark
+    public Object request() {
+        Session session = repository.findById(sessionId);
+        session.setLastAccessedTime(Instant.now());
+        Object sessionUser = session.getAttribute("sessionUser");
+        repository.save(session);
+        return sessionUser;
+    }
+
+    @Benchmark
+    public String login() {
+        Session session = repository.createSession();
+        session.setAttribute("sessionUser", SESSION_USER);
+        repository.save(session);
+        repository.deleteById(session.getId());
+        return session.getId();
+    }
+}
@@ -0,0 +1,148 @@
+package org.example.demo_ssr_v1._core.storage;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.catalina.Context;
+import org.apache.catalina.LifecycleException;
+import org.apache.catalina.startup.Tomcat;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이미지 1건 응답 처리량 (요청/초) - 실제 톰캣(NIO) + HTTP 클라이언트
+ * - resourceHandler : 기존 방식 (WebMvcConfig 의 ResourceHttpRequestHandler, 1년 캐시 설정)
+ * - fileSender      : ImageController 방식 (FileSender - 48KB 이상은 sendfile)
+ * - *Revalidate     : 브라우저 캐시 재검증 (resourceHandler: If-Modified-Since / fileSender: If-None-Match -> 304)
+ *
+ * 파일 크기: 8k(작은 축소본) / 64k(medium 축소본) / 2m(저장소 도입 전 원본)
+ * 같은 JVM 에서 클라이언트와 서버가 CPU 를 나눠 쓰므로 절대값보다 두 방식의 차이를 비교
+ *
+ * ./gradlew jmh -Pjmh.includes=ImageServingBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+@Threads(4)
+public class ImageServingBenchmark {
+
+    private static final String FILENAME = "image.jpg";
+
+    @Param({"8192", "65536", "2097152"})
+    public int fileSize;
+
+    private Path dir;
+    private Tomcat tomcat;
+    private HttpClient client;
+    private URI resourceUri;
+    private URI senderUri;
+    private String lastModified;
+    private String etag;
+
+    @Setup
+    public void setUp() throws Exception {
+        dir = Files.createTempDirectory("image-bench-");
+        byte[] data = new byte[fileSize];
+        new Random(42).nextBytes(data);
+        Path file = Files.write(dir.resolve(FILENAME), data);
+        etag = "\"" + Integer.toHexString(fileSize) + "\"";
+
+        // 기존 방식: 리소스 핸들러를 DispatcherServlet 없이 그대로 사용 (핸들러 매핑이 넣어 주는 경로 속성만 설정)
+        ResourceHttpRequestHandler resourceHandler = new ResourceHttpRequestHandler();
+        resourceHandler.setLocations(List.of(new FileSystemResource(dir.toString() + "/")));
+        resourceHandler.setCacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable());
+        resourceHandler.afterPropertiesSet();
+
+        tomcat = new Tomcat();
+        tomcat.setBaseDir(dir.resolve("tomcat").toString());
+        tomcat.setPort(0);
+        tomcat.getConnector(); // 기본 커넥터(NIO) 생성
+        Context context = tomcat.addContext("", null);
+
+        Tomcat.addServlet(context, "resource", new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                request.setAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE, request.getPathInfo().substring(1));
+                try {
+                    resourceHandler.handleRequest(request, response);
+                } catch (jakarta.servlet.ServletException e) {
+                    throw new IOException(e);
+                }
+            }
+        });
+        context.addServletMappingDecoded("/resource/*", "resource");
+
+        Tomcat.addServlet(context, "sender", new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                FileSender.send(request, response, dir.resolve(request.getPathInfo().substring(1)),
+                        "image/jpeg", Integer.toHexString(fileSize), "public, max-age=31536000, immutable");
+            }
+        });
+        context.addServletMappingDecoded("/sender/*", "sender");
+
+        tomcat.start();
+        int port = tomcat.getConnector().getLocalPort();
+        resourceUri = URI.create("http://localhost:" + port + "/resource/" + FILENAME);
+        senderUri = URI.create("http://localhost:" + port + "/sender/" + FILENAME);
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        HttpResponse<Void> first = client.send(HttpRequest.newBuilder(resourceUri).build(), HttpResponse.BodyHandlers.discarding());
+        lastModified = first.headers().firstValue("Last-Modified").orElseThrow();
+        System.out.printf("%n파일 %,d byte (%s)%n", Files.size(file), file);
+    }
+
+    @TearDown
+    public void tearDown() throws LifecycleException, IOException {
+        tomcat.stop();
+        tomcat.destroy();
+        try (var paths = Files.walk(dir)) {
+            paths.sorted((a, b) -> b.compareTo(a)).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public int resourceHandler() throws Exception {
+        return get(HttpRequest.newBuilder(resourceUri).build(), 200);
+    }
+
+    @Benchmark
+    public int fileSender() throws Exception {
+        return get(HttpRequest.newBuilder(senderUri).build(), 200);
+    }
+
+    @Benchmark
+    public int resourceHandlerRevalidate() throws Exception {
+        return get(HttpRequest.newBuilder(resourceUri).header("If-Modified-Since", lastModified).build(), 304);
+    }
+
+    @Benchmark
+    public int fileSenderRevalidate() throws Exception {
+        return get(HttpRequest.newBuilder(senderUri).header("If-None-Match", etag).build(), 304);
+    }
+
+    private int get(HttpRequest request, int expectedStatus) throws Exception {
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != expectedStatus) {
+            throw new IllegalStateException("예상과 다른 응답: " + response.statusCode());
+        }
+        return response.body().length;
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.demo_ssr_v1._core.storage;
+
+import org.example.demo_ssr_v1._core.utils.ImageResizer;
+import org.openjdk.jmh.annotations.*;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업로드 이미지 1장당 축소본(medium 400px) 생성 처리량 (장/초)
+ * - resizeOnly       : 이미 디코딩 된 이미지를 줄이기만 (ImageResizer.resize)
+ * - fullDecode       : ImageIO.read 로 원본 전체 디코딩 -> 축소 -> JPEG (단순 구현)
+ * - subsampledDecode : ImageVariantPipeline 방식 (건너뛰며 디코딩 -> 축소 -> JPEG)
+ *
+ * 원본은 휴대폰 사진과 비슷하게 노이즈가 섞인 JPEG (압축이 잘 안 되는 최악에 가까운 조건)
+ * 작업자 스레드 수 x 장/초 = 서버 1대의 축소본 생성 처리량
+ *
+ * ./gradlew jmh -Pjmh.includes=ImageVariantBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class ImageVariantBenchmark {
+
+    // 원본 긴 변 (px) - 1024: 메신저 전송 사진, 4032: 휴대폰 카메라 원본 (약 12MP)
+    @Param({"1024", "4032"})
+    public int sourceSize;
+
+    private Path source;
+    private BufferedImage decoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        int width = sourceSize;
+        int height = sourceSize * 3 / 4;
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setPaint(new GradientPaint(0, 0, Color.ORANGE, width, height, Color.BLUE));
+        g.fillRect(0, 0, width, height);
+        g.dispose();
+        Random random = new Random(42);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int noise = random.nextInt(32) - 16;
+                int rgb = image.getRGB(x, y);
+                int r = clamp(((rgb >> 16) & 0xff) + noise);
+                int gr = clamp(((rgb >> 8) & 0xff) + noise);
+                int b = clamp((rgb & 0xff) + noise);
+                image.setRGB(x, y, (r << 16) | (gr << 8) | b);
+            }
+        }
+
+        source = Files.createTempFile("variant-bench-", ".jpg");
+        Files.write(source, ImageResizer.toJpeg(image, 0.92f));
+        decoded = ImageIO.read(source.toFile());
+        System.out.printf("%n원본 %dx%d, %,d byte%n", width, height, Files.size(source));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(source);
+    }
+
+    @Benchmark
+    public BufferedImage resizeOnly() {
+        return ImageResizer.resize(decoded, ImageVariant.MEDIUM.getMaxSize());
+    }
+
+    @Benchmark
+    public int fullDecode() throws IOException {
+        return encodeVariants(ImageIO.read(source.toFile()));
+    }
+
+    @Benchmark
+    public int subsampledDecode() throws IOException {
+        return encodeVariants(ImageVariantPipeline.decode(source, ImageVariant.MEDIUM.getMaxSize(), Long.MAX_VALUE));
+    }
+
+    private static int encodeVariants(BufferedImage image) throws IOException {
+        BufferedImage medium = ImageResizer.resize(image, ImageVariant.MEDIUM.getMaxSize());
+        return ImageResizer.toJpeg(medium, ImageVariant.MEDIUM.getQuality()).length;
+    }
+
+    private static int clamp(int value) {
+        return Math.max(0, Math.min(255, value));
+    }
+}
@@ -0,0 +1,50 @@
+package org.example.demo_ssr_v1._core.utils;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Timestamp;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 날짜 포맷 1건 비용 (목록 DTO 가 행마다 호출)
+ * - perCallFormatter: 기존 MyDateUtil - 호출마다 DateTimeFormatter.ofPattern
+ * - sharedFormatter : 상수 DateTimeFormatter 재사용
+ * - myDateUtil      : 현재 MyDateUtil.time (두 자리 숫자 표로 직접 채움)
+ *
+ * 할당량까지 보려면 gc 프로파일러 사용 (gc.alloc.rate.norm = 호출 1건당 할당 바이트)
+ * ./gradlew jmh -Pjmh.includes=MyDateUtilBenchmark -Pjmh.profilers=gc
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class MyDateUtilBenchmark {
+
+    private static final DateTimeFormatter SHARED = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private Timestamp timestamp;
+
+    @Setup
+    public void setUp() {
+        timestamp = Timestamp.valueOf("2025-03-07 09:05:03.123");
+    }
+
+    @Benchmark
+    public String perCallFormatter() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+        return timestamp.toLocalDateTime().format(formatter);
+    }
+
+    @Benchmark
+    public String sharedFormatter() {
+        return timestamp.toLocalDateTime().format(SHARED);
+    }
+
+    @Benchmark
+    public String myDateUtil() {
+        return MyDateUtil.time(timestamp);
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.demo_ssr_v1.board;
+
+import org.example.demo_ssr_v1.payment.Payment;
+import org.example.demo_ssr_v1.payment.PaymentResponse;
+import org.example.demo_ssr_v1.reply.Reply;
+import org.example.demo_ssr_v1.reply.ReplyResponse;
+import org.example.demo_ssr_v1.user.User;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 -> 응답 DTO 변환 비용 (요청 1건 기준)
+ * - boardPage   : 게시글 목록 PageDTO (ListDTO rows 개 + 페이지 링크)
+ * - boardDetail : 게시글 상세 DetailDTO
+ * - replies     : 댓글 목록 ReplyResponse.ListDTO rows 개
+ * - payments    : 결제 내역 PaymentResponse.ListDTO rows 개
+ *
+ * 변경 전후 비교는 이전 커밋에서 같은 명령으로 실행 (gc.alloc.rate.norm 으로 할당량 비교)
+ * ./gradlew jmh -Pjmh.includes=ResponseMappingBenchmark -Pjmh.profilers=gc
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class ResponseMappingBenchmark {
+
+    @Param({"3", "20"})
+    private int rows;
+
+    private PageImpl<Board> page;
+    private Board board;
+    private List<Reply> replies;
+    private List<Payment> payments;
+
+    @Setup
+    public void setUp() {
+        User user = User.builder().id(1L).username("ssar").build();
+        Timestamp createdAt = Timestamp.valueOf("2025-03-07 09:05:03");
+
+        List<Board> boards = new ArrayList<>();
+        replies = new ArrayList<>();
+        payments = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            Board row = Board.builder().title("제목 " + i).content("내용 " + i).user(user).build();
+            row.setId((long) i);
+            row.setCreatedAt(createdAt);
+            boards.add(row);
+
+            Reply reply = Reply.builder().comment("댓글 " + i).user(user).board(row).build();
+            reply.setId((long) i);
+            reply.setCreatedAt(createdAt);
+            replies.add(reply);
+
+            payments.add(Payment.builder().id((long) i).impUid("imp_" + i).merchantUid("merchant_" + i)
+                    .user(user).amount(1000).status("paid").timestamp(createdAt).build());
+        }
+        board = boards.get(0);
+        // 전체 100 페이지 중 5 페이지 (링크 3 4 [5] 6 7)
+        page = new PageImpl<>(boards, PageRequest.of(4, rows), rows * 100L);
+    }
+
+    @Benchmark
+    public BoardResponse.PageDTO boardPage() {
+        return new BoardResponse.PageDTO(page);
+    }
+
+    @Benchmark
+    public BoardResponse.DetailDTO boardDetail() {
+        return new BoardResponse.DetailDTO(board, false);
+    }
+
+    @Benchmark
+    public List<ReplyResponse.ListDTO> replies() {
+        return replies.stream().map(reply -> new ReplyResponse.ListDTO(reply, 1L)).toList();
+    }
+
+    @Benchmark
+    public List<PaymentResponse.ListDTO> payments() {
+        return payments.stream().map(payment -> new PaymentResponse.ListDTO(payment, null)).toList();
+    }
+}
@@ -0,0 +1,74 @@
+package org.example.demo_ssr_v1._core.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 작업별 전용 스레드 풀 설정
+ * - 작업마다 풀을 나눠서 한 작업이 밀려도 다른 작업(톰캣 요청 처리 등)에 영향이 없게 한다.
+ */
+@Configuration
+@EnableAsync
+public class ExecutorConfig {
+
+    /**
+     * 환불 일괄 처리 시 포트원 결제 취소 API 동시 호출용 풀
+     * - 스레드 수 = 동시 취소 요청 수 상한 (포트원 벌크헤드 한도보다 작게 설정)
+     * - 큐가 가득 차면 요청한 스레드(관리자 요청)가 직접 실행 -> 자연스럽게 속도가 조절됨
+     */
+    @Bean(name = "refundCancelExecutor", destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor refundCancelExecutor(
+            @Value("${refund.cancel-concurrency:8}") int concurrency) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(concurrency * 4);
+        executor.setThreadNamePrefix("refund-cancel-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 카카오 프로필 이미지 다운로드 / 리사이즈용 풀 (@Async("profileImageExecutor"))
+     * - 이미지 디코딩은 메모리를 많이 쓰므로 스레드 수를 작게 유지
+     * - 큐가 가득 차면 버림 -> 프로필은 카카오 URL 로 계속 보이고 다음 로그인 때 다시 시도됨
+     */
+    @Bean(name = "profileImageExecutor", destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor profileImageExecutor(
+            @Value("${profile-image.import.workers:2}") int workers,
+            @Value("${profile-image.import.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("profile-image-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 스트리밍 렌더링용 조회 풀 (DeferredFactory) - 요청 스레드가 헤더를 보내는 동안 게시글 / 댓글 조회
+     * - 조회 1건이 DB 커넥션 1개를 쓰므로 스레드 수는 커넥션 풀 크기보다 작게 유지
+     * - 큐가 가득 차면 요청 스레드가 직접 조회 -> 헤더를 먼저 보내지 못할 뿐 응답은 정상
+     */
+    @Bean(name = "streamingQueryExecutor", destroyMethod = "shutdown")
+    public ThreadPoolTaskExecutor streamingQueryExecutor(
+            @Value("${template.streaming.workers:8}") int workers,
+            @Value("${template.streaming.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("streaming-query-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
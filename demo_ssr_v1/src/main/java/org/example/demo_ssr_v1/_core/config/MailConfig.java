@@ -0,0 +1,29 @@
+package org.example.demo_ssr_v1._core.config;
+
+import org.example.demo_ssr_v1._core.mail.MailDispatcher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.mail.javamail.JavaMailSender;
+
+/**
+ * 메일 비동기 발송 설정
+ * - JavaMailSender(spring.mail.*) 는 스프링 부트 자동 설정 사용
+ */
+@Configuration
+public class MailConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public MailDispatcher mailDispatcher(
+            JavaMailSender javaMailSender,
+            @Value("${mail.dispatch.workers:2}") int workers,
+            @Value("${mail.dispatch.batch-size:20}") int batchSize,
+            @Value("${mail.dispatch.queue-capacity:1000}") int queueCapacity,
+            @Value("${mail.dispatch.max-attempts:4}") int maxAttempts,
+            @Value("${mail.dispatch.retry-base-delay-ms:1000}") long retryBaseDelayMs,
+            @Value("${mail.dispatch.retry-max-delay-ms:60000}") long retryMaxDelayMs,
+            @Value("${mail.dispatch.status-ttl-ms:600000}") long statusTtlMs) {
+        return new MailDispatcher(javaMailSender, workers, batchSize, queueCapacity,
+                maxAttempts, retryBaseDelayMs, retryMaxDelayMs, statusTtlMs);
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.demo_ssr_v1._core.config;
+
+import org.example.demo_ssr_v1._core.security.PasswordHashingService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 비밀번호 암호화 설정
+ * - cost factor(strength) 를 올리면 기존 사용자는 다음 로그인 때 새 cost 로 재해싱 된다.
+ */
+@Configuration
+public class PasswordConfig {
+
+    @Bean // IoC 처리 (즉 스프링 컨테이너에 싱글톤 패턴으로 객체가 메모리에 올라 간다)
+    public PasswordEncoder passwordEncoder(@Value("${password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public PasswordHashingService passwordHashingService(
+            PasswordEncoder passwordEncoder,
+            @Value("${password.hash-threads:0}") int threads,
+            @Value("${password.queue-capacity:64}") int queueCapacity,
+            @Value("${password.timeout-ms:3000}") long timeoutMs) {
+        return new PasswordHashingService(passwordEncoder, threads, queueCapacity, timeoutMs);
+    }
+}
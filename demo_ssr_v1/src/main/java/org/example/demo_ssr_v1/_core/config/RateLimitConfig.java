@@ -0,0 +1,21 @@
+package org.example.demo_ssr_v1._core.config;
+
+import org.example.demo_ssr_v1._core.ratelimit.RateLimitProperties;
+import org.example.demo_ssr_v1._core.ratelimit.RateLimiterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 로그인 / 회원가입 / 메일 발송 / 결제 API 요청 수 제한 설정
+ * - 인터셉터 등록은 WebMvcConfig 에서 규칙마다 처리
+ */
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+
+    @Bean
+    public RateLimiterRegistry rateLimiterRegistry(RateLimitProperties rateLimitProperties) {
+        return new RateLimiterRegistry(rateLimitProperties);
+    }
+}
@@ -0,0 +1,20 @@
+package org.example.demo_ssr_v1._core.config;
+
+import org.example.demo_ssr_v1._core.resilience.ResilienceProperties;
+import org.example.demo_ssr_v1._core.resilience.UpstreamGuardRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 외부 서버 (포트원, 카카오) 호출 장애 격리 설정
+ */
+@Configuration
+@EnableConfigurationProperties(ResilienceProperties.class)
+public class ResilienceConfig {
+
+    @Bean
+    public UpstreamGuardRegistry upstreamGuardRegistry(ResilienceProperties resilienceProperties) {
+        return new UpstreamGuardRegistry(resilienceProperties);
+    }
+}
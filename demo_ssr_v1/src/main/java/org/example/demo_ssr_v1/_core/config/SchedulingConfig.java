@@ -0,0 +1,12 @@
+package org.example.demo_ssr_v1._core.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * @Scheduled 작업 활성화 (대시보드 통계 야간 재집계 등)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
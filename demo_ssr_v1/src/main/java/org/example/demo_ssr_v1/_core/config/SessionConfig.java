@@ -0,0 +1,26 @@
+package org.example.demo_ssr_v1._core.config;
+
+import org.example.demo_ssr_v1._core.session.SessionAttributeCodec;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.convert.ConversionService;
+
+/**
+ * 공유 세션 저장소 설정 (session-jdbc 프로필)
+ *
+ * 기본값은 톰캣 메모리 세션 (application.yml 에서 SessionAutoConfiguration 제외)
+ * 서버를 여러 대 띄우거나 재시작 후에도 로그인을 유지해야 하면 session-jdbc 프로필을 추가한다.
+ *   SPRING_PROFILES_ACTIVE=prod,session-jdbc
+ * -> 기존 DataSource(H2 / MySQL) 의 SPRING_SESSION 테이블에 세션 저장 (application-session-jdbc.yml 참고)
+ */
+@Configuration
+@Profile("session-jdbc")
+public class SessionConfig {
+
+    // Spring Session 은 이 이름의 빈이 있으면 세션 속성 직렬화에 사용한다.
+    @Bean
+    public ConversionService springSessionConversionService() {
+        return SessionAttributeCodec.conversionService(getClass().getClassLoader());
+    }
+}
@@ -0,0 +1,83 @@
+package org.example.demo_ssr_v1._core.config;
+
+import org.example.demo_ssr_v1._core.storage.BlobStore;
+import org.example.demo_ssr_v1._core.storage.ContentAddressedStorage;
+import org.example.demo_ssr_v1._core.storage.ImageVariantPipeline;
+import org.example.demo_ssr_v1._core.storage.LocalBlobStore;
+import org.example.demo_ssr_v1._core.storage.S3BlobStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.urlconnection.UrlConnectionHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Paths;
+
+/**
+ * 업로드 파일 저장소 설정
+ * - storage.backend: local (기본, storage.root 폴더) / s3 (S3 호환 저장소 - 서버 여러 대가 같은 버킷 공유)
+ * - 업로드 이미지 축소본 생성 작업자 (storage.image-variant.*)
+ * - 고아 파일 정리는 OrphanBlobCollector (storage.gc.*)
+ */
+@Configuration
+public class StorageConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "storage.backend", havingValue = "local", matchIfMissing = true)
+    public BlobStore localBlobStore(@Value("${storage.root:D:/uploads/}") String root) {
+        return new LocalBlobStore(Paths.get(root));
+    }
+
+    /**
+     * MinIO 등은 endpoint 를 지정하고 path-style-access: true (버킷 이름을 도메인이 아니라 경로에 넣음)
+     * access-key 를 비워 두면 AWS 기본 인증 체인 (환경 변수, 인스턴스 역할 등) 사용
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "storage.backend", havingValue = "s3")
+    public BlobStore s3BlobStore(
+            @Value("${storage.s3.endpoint:}") String endpoint,
+            @Value("${storage.s3.region:ap-northeast-2}") String region,
+            @Value("${storage.s3.bucket}") String bucket,
+            @Value("${storage.s3.access-key:}") String accessKey,
+            @Value("${storage.s3.secret-key:}") String secretKey,
+            @Value("${storage.s3.path-style-access:false}") boolean pathStyleAccess) throws IOException {
+        S3ClientBuilder builder = S3Client.builder()
+                .region(Region.of(region))
+                .httpClientBuilder(UrlConnectionHttpClient.builder())
+                .forcePathStyle(pathStyleAccess);
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint));
+        }
+        if (!accessKey.isBlank()) {
+            builder.credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey)));
+        } else {
+            builder.credentialsProvider(DefaultCredentialsProvider.create());
+        }
+
+        S3BlobStore store = new S3BlobStore(builder.build(), bucket);
+        store.verifyBucket();
+        return store;
+    }
+
+    @Bean
+    public ContentAddressedStorage contentAddressedStorage(BlobStore blobStore) {
+        return new ContentAddressedStorage(blobStore);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ImageVariantPipeline imageVariantPipeline(
+            ContentAddressedStorage contentAddressedStorage,
+            @Value("${storage.image-variant.workers:2}") int workers,
+            @Value("${storage.image-variant.queue-capacity:100}") int queueCapacity,
+            @Value("${storage.image-variant.max-pixels:40000000}") long maxPixels) {
+        return new ImageVariantPipeline(contentAddressedStorage, workers, queueCapacity, maxPixels);
+    }
+}
@@ -0,0 +1,110 @@
+package org.example.demo_ssr_v1._core.config;
+
+import com.samskivert.mustache.Mustache;
+import org.example.demo_ssr_v1._core.template.DeferredCollector;
+import org.example.demo_ssr_v1._core.template.DeferredFactory;
+import org.example.demo_ssr_v1._core.template.FragmentCache;
+import org.example.demo_ssr_v1._core.template.MustacheTemplateRegistry;
+import org.example.demo_ssr_v1._core.template.PrecompiledMustacheView;
+import org.example.demo_ssr_v1._core.template.TemplateFileWatcher;
+import org.example.demo_ssr_v1.board.BoardResponse;
+import org.example.demo_ssr_v1.user.SessionUser;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.view.MustacheViewResolver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * Mustache 템플릿 미리 컴파일 설정
+ * - 시작 시 templates/ 전체 컴파일 + 워밍업 (빈 생성 중에 끝나므로 톰캣이 요청을 받기 전에 완료)
+ *   템플릿 문법 오류가 있으면 첫 요청이 아니라 기동 시점에 실패한다.
+ * - Spring Boot 가 만든 MustacheViewResolver 는 그대로 사용 (spring.mustache.* 설정 유지) 하고 뷰 클래스만 교체
+ * - 렌더링된 HTML 조각 캐시 (template.fragment-cache.*)
+ * - 스트리밍 렌더링 - 모델의 Deferred 값을 기다리기 전에 헤더부터 전송 (template.streaming.*)
+ * - dev 프로필: 템플릿 폴더 변경 감시 (template.watch.*)
+ */
+@Configuration
+public class TemplateConfig {
+
+    // 조각 캐시 영역 이름 (템플릿에서 {{#fragment.boardCard}} 형태로 사용)
+    public static final String BOARD_CARD = "boardCard";
+    public static final String HEADER = "header";
+
+    @Bean
+    public MustacheTemplateRegistry mustacheTemplateRegistry(
+            Mustache.Compiler mustacheCompiler,
+            @Value("${spring.mustache.prefix:classpath:/templates/}") String prefix,
+            @Value("${spring.mustache.suffix:.mustache}") String suffix,
+            @Value("${spring.mustache.charset:UTF-8}") String charset,
+            @Value("${template.streaming.timeout-ms:10000}") long streamingTimeoutMillis) throws IOException {
+        // Deferred 값은 템플릿이 읽을 때 조회 결과로 바꿔서 전달
+        Mustache.Compiler compiler = mustacheCompiler.withCollector(
+                new DeferredCollector(mustacheCompiler.collector, streamingTimeoutMillis));
+        MustacheTemplateRegistry registry = new MustacheTemplateRegistry(compiler, prefix, suffix, Charset.forName(charset));
+        registry.load(registry.readSources());
+        return registry;
+    }
+
+    /**
+     * - boardCard: board/list 의 게시글 카드 1개 - key 게시글 id, 버전 Board.version
+     * - header: layout/header 의 메뉴 부분 - key 로그인 여부 + 역할 (사용자 이름 표시는 캐시 밖에서 렌더링)
+     */
+    @Bean
+    public FragmentCache fragmentCache(
+            @Value("${template.fragment-cache.enabled:true}") boolean enabled,
+            @Value("${template.fragment-cache.max-entries:10000}") int maxEntries) {
+        FragmentCache cache = new FragmentCache(enabled, maxEntries);
+        cache.register(BOARD_CARD, context -> context instanceof BoardResponse.ListDTO board
+                ? new FragmentCache.FragmentKey(board.getId(), board.getVersion())
+                : null);
+        cache.register(HEADER, context -> {
+            if (!(context instanceof Map<?, ?> model)) {
+                return null;
+            }
+            Object sessionUser = model.get("sessionUser");
+            String key = sessionUser instanceof SessionUser user ? "user:" + user.getRoleDisplay() : "anonymous";
+            return new FragmentCache.FragmentKey(key, 0);
+        });
+        return cache;
+    }
+
+    @Bean
+    public DeferredFactory deferredFactory(
+            @Value("${template.streaming.enabled:true}") boolean enabled,
+            @Qualifier("streamingQueryExecutor") Executor streamingQueryExecutor) {
+        return new DeferredFactory(enabled, streamingQueryExecutor);
+    }
+
+    @Bean
+    public static BeanPostProcessor precompiledMustacheViewPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof MustacheViewResolver resolver) {
+                    resolver.setViewClass(PrecompiledMustacheView.class);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @Profile("dev")
+    public TemplateFileWatcher templateFileWatcher(
+            MustacheTemplateRegistry mustacheTemplateRegistry,
+            FragmentCache fragmentCache,
+            @Value("${template.watch.dir:src/main/resources/templates}") String dir,
+            @Value("${template.watch.debounce-ms:200}") long debounceMillis) {
+        // 템플릿이 바뀌면 캐시된 조각도 버림
+        return new TemplateFileWatcher(mustacheTemplateRegistry, Paths.get(dir), debounceMillis, fragmentCache::clear);
+    }
+}
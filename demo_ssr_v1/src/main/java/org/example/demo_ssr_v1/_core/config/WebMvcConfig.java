@@ -4,12 +4,11 @@ import lombok.RequiredArgsConstructor;
 import org.example.demo_ssr_v1._core.interceptor.AdminInterceptor;
 import org.example.demo_ssr_v1._core.interceptor.LoginInterceptor;
 import org.example.demo_ssr_v1._core.interceptor.SessionInterceptor;
-import org.springframework.context.annotation.Bean;
+import org.example.demo_ssr_v1._core.ratelimit.RateLimitInterceptor;
+import org.example.demo_ssr_v1._core.ratelimit.RateLimitProperties;
+import org.example.demo_ssr_v1._core.ratelimit.RateLimiterRegistry;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
-import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 /**
@@ -25,11 +24,21 @@ public class WebMvcConfig implements WebMvcConfigurer {
     private final LoginInterceptor loginInterceptor;
     private final SessionInterceptor sessionInterceptor;
     private final AdminInterceptor adminInterceptor;
+    private final RateLimiterRegistry rateLimiterRegistry;
 
     // ps. 인터셉터는 당연히 여러개 등록 가능 함
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
 
+        // 요청 수 제한은 가장 먼저 검사 (거절할 요청에 세션 생성 / 로그인 검사 / BCrypt 비용을 쓰지 않도록)
+        // 규칙마다 인터셉터 1개 -> 경로 매칭은 스프링이 처리
+        RateLimitProperties rateLimitProperties = rateLimiterRegistry.getProperties();
+        if (rateLimitProperties.isEnabled()) {
+            rateLimitProperties.getRules().forEach((name, rule) ->
+                    registry.addInterceptor(new RateLimitInterceptor(rateLimiterRegistry.get(name), rule))
+                            .addPathPatterns(rule.getPaths()));
+        }
+
         registry.addInterceptor(sessionInterceptor)
                 .addPathPatterns("/**");
 
@@ -41,7 +50,7 @@ public class WebMvcConfig implements WebMvcConfigurer {
         //  => 단, 특정 URL 은 제외 시킴
         registry.addInterceptor(loginInterceptor)
                 // /** <- 모든 URL 제외 대상이 됨, 일단 사용 안함
-                .addPathPatterns("/board/**", "/user/**", "/reply/**", "/admin/**")
+                .addPathPatterns("/board/**", "/user/**", "/reply/**", "/refund/**", "/admin/**")
                 .excludePathPatterns(
                         "/login",
                         "/join",
@@ -64,30 +73,5 @@ public class WebMvcConfig implements WebMvcConfigurer {
                 .addPathPatterns("/admin/**");
     }
 
-    /**
-     * 정적 리소스 핸들러
-     * 업로드된 이미지 파일을 웹에서 접근할 수 있도록 설정합니다.
-     */
-    @Override
-    public void addResourceHandlers(ResourceHandlerRegistry registry) {
-
-        /**
-         *  /image/** 경로로 요청이 들어오면 나의 폴더 images/ 디렉토리에서 찾게 설정합니다.
-         */
-        // 머스테치 이미지 태그에 src 경로에 /images/** 같은 경로로 설정 되어 있다면
-        // 스프링이 알아서 내 폴더 file:(프로젝트 루트 디렉토리)안에 images/ 폴더를 찾게 한다.
-        registry.addResourceHandler("/images/**")
-                .addResourceLocations("file:///D:/uploads/");
-
-        //** file:/// 문법 설명
-        // file: 파일 시스템을 가리킨다
-        // 파일 시스템에서 절대 경로를 의미하는 URI 표기법은 -> ///: 이다
-        // file:image/ -> 앞에 '/'가 없기 때문에 상대 경로를 의미한다.
-        // file:///D:uploads/ <-- 내 컴퓨터 절대 경로를 의미한다.
-    }
-
-    @Bean // IoC 처리 (즉 스프링 컨테이너에 싱글톤 패턴으로 객체가 메모리에 올라 간다)
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
+    // 업로드 이미지(/images/**)는 리소스 핸들러 대신 ImageController 가 응답 (ETag / 304 / Range / sendfile)
 }
@@ -0,0 +1,22 @@
+package org.example.demo_ssr_v1._core.errors;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 오류 종류별 발생 수 / 생략된 로그 수 조회 (관리자 전용 - AdminInterceptor 가 /admin/** 를 검사함)
+ */
+@RestController
+@RequiredArgsConstructor
+public class ErrorApiController {
+
+    private final ErrorReporter errorReporter;
+
+    // http://localhost:8080/admin/api/errors
+    @GetMapping("/admin/api/errors")
+    public ResponseEntity<?> errors() {
+        return ResponseEntity.ok().body(errorReporter.status());
+    }
+}
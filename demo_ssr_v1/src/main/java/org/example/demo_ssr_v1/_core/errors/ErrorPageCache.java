@@ -0,0 +1,65 @@
+package org.example.demo_ssr_v1._core.errors;
+
+import com.samskivert.mustache.Template;
+import lombok.RequiredArgsConstructor;
+import org.example.demo_ssr_v1._core.template.FragmentCache;
+import org.example.demo_ssr_v1._core.template.MustacheTemplateRegistry;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 오류 화면(err/*) 렌더링 결과 캐시
+ *
+ * 오류 화면은 예외 처리 경로에서 렌더링되므로 SessionInterceptor 가 실행되지 않아
+ * 로그인 여부와 관계없이 (템플릿, 메시지) 만으로 내용이 정해진다. -> 한 번 렌더링한 바이트를 그대로 응답
+ * - 메시지는 대부분 코드에 적힌 고정 문구 -> MAX_ENTRIES 를 넘으면 캐시하지 않고 렌더링만
+ * - 템플릿을 다시 불러오면 (개발 환경 자동 반영) 비움
+ */
+@Component
+@RequiredArgsConstructor
+public class ErrorPageCache {
+
+    private static final int MAX_ENTRIES = 256;
+    private static final MediaType TEXT_HTML_UTF8 = new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8);
+
+    private final MustacheTemplateRegistry mustacheTemplateRegistry;
+    private final FragmentCache fragmentCache;
+
+    private final Map<String, byte[]> pages = new ConcurrentHashMap<>();
+    private volatile long loadedAt;
+
+    public ResponseEntity<byte[]> page(HttpStatus status, String view, String msg) {
+        long templatesLoadedAt = mustacheTemplateRegistry.getLoadedAt();
+        if (templatesLoadedAt != loadedAt) {
+            pages.clear();
+            loadedAt = templatesLoadedAt;
+        }
+        String key = view + "\n" + (msg != null ? msg : "");
+        byte[] body = pages.get(key);
+        if (body == null) {
+            body = render(view, msg);
+            if (pages.size() < MAX_ENTRIES) {
+                pages.putIfAbsent(key, body);
+            }
+        }
+        return ResponseEntity.status(status).contentType(TEXT_HTML_UTF8).body(body);
+    }
+
+    private byte[] render(String view, String msg) {
+        Template template = mustacheTemplateRegistry.getByName(view);
+        if (template == null) {
+            return String.valueOf(msg).getBytes(StandardCharsets.UTF_8);
+        }
+        Map<String, Object> model = new HashMap<>();
+        model.put("msg", msg);
+        model.put("fragment", fragmentCache.lambdas());
+        return template.execute(model).getBytes(StandardCharsets.UTF_8);
+    }
+}
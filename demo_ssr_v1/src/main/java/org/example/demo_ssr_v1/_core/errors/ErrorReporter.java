@@ -0,0 +1,118 @@
+package org.example.demo_ssr_v1._core.errors;
+
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.example.demo_ssr_v1._core.errors.exception.StacklessException;
+import org.example.demo_ssr_v1._core.ratelimit.TokenBucketLimiter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 오류 응답 기록 - 종류별 발생 수 지표 + 제한된 로그
+ *
+ * 기존에는 오류 1건마다 WARN 4줄 -> 봇이 없는 게시글 / 잘못된 비밀번호를 반복하면 로그 쓰기가 정상 요청보다 비쌌다.
+ * - 종류(상태 코드 + 예외 클래스)별 토큰 버킷으로 로그 수 제한 (TokenBucketLimiter 재사용)
+ *   막힌 로그는 개수만 세었다가 다음에 남기는 로그에 "생략 N건" 으로 함께 출력
+ * - 발생 수는 모두 집계 (/admin/api/errors - 전체 / 최근 1분)
+ * - 예상하지 못한 5xx 만 스택 트레이스 출력 (StacklessException 은 스택이 없음)
+ */
+@Slf4j
+@Component
+public class ErrorReporter {
+
+    private static final long WINDOW_NANOS = 60_000_000_000L;
+
+    private final TokenBucketLimiter logLimiter;
+    private final Map<String, ErrorStats> stats = new ConcurrentHashMap<>();
+
+    public ErrorReporter(@Value("${error.log.capacity:5}") int capacity,
+                         @Value("${error.log.refill-per-minute:10}") double refillPerMinute) {
+        // 키 = 오류 종류 (수십 개 수준)
+        this.logLimiter = new TokenBucketLimiter("error-log", capacity, refillPerMinute, 1_000);
+    }
+
+    public void report(HttpStatus status, Throwable e, String uri) {
+        String key = status.value() + " " + e.getClass().getSimpleName();
+        ErrorStats errorStats = stats.computeIfAbsent(key, k -> new ErrorStats(status.value(), e.getClass().getSimpleName()));
+        long now = System.nanoTime();
+        errorStats.add(now);
+
+        if (logLimiter.tryAcquire(key, now) > 0) {
+            errorStats.suppressed.increment();
+            return;
+        }
+        long suppressed = errorStats.suppressed.sumThenReset();
+        if (status.is5xxServerError() && !(e instanceof StacklessException)) {
+            log.warn("=== {} === {} ({}) 생략 {}건", key, e.getMessage(), uri, suppressed, e);
+        } else {
+            log.warn("=== {} === {} ({}) 생략 {}건", key, e.getMessage(), uri, suppressed);
+        }
+    }
+
+    public List<StatusDTO> status() {
+        long now = System.nanoTime();
+        return stats.entrySet().stream()
+                .map(entry -> new StatusDTO(entry.getKey(), entry.getValue(), now))
+                .sorted(Comparator.comparingLong(StatusDTO::getTotal).reversed())
+                .toList();
+    }
+
+    private static class ErrorStats {
+        private final int status;
+        private final String exception;
+        private final LongAdder total = new LongAdder();
+        private final LongAdder suppressed = new LongAdder();
+        // 1분 단위 구간 - 구간이 바뀌면 현재 구간 수를 직전 구간으로 옮김
+        private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+        private final LongAdder currentWindow = new LongAdder();
+        private volatile long previousWindow;
+
+        ErrorStats(int status, String exception) {
+            this.status = status;
+            this.exception = exception;
+        }
+
+        void add(long now) {
+            roll(now);
+            total.increment();
+            currentWindow.increment();
+        }
+
+        void roll(long now) {
+            long start = windowStart.get();
+            if (now - start >= WINDOW_NANOS && windowStart.compareAndSet(start, now)) {
+                long count = currentWindow.sumThenReset();
+                // 구간이 끝나고 1분 넘게 아무 일도 없었으면 직전 1분은 0건
+                previousWindow = now - start >= WINDOW_NANOS * 2 ? 0 : count;
+            }
+        }
+    }
+
+    @Data
+    public static class StatusDTO {
+        private String key;
+        private int status;
+        private String exception;
+        private long total;
+        private long lastMinute; // 직전 1분 구간 발생 수
+        private long suppressedLogs; // 아직 출력하지 못한 로그 수
+
+        StatusDTO(String key, ErrorStats stats, long now) {
+            stats.roll(now);
+            this.key = key;
+            this.status = stats.status;
+            this.exception = stats.exception;
+            this.total = stats.total.sum();
+            this.lastMinute = stats.previousWindow;
+            this.suppressedLogs = stats.suppressed.sum();
+        }
+    }
+}
@@ -1,9 +1,10 @@
 package org.example.demo_ssr_v1._core.errors;
 
 import jakarta.servlet.http.HttpServletRequest;
-import lombok.extern.slf4j.Slf4j;
+import lombok.RequiredArgsConstructor;
 import org.example.demo_ssr_v1._core.errors.exception.*;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -12,20 +13,23 @@ import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseBody;
 
+import java.util.Map;
+
 // @ControllerAdvice - 모든 컨트롤러에서 발생하는 예외를 이 클래스에서 중앙 집중화 시킴
 // @RestControllerAdvice - @ControllerAdvice + @ResponseBody
+// 로그 / 발생 수 집계는 ErrorReporter (종류별로 로그 수 제한), 오류 화면은 ErrorPageCache (렌더링 결과 재사용)
 @ControllerAdvice
-@Slf4j
+@RequiredArgsConstructor
 public class MyExceptionHandler {
 
+    private final ErrorReporter errorReporter;
+    private final ErrorPageCache errorPageCache;
+
     // 내가 지켜볼 예외를 명시를 해주면 ControllerAdvice가 가지고와서 처리 함
     @ExceptionHandler(Exception400.class)
     @ResponseBody // 데이터로 반환으로 변경 처리
     public ResponseEntity<String> ex400(Exception400 e, HttpServletRequest request) {
-        log.warn("=== 400 에러 발생 ===");
-        log.warn("요청 URL : {}", request.getRequestURL());
-        log.warn("에러 메세지 : {}", e.getMessage());
-        log.warn("예외 클래스: {}", e.getClass().getSimpleName());
+        errorReporter.report(HttpStatus.BAD_REQUEST, e, request.getRequestURI());
 
         // 방어적 코드 추가
         String message = e.getMessage() != null ? e.getMessage() : "잘못된 요청입니다.";
@@ -41,6 +45,8 @@ public class MyExceptionHandler {
     @ExceptionHandler(Exception401.class)
     @ResponseBody
     public ResponseEntity<String> ex401(Exception401 e, HttpServletRequest request, Model model) {
+        errorReporter.report(HttpStatus.UNAUTHORIZED, e, request.getRequestURI());
+
         String script = "<script>" +
                 "alert('" + e.getMessage() + "');" +
                 "location.href = '/login';" +
@@ -52,6 +58,7 @@ public class MyExceptionHandler {
     @ExceptionHandler(Exception403.class)
     @ResponseBody
     public ResponseEntity<String> ex403(Exception403 e, HttpServletRequest request) {
+        errorReporter.report(HttpStatus.FORBIDDEN, e, request.getRequestURI());
 
         String script = "<script>alert('" + e.getMessage() + "');" +
                 "history.back();" +
@@ -63,83 +70,99 @@ public class MyExceptionHandler {
                 .body(script);
     }
 
-    // 템플릿 파일에서 세션 정보와 / Request 객체를 바로 접근 못하게 막았음 (기본값)
-    @ExceptionHandler(Exception404.class)
-    public String ex404(Exception404 e, HttpServletRequest request, Model model) {
-        log.warn("=== 404 에러 발생 ===");
-        log.warn("요청 URL : {}", request.getRequestURL());
-        log.warn("에러 메세지 : {}", e.getMessage());
-        log.warn("예외 클래스: {}", e.getClass().getSimpleName());
+    // 외부 서버 장애 (서킷 브레이커 OPEN, 동시 호출 한도 초과)
+    // 장애 중에는 같은 오류가 대량으로 발생 -> ErrorReporter 가 로그 수를 제한
+    @ExceptionHandler(Exception503.class)
+    @ResponseBody
+    public ResponseEntity<String> ex503(Exception503 e, HttpServletRequest request) {
+        errorReporter.report(HttpStatus.SERVICE_UNAVAILABLE, e, request.getRequestURI());
 
-//        request.setAttribute("msg", e.getMessage());
-        model.addAttribute("msg", e.getMessage());
+        String script = "<script>alert('" + e.getMessage() + "');" +
+                "history.back();" +
+                "</script>";
 
-        return "err/404";
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .contentType(MediaType.TEXT_HTML)
+                .body(script);
     }
 
-    // 500 서버 내부 오류
-    @ExceptionHandler(Exception500.class)
-    public String ex500(Exception500 e, HttpServletRequest request) {
-        log.warn("=== 500 에러 발생 ===");
-        log.warn("요청 URL : {}", request.getRequestURL());
-        log.warn("에러 메세지 : {}", e.getMessage());
-        log.warn("예외 클래스: {}", e.getClass().getSimpleName());
+    // 요청 수 제한 초과 (로그인 무차별 대입, 메일 발송 반복 등)
+    // 공격 중에는 거절이 대량으로 발생하므로 로그는 남기지 않고 지표(/admin/api/rate-limits)로 확인
+    @ExceptionHandler(Exception429.class)
+    @ResponseBody
+    public ResponseEntity<?> ex429(Exception429 e, HttpServletRequest request) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()));
+
+        // fetch 로 호출하는 API 는 JSON 으로 응답
+        if (request.getRequestURI().startsWith("/api/")) {
+            return builder.contentType(MediaType.APPLICATION_JSON).body(Map.of("message", e.getMessage()));
+        }
+
+        String script = "<script>alert('" + e.getMessage() + "');" +
+                "history.back();" +
+                "</script>";
 
-        request.setAttribute("msg", e.getMessage());
+        return builder.contentType(MediaType.TEXT_HTML).body(script);
+    }
 
-        return "err/500";
+    // 템플릿 파일에서 세션 정보와 / Request 객체를 바로 접근 못하게 막았음 (기본값)
+    // 오류 화면은 (템플릿, 메시지) 별로 한 번만 렌더링 - 없는 게시글을 반복 요청하는 봇 대응
+    @ExceptionHandler(Exception404.class)
+    @ResponseBody
+    public ResponseEntity<byte[]> ex404(Exception404 e, HttpServletRequest request) {
+        errorReporter.report(HttpStatus.NOT_FOUND, e, request.getRequestURI());
+        return errorPageCache.page(HttpStatus.NOT_FOUND, "err/404", e.getMessage());
+    }
+
+    // 500 서버 내부 오류
+    @ExceptionHandler(Exception500.class)
+    @ResponseBody
+    public ResponseEntity<byte[]> ex500(Exception500 e, HttpServletRequest request) {
+        errorReporter.report(HttpStatus.INTERNAL_SERVER_ERROR, e, request.getRequestURI());
+        return errorPageCache.page(HttpStatus.INTERNAL_SERVER_ERROR, "err/500", e.getMessage());
     }
 
     // 데이터베이스 제약조건 위반 예외 처리
     @ExceptionHandler(DataIntegrityViolationException.class)
-    public String handleDateViolationException(
+    @ResponseBody
+    public ResponseEntity<byte[]> handleDateViolationException(
             DataIntegrityViolationException e,
-            HttpServletRequest request,
-            Model model
+            HttpServletRequest request
     ) {
-        log.warn("=== 데이터베이스 제약조건 위반 오류 발생 ===");
-        log.warn("요청 URL : {}", request.getRequestURL());
-        log.warn("에러 메세지 : {}", e.getMessage());
-        log.warn("예외 클래스: {}", e.getClass().getSimpleName());
+        errorReporter.report(HttpStatus.INTERNAL_SERVER_ERROR, e, request.getRequestURI());
 
         // 제약 조건 위반인 경우
         String errorMessage = e.getMessage();
+        String msg;
         if (errorMessage != null && errorMessage.contains("FOREIGN KEY")) {
-            model.addAttribute("msg", "관련된 데이터가 있어 삭제할 수 없습니다,");
+            msg = "관련된 데이터가 있어 삭제할 수 없습니다,";
         } else {
-            model.addAttribute("msg", "데이터베이스 제약 조건 위반");
+            msg = "데이터베이스 제약 조건 위반";
         }
 
-        return "err/500";
+        return errorPageCache.page(HttpStatus.INTERNAL_SERVER_ERROR, "err/500", msg);
     }
 
     // 클래스 로딩 오류 처리 (NoClassDefFoundException, ClassNotFoundException 등)
     @ExceptionHandler(Error.class)
-    public String handleError(
+    @ResponseBody
+    public ResponseEntity<byte[]> handleError(
             Error e,
-            HttpServletRequest request,
-            Model model
+            HttpServletRequest request
     ) {
-        log.warn("=== 예상하지 못한 에러 발생 ===");
-        log.warn("요청 URL : {}", request.getRequestURL());
-        log.warn("에러 메세지 : {}", e.getMessage());
-        log.warn("예외 클래스: {}", e.getClass().getSimpleName());
-
-        model.addAttribute("msg", "심각한 오류 발생(클래스를 찾을 수 없습니다)");
-
-        return "err/500";
+        errorReporter.report(HttpStatus.INTERNAL_SERVER_ERROR, e, request.getRequestURI());
+        return errorPageCache.page(HttpStatus.INTERNAL_SERVER_ERROR, "err/500", "심각한 오류 발생(클래스를 찾을 수 없습니다)");
     }
 
     // 기타 모든 실행 시점 오류 처리
+    // 예상하지 못한 예외 메시지는 화면에 보여 주지 않음 (내부 정보 노출 방지, 메시지별 캐시 항목이 늘어나지 않게)
     @ExceptionHandler(RuntimeException.class)
-    public String handleRuntimeException(RuntimeException e, HttpServletRequest request) {
-        log.warn("=== 예상하지 못한 에러 발생 ===");
-        log.warn("요청 URL : {}", request.getRequestURL());
-        log.warn("에러 메세지 : {}", e.getMessage());
-        log.warn("예외 클래스: {}", e.getClass().getSimpleName());
-
-        request.setAttribute("msg", e.getMessage());
-
-        return "err/500";
+    @ResponseBody
+    public ResponseEntity<byte[]> handleRuntimeException(RuntimeException e, HttpServletRequest request) {
+        errorReporter.report(HttpStatus.INTERNAL_SERVER_ERROR, e, request.getRequestURI());
+        return errorPageCache.page(HttpStatus.INTERNAL_SERVER_ERROR, "err/500", null);
     }
 }
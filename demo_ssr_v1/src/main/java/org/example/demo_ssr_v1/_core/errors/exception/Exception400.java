@@ -3,7 +3,7 @@ package org.example.demo_ssr_v1._core.errors.exception;
 /**
  * 400 Bad Request 커스텀 예외처리 클래스
  */
-public class Exception400 extends RuntimeException {
+public class Exception400 extends StacklessException {
     public Exception400(String msg) {
         super(msg);
     }
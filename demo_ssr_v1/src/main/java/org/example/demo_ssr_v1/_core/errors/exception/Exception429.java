@@ -0,0 +1,20 @@
+package org.example.demo_ssr_v1._core.errors.exception;
+
+/**
+ * 429 Too Many Requests 커스텀 예외처리 클래스
+ * - 요청 수 제한(RateLimitInterceptor)에 걸렸을 때 사용
+ */
+public class Exception429 extends StacklessException {
+
+    // 응답 Retry-After 헤더 값 (초)
+    private final long retryAfterSeconds;
+
+    public Exception429(String msg, long retryAfterSeconds) {
+        super(msg);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
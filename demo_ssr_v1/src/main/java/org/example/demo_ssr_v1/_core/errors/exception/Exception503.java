@@ -0,0 +1,11 @@
+package org.example.demo_ssr_v1._core.errors.exception;
+
+/**
+ * 503 Service Unavailable 커스텀 예외처리 클래스
+ * - 외부 서버(포트원, 카카오) 장애로 요청을 바로 거절 할 때 사용
+ */
+public class Exception503 extends StacklessException {
+    public Exception503(String msg) {
+        super(msg);
+    }
+}
@@ -0,0 +1,16 @@
+package org.example.demo_ssr_v1._core.errors.exception;
+
+/**
+ * 예상된 업무 오류 예외의 부모 클래스 - 스택 트레이스를 만들지 않음 (fillInStackTrace 생략)
+ *
+ * 게시글 없음, 권한 없음, 입력값 오류, 요청 수 초과처럼 정상 흐름에서 자주 발생하고
+ * MyExceptionHandler 는 메시지만 사용하므로 스택 트레이스는 비용만 든다.
+ * (예외 생성 비용의 대부분이 호출 깊이만큼의 스택 수집 - 봇 트래픽에서는 정상 요청보다 비싸짐)
+ * 원인을 추적해야 하는 오류는 Exception500 처럼 RuntimeException 을 그대로 상속
+ */
+public abstract class StacklessException extends RuntimeException {
+
+    protected StacklessException(String msg) {
+        super(msg, null, false, false);
+    }
+}
@@ -5,7 +5,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import org.example.demo_ssr_v1._core.errors.exception.Exception401;
 import org.example.demo_ssr_v1._core.errors.exception.Exception403;
-import org.example.demo_ssr_v1.user.User;
+import org.example.demo_ssr_v1.user.SessionUser;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
@@ -17,7 +17,7 @@ public class AdminInterceptor implements HandlerInterceptor {
         // 컨트롤러 들어가기 전에 조회 먼저 해야 함
         // 먼저 로그인이 되어 진 후 확인을 해야 한다.(로그인 인터셉터 동작 하고 있음)
         HttpSession session = request.getSession();
-        User sessionUser = (User) session.getAttribute("sessionUser");
+        SessionUser sessionUser = (SessionUser) session.getAttribute("sessionUser");
 
         // 1. 로그인 체크는 loginInterceptor가 이미 했으므로 생략 가능하지만
         // 안전상에 이유로 한 번더 체크
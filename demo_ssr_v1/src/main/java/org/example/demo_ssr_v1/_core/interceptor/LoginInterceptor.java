@@ -4,7 +4,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
 import org.example.demo_ssr_v1._core.errors.exception.Exception401;
-import org.example.demo_ssr_v1.user.User;
+import org.example.demo_ssr_v1.user.SessionUser;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 import org.springframework.web.servlet.ModelAndView;
@@ -33,7 +33,7 @@ public class LoginInterceptor implements HandlerInterceptor {
 
         // 요청 객체에서 사용자 정보인 세션 정보가 있는지 없는지 확인
         HttpSession session = request.getSession();
-        User sessionUser = (User) session.getAttribute("sessionUser");
+        SessionUser sessionUser = (SessionUser) session.getAttribute("sessionUser");
         if (sessionUser == null) {
             throw new Exception401("로그인을 먼저 진행해야합니다.");
         }
@@ -3,7 +3,7 @@ package org.example.demo_ssr_v1._core.interceptor;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpSession;
-import org.example.demo_ssr_v1.user.User;
+import org.example.demo_ssr_v1.user.SessionUser;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 import org.springframework.web.servlet.ModelAndView;
@@ -26,7 +26,7 @@ public class SessionInterceptor implements HandlerInterceptor {
             HttpSession session = request.getSession(false);
 
             if (session != null) {
-                User sessionUser = (User) session.getAttribute("sessionUser");
+                SessionUser sessionUser = (SessionUser) session.getAttribute("sessionUser");
                 // 머스테치 파일 렌더링 되기 전에 데이터를 중간에 개입해서 내려 줌
                 modelAndView.addObject("sessionUser", sessionUser);
             }
@@ -0,0 +1,22 @@
+package org.example.demo_ssr_v1._core.mail;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 메일 발송 지표 조회 (관리자 전용 - AdminInterceptor 가 /admin/** 를 검사함)
+ */
+@RestController
+@RequiredArgsConstructor
+public class MailApiController {
+
+    private final MailDispatcher mailDispatcher;
+
+    // http://localhost:8080/admin/api/mail
+    @GetMapping("/admin/api/mail")
+    public ResponseEntity<?> mailStats() {
+        return ResponseEntity.ok().body(mailDispatcher.stats());
+    }
+}
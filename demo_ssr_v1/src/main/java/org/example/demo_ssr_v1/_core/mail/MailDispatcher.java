@@ -0,0 +1,287 @@
+package org.example.demo_ssr_v1._core.mail;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.example.demo_ssr_v1._core.errors.exception.Exception503;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 메일 비동기 발송기
+ *
+ * SMTP 는 연결 + TLS 협상 + 인증만 수백 ms ~ 수 초가 걸리므로 요청 스레드에서 바로 보내면
+ * 그 시간 동안 응답이 지연된다. -> 대기열에 넣고 바로 반환, 발송은 전용 워커 스레드가 처리
+ *
+ * 1. 워커는 발송 가능한 메일을 batchSize 개까지 모아서 send(MimeMessage...) 한 번으로 보낸다.
+ *    (JavaMailSenderImpl 은 배열로 넘긴 메일을 SMTP 연결 하나로 연속 발송 -> 연결 / 인증 비용을 묶음 단위로 1번만 냄)
+ * 2. 실패한 메일만 지수 백오프 + 지터 후 재시도 (DelayQueue - 대기 시간이 지난 메일만 꺼내짐)
+ * 3. 메일마다 발송 상태(QUEUED -> SENDING -> SENT / RETRYING / FAILED)를 statusTtlMs 동안 보관
+ * 4. 대기열이 가득 차면 Exception503 (메일 서버 장애 시 메모리가 계속 늘지 않도록)
+ */
+@Slf4j
+public class MailDispatcher {
+
+    public enum Status { QUEUED, SENDING, RETRYING, SENT, FAILED }
+
+    private final JavaMailSender mailSender;
+    private final int batchSize;
+    private final int queueCapacity;
+    private final int maxAttempts;
+    private final long retryBaseDelayMs;
+    private final long retryMaxDelayMs;
+    private final long statusTtlMs;
+
+    private final DelayQueue<MailTask> queue = new DelayQueue<>();
+    // DelayQueue 는 크기 제한이 없으므로 대기 중인 메일 수를 따로 센다 (재시도 대기 포함)
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Map<Long, MailTask> deliveries = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running = true;
+
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+
+    public MailDispatcher(JavaMailSender mailSender, int workerCount, int batchSize, int queueCapacity,
+                          int maxAttempts, long retryBaseDelayMs, long retryMaxDelayMs, long statusTtlMs) {
+        this.mailSender = mailSender;
+        this.batchSize = Math.max(1, batchSize);
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBaseDelayMs = retryBaseDelayMs;
+        this.retryMaxDelayMs = retryMaxDelayMs;
+        this.statusTtlMs = statusTtlMs;
+
+        for (int i = 1; i <= Math.max(1, workerCount); i++) {
+            Thread worker = new Thread(this::workLoop, "mail-sender-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    /**
+     * 메일 발송 요청 (대기열에 넣고 바로 반환)
+     * @return 발송 상태 조회용 번호
+     * @throws Exception503 대기열이 가득 찬 경우
+     */
+    public long enqueue(String to, String subject, String html) {
+        if (pending.incrementAndGet() > queueCapacity) {
+            pending.decrementAndGet();
+            rejected.increment();
+            throw new Exception503("메일 발송 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        MailTask task = new MailTask(sequence.incrementAndGet(), to, subject, html);
+        deliveries.put(task.id, task);
+        queue.put(task);
+        return task.id;
+    }
+
+    public Optional<DeliveryDTO> delivery(long id) {
+        MailTask task = deliveries.get(id);
+        return task == null ? Optional.empty() : Optional.of(new DeliveryDTO(task));
+    }
+
+    public StatsDTO stats() {
+        return new StatsDTO(this);
+    }
+
+    private void workLoop() {
+        List<MailTask> batch = new ArrayList<>(batchSize);
+        // 종료 요청 후에도 이미 발송 가능한 메일은 마저 보낸다.
+        while (running || queue.peek() != null && queue.peek().getDelay(TimeUnit.NANOSECONDS) <= 0) {
+            try {
+                MailTask first = queue.poll(500, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                sendBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("메일 발송 워커 오류", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    void sendBatch(List<MailTask> batch) {
+        batches.increment();
+        List<MimeMessage> messages = new ArrayList<>(batch.size());
+        Map<MimeMessage, MailTask> taskByMessage = new IdentityHashMap<>();
+        for (MailTask task : batch) {
+            task.status = Status.SENDING;
+            task.attempts++;
+            try {
+                MimeMessage message = toMimeMessage(task);
+                messages.add(message);
+                taskByMessage.put(message, task);
+            } catch (MessagingException e) {
+                // 주소 형식 오류 등은 재시도해도 결과가 같으므로 바로 실패 처리
+                fail(task, e);
+            }
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        try {
+            mailSender.send(messages.toArray(new MimeMessage[0]));
+            taskByMessage.values().forEach(this::succeed);
+        } catch (MailSendException e) {
+            // 연결 실패면 전체, 수신자 거부 등이면 해당 메일만 getFailedMessages 에 들어 있음
+            Map<Object, Exception> failedMessages = e.getFailedMessages();
+            taskByMessage.forEach((message, task) -> {
+                if (failedMessages.isEmpty() || failedMessages.containsKey(message)) {
+                    retryOrFail(task, failedMessages.getOrDefault(message, e));
+                } else {
+                    succeed(task);
+                }
+            });
+        } catch (MailException e) {
+            taskByMessage.values().forEach(task -> retryOrFail(task, e));
+        }
+    }
+
+    private MimeMessage toMimeMessage(MailTask task) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, false, "UTF-8");
+        helper.setTo(task.to);
+        helper.setSubject(task.subject);
+        helper.setText(task.html, true);
+        return message;
+    }
+
+    private void succeed(MailTask task) {
+        task.status = Status.SENT;
+        task.finishedAt = System.currentTimeMillis();
+        pending.decrementAndGet();
+        sent.increment();
+    }
+
+    private void retryOrFail(MailTask task, Exception e) {
+        if (task.attempts >= maxAttempts || !running) {
+            fail(task, e);
+            return;
+        }
+        task.status = Status.RETRYING;
+        task.lastError = e.getMessage();
+        task.readyAtNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(backoffMs(task.attempts));
+        retried.increment();
+        queue.put(task);
+    }
+
+    private void fail(MailTask task, Exception e) {
+        task.status = Status.FAILED;
+        task.lastError = e.getMessage();
+        task.finishedAt = System.currentTimeMillis();
+        pending.decrementAndGet();
+        failed.increment();
+        log.warn("메일 발송 실패 - id: {}, 시도: {}회, 원인: {}", task.id, task.attempts, e.getMessage());
+    }
+
+    // 지수 백오프 + 지터 (base * 2^(n-1) 을 상한으로 자른 뒤 절반 ~ 전체 사이 랜덤)
+    long backoffMs(int attempt) {
+        long exp = retryBaseDelayMs << Math.min(attempt - 1, 20);
+        long capped = Math.min(retryMaxDelayMs, exp);
+        return capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1);
+    }
+
+    // 발송이 끝난 메일의 상태 정보 정리
+    @Scheduled(fixedDelayString = "${mail.dispatch.status-ttl-ms:600000}")
+    public void purgeFinished() {
+        long threshold = System.currentTimeMillis() - statusTtlMs;
+        deliveries.values().removeIf(task -> task.finishedAt != 0 && task.finishedAt < threshold);
+    }
+
+    public void shutdown() throws InterruptedException {
+        running = false;
+        for (Thread worker : workers) {
+            worker.join(5_000);
+            worker.interrupt();
+        }
+    }
+
+    static class MailTask implements Delayed {
+        private final long id;
+        private final String to;
+        private final String subject;
+        private final String html;
+        private volatile long readyAtNanos = System.nanoTime();
+        private volatile Status status = Status.QUEUED;
+        private volatile int attempts;
+        private volatile String lastError;
+        private volatile long finishedAt;
+
+        MailTask(long id, String to, String subject, String html) {
+            this.id = id;
+            this.to = to;
+            this.subject = subject;
+            this.html = html;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(readyAtNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(readyAtNanos, ((MailTask) other).readyAtNanos);
+        }
+    }
+
+    // 메일 한 건의 발송 상태 (수신 주소는 포함하지 않음)
+    @Data
+    public static class DeliveryDTO {
+        private long id;
+        private String status;
+        private int attempts;
+        private String lastError;
+
+        public DeliveryDTO(MailTask task) {
+            this.id = task.id;
+            this.status = task.status.name();
+            this.attempts = task.attempts;
+            this.lastError = task.lastError;
+        }
+    }
+
+    // 관리자 화면 / 모니터링 용 지표
+    @Data
+    public static class StatsDTO {
+        private int pending;
+        private long sent;
+        private long failed;
+        private long retried;
+        private long rejected;
+        private long batches;
+
+        public StatsDTO(MailDispatcher dispatcher) {
+            this.pending = dispatcher.pending.get();
+            this.sent = dispatcher.sent.sum();
+            this.failed = dispatcher.failed.sum();
+            this.retried = dispatcher.retried.sum();
+            this.rejected = dispatcher.rejected.sum();
+            this.batches = dispatcher.batches.sum();
+        }
+    }
+}
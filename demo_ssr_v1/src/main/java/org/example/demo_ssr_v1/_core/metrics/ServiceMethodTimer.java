@@ -0,0 +1,63 @@
+package org.example.demo_ssr_v1._core.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @Service 클래스의 public 메서드 실행 시간 지표 (service.method)
+ * - 태그: class (BoardService), method (게시글목록조회), exception (none / 예외 클래스 이름)
+ * - 트랜잭션 바깥에서 측정 (커넥션 대기 + 커밋 시간 포함) -> HIGHEST_PRECEDENCE
+ * - 컨트롤러 경로별 시간은 스프링 기본 지표 http.server.requests (uri 태그) 사용
+ *
+ * Prometheus 예: 최근 5분 총 소요 시간이 큰 순서 (= 가장 뜨거운 경로)
+ * topk(10, sum by (class, method) (rate(service_method_seconds_sum[5m])))
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ServiceMethodTimer {
+
+    public static final String METRIC = "service.method";
+
+    private final MeterRegistry meterRegistry;
+    // 정상 종료 타이머는 메서드마다 1개 -> 호출마다 태그 / Meter.Id 를 만들지 않도록 보관
+    private final Map<Method, Timer> timers = new ConcurrentHashMap<>();
+
+    @Around("within(@org.springframework.stereotype.Service *) && execution(public * *(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        long start = System.nanoTime();
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        try {
+            Object result = joinPoint.proceed();
+            timers.computeIfAbsent(method, m -> timer(joinPoint, "none"))
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            timer(joinPoint, e.getClass().getSimpleName())
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private Timer timer(ProceedingJoinPoint joinPoint, String exception) {
+        return Timer.builder(METRIC)
+                .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                .tag("method", joinPoint.getSignature().getName())
+                .tag("exception", exception)
+                .register(meterRegistry);
+    }
+}
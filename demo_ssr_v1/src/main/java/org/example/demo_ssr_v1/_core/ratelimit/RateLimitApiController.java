@@ -0,0 +1,27 @@
+package org.example.demo_ssr_v1._core.ratelimit;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 규칙별 요청 수 제한 지표 조회 (관리자 전용 - AdminInterceptor 가 /admin/** 를 검사함)
+ */
+@RestController
+@RequiredArgsConstructor
+public class RateLimitApiController {
+
+    private final RateLimiterRegistry rateLimiterRegistry;
+
+    // http://localhost:8080/admin/api/rate-limits
+    @GetMapping("/admin/api/rate-limits")
+    public ResponseEntity<?> rateLimits() {
+        List<TokenBucketLimiter.StatusDTO> statusList = rateLimiterRegistry.getAll().stream()
+                .map(TokenBucketLimiter::status)
+                .toList();
+        return ResponseEntity.ok().body(statusList);
+    }
+}
@@ -0,0 +1,73 @@
+package org.example.demo_ssr_v1._core.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.example.demo_ssr_v1._core.errors.exception.Exception429;
+import org.example.demo_ssr_v1.user.SessionUser;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 수 제한 인터셉터 (규칙 하나당 1개, 경로 매칭은 WebMvcConfig 의 addPathPatterns 가 처리)
+ *
+ * 세션 / 로그인 인터셉터보다 먼저 등록 -> 거절되는 요청은 세션을 만들거나 BCrypt 를 돌리지 않는다.
+ */
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final TokenBucketLimiter limiter;
+    private final RateLimitProperties.KeyType keyType;
+    private final List<String> methods;
+
+    public RateLimitInterceptor(TokenBucketLimiter limiter, RateLimitProperties.Rule rule) {
+        this.limiter = limiter;
+        this.keyType = rule.getKey();
+        this.methods = rule.getMethods().stream().map(method -> method.toUpperCase(Locale.ROOT)).toList();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!methods.isEmpty() && !methods.contains(request.getMethod())) {
+            return true;
+        }
+        String key = resolveKey(request);
+        if (key == null) {
+            return true;
+        }
+
+        long waitNanos = limiter.tryAcquire(key, System.nanoTime());
+        if (waitNanos > 0) {
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+            throw new Exception429("요청이 너무 많습니다. " + retryAfterSeconds + "초 후 다시 시도해주세요.",
+                    retryAfterSeconds);
+        }
+        return true;
+    }
+
+    // 키를 만들 수 없으면 (username 파라미터 없음 등) 이 규칙은 적용하지 않음
+    private String resolveKey(HttpServletRequest request) {
+        switch (keyType) {
+            case USERNAME: {
+                String username = request.getParameter("username");
+                if (username == null || username.isBlank()) {
+                    return null;
+                }
+                return username.trim().toLowerCase(Locale.ROOT);
+            }
+            case SESSION_USER: {
+                HttpSession session = request.getSession(false);
+                SessionUser sessionUser = session == null ? null : (SessionUser) session.getAttribute("sessionUser");
+                if (sessionUser != null) {
+                    return "u:" + sessionUser.getId();
+                }
+                return request.getRemoteAddr();
+            }
+            default:
+                // 로드 밸런서 뒤에서는 server.forward-headers-strategy 설정 필요 (X-Forwarded-For 를 직접 믿지 않음)
+                return request.getRemoteAddr();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.demo_ssr_v1._core.ratelimit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 경로별 요청 수 제한 설정
+ *
+ * application.yml 예시
+ * rate-limit:
+ *   rules:
+ *     login-ip:
+ *       paths: [/login]
+ *       methods: [POST]
+ *       key: ip
+ *       capacity: 10
+ *       refill-per-minute: 10
+ */
+@Data
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // 다 찬 버킷(마지막 요청 후 충분히 시간이 지난 키) 정리 주기
+    private long evictIntervalMs = 60_000;
+
+    // 규칙 하나가 기억하는 최대 키 수 (임의의 username 을 대량으로 보내는 경우 메모리 보호)
+    private int maxKeys = 100_000;
+
+    // key: 규칙 이름 (지표 조회 시 표시)
+    private Map<String, Rule> rules = new LinkedHashMap<>();
+
+    @Data
+    public static class Rule {
+        // 적용할 URL 패턴 (인터셉터 addPathPatterns 와 같은 문법)
+        private List<String> paths = new ArrayList<>();
+        // 비어 있으면 모든 HTTP 메서드에 적용
+        private List<String> methods = new ArrayList<>();
+        // 버킷을 나누는 기준
+        private KeyType key = KeyType.IP;
+        // 버킷 크기 = 연속으로 허용할 수 있는 요청 수
+        private int capacity = 10;
+        // 1분 동안 다시 채워지는 요청 수
+        private double refillPerMinute = 10;
+    }
+
+    public enum KeyType {
+        IP,            // 클라이언트 IP (request.getRemoteAddr)
+        USERNAME,      // 폼 파라미터 username (로그인 시도 대상 계정 기준)
+        SESSION_USER   // 로그인 사용자 번호 (비로그인이면 IP)
+    }
+}
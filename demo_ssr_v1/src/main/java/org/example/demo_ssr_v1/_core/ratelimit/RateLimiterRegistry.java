@@ -0,0 +1,48 @@
+package org.example.demo_ssr_v1._core.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 규칙 이름별 TokenBucketLimiter 보관소 (설정(rate-limit.rules) 기준으로 시작 시점에 생성)
+ */
+@Slf4j
+public class RateLimiterRegistry {
+
+    private final RateLimitProperties properties;
+    private final Map<String, TokenBucketLimiter> limiters = new LinkedHashMap<>();
+
+    public RateLimiterRegistry(RateLimitProperties properties) {
+        this.properties = properties;
+        properties.getRules().forEach((name, rule) -> limiters.put(name,
+                new TokenBucketLimiter(name, rule.getCapacity(), rule.getRefillPerMinute(), properties.getMaxKeys())));
+    }
+
+    public RateLimitProperties getProperties() {
+        return properties;
+    }
+
+    public TokenBucketLimiter get(String name) {
+        return limiters.get(name);
+    }
+
+    public Collection<TokenBucketLimiter> getAll() {
+        return limiters.values();
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limit.evict-interval-ms:60000}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        int evicted = 0;
+        for (TokenBucketLimiter limiter : limiters.values()) {
+            evicted += limiter.evictIdle(now);
+        }
+        if (evicted > 0) {
+            log.debug("요청 수 제한 - 가득 찬 버킷 {}개 정리", evicted);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package org.example.demo_ssr_v1._core.ratelimit;
+
+import lombok.Data;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 키별 토큰 버킷 (규칙 하나당 1개)
+ *
+ * 락 없이 키마다 AtomicLong 하나로 버킷 상태를 표현한다 (GCRA - Generic Cell Rate Algorithm)
+ * - tat (theoretical arrival time): 버킷이 다시 가득 차는 시각 (nanoTime 기준)
+ * - 요청 1건 = tat 를 interval(토큰 1개가 채워지는 시간) 만큼 뒤로 미룸
+ * - 미룬 tat 가 현재 시각 + capacity * interval 을 넘으면 토큰이 없는 상태 -> 거절
+ * 요청 1건 비용 = ConcurrentHashMap 조회 1번 + CAS 1번 (토큰 수 / 마지막 충전 시각을 따로 갱신하지 않음)
+ *
+ * tat 가 현재 시각보다 과거인 키는 버킷이 가득 찬 상태라 지워도 결과가 같다 -> evictIdle 로 정리
+ *
+ * 키 수가 max-keys 에 닿으면 가득 찬 버킷을 먼저 정리하고, 그래도 자리가 없으면 새 키는 거절한다.
+ * (새 키를 그냥 통과시키면 임의의 아이디로 키를 채우는 것만으로 아이디별 제한이 모든 계정에서 꺼짐)
+ */
+public class TokenBucketLimiter {
+
+    private final String name;
+    private final int capacity;
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final int maxKeys;
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder overflow = new LongAdder();
+    // 키가 가득 찼을 때 정리는 1초에 한 번만 (요청마다 전체 키를 훑지 않게)
+    private final AtomicLong nextOverflowEvictAt = new AtomicLong(Long.MIN_VALUE);
+
+    public TokenBucketLimiter(String name, int capacity, double refillPerMinute, int maxKeys) {
+        if (capacity < 1 || refillPerMinute <= 0) {
+            throw new IllegalArgumentException("rate-limit." + name + " capacity / refill-per-minute 는 0 보다 커야 합니다");
+        }
+        this.name = name;
+        this.capacity = capacity;
+        this.intervalNanos = (long) (60_000_000_000L / refillPerMinute);
+        this.burstNanos = intervalNanos * capacity;
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * @return 0 이면 허용, 0 보다 크면 거절 (다음 토큰이 생길 때 까지 남은 시간, 나노초)
+     */
+    public long tryAcquire(String key, long now) {
+        AtomicLong tat = buckets.get(key);
+        if (tat == null) {
+            if (buckets.size() >= maxKeys && !evictForNewKey(now)) {
+                // 정리해도 자리가 없음 -> 새 키는 거절 (이미 있는 키는 평소대로 동작)
+                overflow.increment();
+                rejected.increment();
+                return intervalNanos;
+            }
+            AtomicLong created = new AtomicLong(now);
+            tat = buckets.putIfAbsent(key, created);
+            if (tat == null) {
+                tat = created;
+            }
+        }
+
+        while (true) {
+            long current = tat.get();
+            long next = Math.max(current, now) + intervalNanos;
+            long excess = next - now - burstNanos;
+            if (excess > 0) {
+                rejected.increment();
+                return excess;
+            }
+            if (tat.compareAndSet(current, next)) {
+                allowed.increment();
+                return 0;
+            }
+        }
+    }
+
+    // @return 새 키를 넣을 자리가 생겼으면 true
+    private boolean evictForNewKey(long now) {
+        long next = nextOverflowEvictAt.get();
+        if (now >= next && nextOverflowEvictAt.compareAndSet(next, now + 1_000_000_000L)) {
+            evictIdle(now);
+        }
+        return buckets.size() < maxKeys;
+    }
+
+    // 가득 찬 버킷 삭제 (정리 도중 같은 키로 들어온 요청은 새 버킷으로 시작 - 최대 토큰 1개 오차)
+    public int evictIdle(long now) {
+        int before = buckets.size();
+        buckets.values().removeIf(tat -> tat.get() <= now);
+        return before - buckets.size();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public StatusDTO status() {
+        return new StatusDTO(this);
+    }
+
+    // 관리자 화면 / 모니터링 용 상태 정보
+    @Data
+    public static class StatusDTO {
+        private String name;
+        private int capacity;
+        private double refillPerMinute;
+        private int activeKeys;
+        private long allowed;
+        private long rejected;
+        private long overflow; // 키가 가득 차서 거절한 새 키 요청 수 (rejected 에도 포함)
+
+        public StatusDTO(TokenBucketLimiter limiter) {
+            this.name = limiter.name;
+            this.capacity = limiter.capacity;
+            this.refillPerMinute = 60_000_000_000.0 / limiter.intervalNanos;
+            this.activeKeys = limiter.buckets.size();
+            this.allowed = limiter.allowed.sum();
+            this.rejected = limiter.rejected.sum();
+            this.overflow = limiter.overflow.sum();
+        }
+    }
+}
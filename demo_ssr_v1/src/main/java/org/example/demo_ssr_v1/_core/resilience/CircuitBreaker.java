@@ -0,0 +1,135 @@
+package org.example.demo_ssr_v1._core.resilience;
+
+/**
+ * 호출 수 기반 서킷 브레이커
+ *
+ * CLOSED    - 정상 상태, 최근 N번 호출의 실패율을 기록한다.
+ * OPEN      - 실패율이 기준을 넘으면 일정 시간 동안 외부 서버를 호출하지 않고 바로 실패 처리 (fail fast)
+ * HALF_OPEN - OPEN 시간이 지나면 몇 건만 시험 삼아 호출해보고 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ *
+ * 외부 HTTP 호출(수백 ms)에 비해 synchronized 비용은 무시할 수 있는 수준이라 단순하게 구현
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long openStateNanos;
+    private final int halfOpenMaxCalls;
+
+    // 최근 호출 결과 (true: 실패) - 링 버퍼
+    private final boolean[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+
+    // 상태 조회는 락 없이 읽을 수 있게 volatile
+    private volatile State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenInFlight;
+    private int halfOpenSuccesses;
+
+    public CircuitBreaker(ResilienceProperties.Upstream config) {
+        this.window = new boolean[Math.max(1, config.getSlidingWindowSize())];
+        this.minimumCalls = Math.max(1, config.getMinimumCalls());
+        this.failureRateThreshold = config.getFailureRateThreshold();
+        this.openStateNanos = config.getOpenStateMs() * 1_000_000L;
+        this.halfOpenMaxCalls = Math.max(1, config.getHalfOpenMaxCalls());
+    }
+
+    /**
+     * 호출 허용 여부
+     * @return false 이면 외부 서버를 호출하지 말고 바로 실패 처리 해야 한다.
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < openStateNanos) {
+                return false;
+            }
+            // OPEN 시간이 지났으면 시험 호출 허용
+            state = State.HALF_OPEN;
+            halfOpenInFlight = 0;
+            halfOpenSuccesses = 0;
+        }
+
+        if (state == State.HALF_OPEN) {
+            if (halfOpenInFlight + halfOpenSuccesses >= halfOpenMaxCalls) {
+                return false;
+            }
+            halfOpenInFlight++;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            // OPEN 이전에 시작된 호출이 늦게 끝난 경우도 있으므로 음수 방지
+            if (halfOpenInFlight > 0) {
+                halfOpenInFlight--;
+            }
+            halfOpenSuccesses++;
+            if (halfOpenSuccesses >= halfOpenMaxCalls) {
+                // 외부 서버 복구 확인 -> 정상 상태로 전환
+                state = State.CLOSED;
+                resetWindow();
+            }
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            // 시험 호출 실패 -> 다시 OPEN
+            open();
+            return;
+        }
+        record(true);
+        if (windowCount >= minimumCalls
+                && windowFailures * 100 >= failureRateThreshold * windowCount) {
+            open();
+        }
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    // 현재 실패율(%) - 호출 기록이 없으면 0
+    public synchronized int getFailureRate() {
+        return windowCount == 0 ? 0 : windowFailures * 100 / windowCount;
+    }
+
+    private void record(boolean failure) {
+        if (windowCount == window.length) {
+            // 가장 오래된 기록을 덮어쓰기 전에 실패 카운트에서 빼준다.
+            if (window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = failure;
+        if (failure) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = System.nanoTime();
+        resetWindow();
+    }
+
+    private void resetWindow() {
+        windowIndex = 0;
+        windowCount = 0;
+        windowFailures = 0;
+    }
+}
@@ -0,0 +1,27 @@
+package org.example.demo_ssr_v1._core.resilience;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 외부 서버별 서킷 상태 / 지표 조회 (관리자 전용 - AdminInterceptor 가 /admin/** 를 검사함)
+ */
+@RestController
+@RequiredArgsConstructor
+public class ResilienceApiController {
+
+    private final UpstreamGuardRegistry upstreamGuardRegistry;
+
+    // http://localhost:8080/admin/api/upstreams
+    @GetMapping("/admin/api/upstreams")
+    public ResponseEntity<?> upstreams() {
+        List<UpstreamGuard.StatusDTO> statusList = upstreamGuardRegistry.getAll().stream()
+                .map(UpstreamGuard::status)
+                .toList();
+        return ResponseEntity.ok().body(statusList);
+    }
+}
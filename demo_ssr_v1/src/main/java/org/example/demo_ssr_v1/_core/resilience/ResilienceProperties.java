@@ -0,0 +1,49 @@
+package org.example.demo_ssr_v1._core.resilience;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 외부 서버(업스트림)별 장애 격리 설정
+ *
+ * application.yml 예시
+ * resilience:
+ *   upstreams:
+ *     portone:
+ *       max-concurrent-calls: 10
+ *       read-timeout-ms: 3000
+ */
+@Data
+@ConfigurationProperties(prefix = "resilience")
+public class ResilienceProperties {
+
+    // key: 업스트림 이름 (portone, kakao-auth, kakao-api, kakao-cdn)
+    private Map<String, Upstream> upstreams = new LinkedHashMap<>();
+
+    @Data
+    public static class Upstream {
+        // 타임아웃 - RestTemplate 기본값은 무한 대기라서 반드시 지정해야 한다.
+        private int connectTimeoutMs = 1000;
+        private int readTimeoutMs = 3000;
+
+        // 벌크헤드 - 동시에 외부 서버를 호출할 수 있는 요청 수 (톰캣 스레드 보호)
+        private int maxConcurrentCalls = 10;
+        // 자리가 날 때 까지 기다릴 최대 시간 (0 이면 바로 거절)
+        private long maxWaitMs = 0;
+
+        // 서킷 브레이커
+        private int slidingWindowSize = 20;     // 최근 N번 호출 기준으로 실패율 계산
+        private int minimumCalls = 10;          // 최소 호출 수 이전에는 OPEN 되지 않음
+        private int failureRateThreshold = 50;  // 실패율(%) 이상이면 OPEN
+        private long openStateMs = 10_000;      // OPEN 유지 시간 (이후 HALF_OPEN)
+        private int halfOpenMaxCalls = 3;       // HALF_OPEN 상태에서 시험 삼아 보낼 호출 수
+
+        // 재시도 (지수 백오프 + 지터)
+        private int maxAttempts = 2;            // 최초 호출 포함 (1 이면 재시도 안함)
+        private long retryBaseDelayMs = 100;
+        private long retryMaxDelayMs = 1000;
+    }
+}
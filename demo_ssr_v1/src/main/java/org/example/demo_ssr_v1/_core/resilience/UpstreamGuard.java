@@ -0,0 +1,217 @@
+package org.example.demo_ssr_v1._core.resilience;
+
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.example.demo_ssr_v1._core.errors.exception.Exception503;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 외부 서버(업스트림) 하나에 대한 장애 격리 장치
+ *
+ * 1. 벌크헤드 - Semaphore 로 동시 호출 수를 제한 (외부 서버가 느려져도 톰캣 스레드 전체가 묶이지 않게)
+ * 2. 서킷 브레이커 - 실패율이 높으면 호출하지 않고 바로 Exception503 (fail fast)
+ * 3. 재시도 - 일시적인 오류(타임아웃, 5xx, 429)만 지수 백오프 + 지터로 재시도
+ *
+ * 사용 예시
+ * guard.call(() -> guard.getRestTemplate().exchange(...));
+ * guard.callOnce(() -> ...); // 결제 취소처럼 다시 보내면 안 되는 요청 (재시도 없음)
+ */
+@Slf4j
+public class UpstreamGuard {
+
+    private final String name;
+    private final ResilienceProperties.Upstream config;
+    private final Semaphore bulkhead;
+    private final CircuitBreaker circuitBreaker;
+    // 업스트림 전용 RestTemplate (타임아웃 적용, 스레드 안전하므로 재사용)
+    private final RestTemplate restTemplate;
+
+    // 지표 (LongAdder - 여러 스레드가 동시에 증가 시켜도 경합이 적음)
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder bulkheadRejections = new LongAdder();
+    private final LongAdder circuitRejections = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+
+    public UpstreamGuard(String name, ResilienceProperties.Upstream config) {
+        this.name = name;
+        this.config = config;
+        this.bulkhead = new Semaphore(Math.max(1, config.getMaxConcurrentCalls()));
+        this.circuitBreaker = new CircuitBreaker(config);
+
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(config.getConnectTimeoutMs());
+        requestFactory.setReadTimeout(config.getReadTimeoutMs());
+        this.restTemplate = new RestTemplate(requestFactory);
+    }
+
+    /**
+     * 외부 서버 호출을 벌크헤드 + 서킷 브레이커 + 재시도로 감싸서 실행
+     * @param supplier 실제 외부 통신 코드
+     * @throws Exception503 서킷이 열려 있거나 동시 호출 한도를 넘은 경우
+     */
+    public <T> T call(Supplier<T> supplier) {
+        return call(supplier, config.getMaxAttempts());
+    }
+
+    /**
+     * 재시도 없이 1번만 호출 (벌크헤드 + 서킷 브레이커는 그대로 적용)
+     * 응답을 못 받은 경우(읽기 타임아웃)에도 외부 서버에서는 처리됐을 수 있으므로
+     * 결과 확인은 호출하는 쪽에서 조회 API 로 직접 해야 한다.
+     */
+    public <T> T callOnce(Supplier<T> supplier) {
+        return call(supplier, 1);
+    }
+
+    private <T> T call(Supplier<T> supplier, int maxAttempts) {
+        int attempt = 0;
+        while (true) {
+            attempt++;
+            acquireBulkhead();
+            try {
+                if (!circuitBreaker.tryAcquirePermission()) {
+                    circuitRejections.increment();
+                    throw new Exception503(name + " 서비스가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해주세요.");
+                }
+
+                calls.increment();
+                long start = System.nanoTime();
+                try {
+                    T result = supplier.get();
+                    circuitBreaker.onSuccess();
+                    successes.increment();
+                    return result;
+                } catch (RuntimeException e) {
+                    if (!isTransient(e)) {
+                        // 4xx 등 외부 서버가 정상 응답한 경우 -> 서버 상태와는 무관하므로 성공으로 기록
+                        circuitBreaker.onSuccess();
+                        throw e;
+                    }
+                    circuitBreaker.onFailure();
+                    failures.increment();
+                    if (attempt >= maxAttempts) {
+                        throw e;
+                    }
+                    log.debug("{} 호출 실패, 재시도 {}/{} : {}", name, attempt, maxAttempts, e.getMessage());
+                } finally {
+                    totalLatencyNanos.add(System.nanoTime() - start);
+                }
+            } finally {
+                bulkhead.release();
+            }
+
+            // 백오프 대기 중에는 벌크헤드 자리를 반납한 상태 (다른 요청이 사용할 수 있게)
+            retries.increment();
+            sleep(backoffMs(attempt));
+        }
+    }
+
+    private void acquireBulkhead() {
+        boolean acquired;
+        try {
+            acquired = config.getMaxWaitMs() <= 0
+                    ? bulkhead.tryAcquire()
+                    : bulkhead.tryAcquire(config.getMaxWaitMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            bulkheadRejections.increment();
+            throw new Exception503(name + " 서비스 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    // 지수 백오프 + 지터 (equal jitter)
+    // 여러 요청이 동시에 실패해도 같은 시점에 몰려서 재시도 하지 않도록 대기 시간을 흩뿌린다.
+    long backoffMs(int attempt) {
+        long exp = config.getRetryBaseDelayMs() << Math.min(attempt - 1, 20);
+        long cap = Math.min(config.getRetryMaxDelayMs(), exp);
+        if (cap <= 0) {
+            return 0;
+        }
+        return cap / 2 + ThreadLocalRandom.current().nextLong(cap / 2 + 1);
+    }
+
+    private void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new Exception503(name + " 서비스 호출이 중단되었습니다.");
+        }
+    }
+
+    // 재시도 / 실패 집계 대상 (일시적인 오류만)
+    // - ResourceAccessException: 연결 실패, 타임아웃 (I/O 오류)
+    // - HttpServerErrorException: 5xx
+    // - TooManyRequests: 429
+    private static boolean isTransient(RuntimeException e) {
+        return e instanceof ResourceAccessException
+                || e instanceof HttpServerErrorException
+                || e instanceof HttpClientErrorException.TooManyRequests;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public RestTemplate getRestTemplate() {
+        return restTemplate;
+    }
+
+    public CircuitBreaker.State getState() {
+        return circuitBreaker.getState();
+    }
+
+    public StatusDTO status() {
+        return new StatusDTO(this);
+    }
+
+    // 관리자 화면 / 모니터링 용 상태 정보
+    @Data
+    public static class StatusDTO {
+        private String name;
+        private String state;
+        private int failureRate;
+        private int activeCalls;
+        private int maxConcurrentCalls;
+        private long calls;
+        private long successes;
+        private long failures;
+        private long retries;
+        private long bulkheadRejections;
+        private long circuitRejections;
+        private long avgLatencyMs;
+
+        public StatusDTO(UpstreamGuard guard) {
+            this.name = guard.name;
+            this.state = guard.circuitBreaker.getState().name();
+            this.failureRate = guard.circuitBreaker.getFailureRate();
+            this.maxConcurrentCalls = guard.config.getMaxConcurrentCalls();
+            this.activeCalls = maxConcurrentCalls - guard.bulkhead.availablePermits();
+            this.calls = guard.calls.sum();
+            this.successes = guard.successes.sum();
+            this.failures = guard.failures.sum();
+            this.retries = guard.retries.sum();
+            this.bulkheadRejections = guard.bulkheadRejections.sum();
+            this.circuitRejections = guard.circuitRejections.sum();
+            this.avgLatencyMs = calls == 0 ? 0 : guard.totalLatencyNanos.sum() / calls / 1_000_000L;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.demo_ssr_v1._core.resilience;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 업스트림 이름별 UpstreamGuard 보관소
+ * - 설정(resilience.upstreams)에 있는 업스트림은 시작 시점에 생성
+ * - 설정에 없는 이름은 기본값으로 생성 (오타로 인해 장애 격리가 빠지는 일이 없게)
+ */
+public class UpstreamGuardRegistry {
+
+    public static final String PORTONE = "portone";
+    public static final String KAKAO_AUTH = "kakao-auth";
+    public static final String KAKAO_API = "kakao-api";
+    public static final String KAKAO_CDN = "kakao-cdn";
+
+    private final Map<String, UpstreamGuard> guards = new ConcurrentHashMap<>();
+
+    public UpstreamGuardRegistry(ResilienceProperties properties) {
+        properties.getUpstreams().forEach((name, config) -> guards.put(name, new UpstreamGuard(name, config)));
+    }
+
+    public UpstreamGuard get(String name) {
+        return guards.computeIfAbsent(name, key -> new UpstreamGuard(key, new ResilienceProperties.Upstream()));
+    }
+
+    public Collection<UpstreamGuard> getAll() {
+        return guards.values();
+    }
+}
@@ -0,0 +1,136 @@
+package org.example.demo_ssr_v1._core.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.demo_ssr_v1._core.errors.exception.Exception503;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 비밀번호 해싱 전용 서비스
+ *
+ * BCrypt 는 의도적으로 느린(수십 ~ 수백 ms CPU) 연산이라 톰캣 요청 스레드에서 바로 실행하면
+ * 로그인이 몰릴 때 모든 워커가 해싱에 CPU 를 쓰느라 일반 페이지 요청까지 느려진다.
+ *
+ * 1. 해싱은 CPU 코어 수 만큼의 전용 스레드에서만 실행 -> 해싱이 CPU 를 전부 차지하지 못함
+ * 2. 대기열이 가득 차면 바로 Exception503 (기다리게 하지 않고 빠르게 거절)
+ * 3. 저장된 해시의 cost factor 가 현재 설정보다 낮으면 로그인 성공 시 새 해시를 만들어 준다 (투명한 재해싱)
+ */
+@Slf4j
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder rehashed = new LongAdder();
+
+    /**
+     * @param threads       해싱 스레드 수 (0 이하면 CPU 코어 수)
+     * @param queueCapacity 대기열 크기 (가득 차면 바로 거절)
+     * @param timeoutMs     요청 스레드가 결과를 기다리는 최대 시간
+     */
+    public PasswordHashingService(PasswordEncoder passwordEncoder, int threads, int queueCapacity, long timeoutMs) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMs = timeoutMs;
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    // 비밀번호 해싱 (회원가입, 비밀번호 변경)
+    public String hash(String rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    // 비밀번호 일치 여부
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 비밀번호 확인 + 필요 시 재해싱 (로그인)
+     * - 일치하고 저장된 해시의 cost factor 가 낮으면 같은 작업 안에서 새 해시까지 만든다.
+     * @return 불일치: MatchResult.mismatch(), 일치: newHash 가 null 이 아니면 DB 에 저장해야 한다.
+     */
+    public MatchResult verify(String rawPassword, String encodedPassword) {
+        return submit(() -> {
+            if (!passwordEncoder.matches(rawPassword, encodedPassword)) {
+                return MatchResult.MISMATCH;
+            }
+            if (!passwordEncoder.upgradeEncoding(encodedPassword)) {
+                return MatchResult.MATCHED;
+            }
+            rehashed.increment();
+            return new MatchResult(true, passwordEncoder.encode(rawPassword));
+        });
+    }
+
+    private <T> T submit(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new Exception503("로그인 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new Exception503("로그인 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new Exception503("요청이 중단되었습니다.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    public long getRehashedCount() {
+        return rehashed.sum();
+    }
+
+    // 로그인 비밀번호 확인 결과
+    public record MatchResult(boolean matched, String newHash) {
+        static final MatchResult MISMATCH = new MatchResult(false, null);
+        static final MatchResult MATCHED = new MatchResult(true, null);
+
+        public boolean needsRehash() {
+            return newHash != null;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package org.example.demo_ssr_v1._core.session;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 만료된 JDBC 세션 정리 작업 (session-jdbc 프로필 전용)
+ *
+ * Spring Session 기본 정리 작업은 DELETE ... WHERE EXPIRY_TIME < ? 한 번으로 만료 세션을 전부 지운다.
+ * 만료 세션이 많이 쌓이면 (서버 재시작 직후, 트래픽 피크 다음 등) 긴 DELETE 가 인덱스 범위를 잠가서
+ * 같은 시간에 들어온 로그인 / 요청의 세션 UPDATE 가 줄줄이 대기하게 된다.
+ * -> 기본 작업은 끄고(cleanup-cron: "-") batch-size 개씩 짧은 DELETE 를 여러 번 실행한다.
+ *
+ * 속성 테이블(SPRING_SESSION_ATTRIBUTES) 은 FK ON DELETE CASCADE 로 함께 삭제 된다.
+ */
+@Slf4j
+@Component
+@Profile("session-jdbc")
+public class ExpiredSessionCleaner {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String tableName;
+    private final int batchSize;
+    private final int maxBatches;
+
+    public ExpiredSessionCleaner(JdbcTemplate jdbcTemplate,
+                                 @Value("${spring.session.jdbc.table-name:SPRING_SESSION}") String tableName,
+                                 @Value("${session.cleanup.batch-size:500}") int batchSize,
+                                 @Value("${session.cleanup.max-batches:100}") int maxBatches) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tableName = tableName;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+    }
+
+    // 한 번 실행에 최대 batchSize * maxBatches 개 삭제 (남은 건 다음 주기에 이어서 삭제)
+    @Scheduled(cron = "${session.cleanup.cron:0 */5 * * * *}")
+    public void 만료세션정리() {
+        long start = System.currentTimeMillis();
+        long now = start;
+        int total = 0;
+
+        for (int batch = 0; batch < maxBatches; batch++) {
+            int deleted = deleteBatch(now);
+            total += deleted;
+            if (deleted < batchSize) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            log.info("만료 세션 정리 - {}건, {}ms", total, System.currentTimeMillis() - start);
+        }
+    }
+
+    // 트랜잭션 없이 (auto commit) 배치 하나씩 실행 -> 락은 배치 하나 동안만 유지
+    int deleteBatch(long now) {
+        // EXPIRY_TIME 인덱스(SPRING_SESSION_IX2) 범위 조회로 삭제 대상 PK 만 먼저 가져온다.
+        List<String> ids = jdbcTemplate.queryForList(
+                "SELECT PRIMARY_ID FROM " + tableName + " WHERE EXPIRY_TIME < ? ORDER BY EXPIRY_TIME LIMIT ?",
+                String.class, now, batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        // 조회와 삭제 사이에 다시 사용된(만료 시간이 늘어난) 세션은 지우지 않도록 만료 조건을 한 번 더 확인
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+        Object[] args = new Object[ids.size() + 1];
+        for (int i = 0; i < ids.size(); i++) {
+            args[i] = ids.get(i);
+        }
+        args[ids.size()] = now;
+        return jdbcTemplate.update(
+                "DELETE FROM " + tableName + " WHERE PRIMARY_ID IN (" + placeholders + ") AND EXPIRY_TIME < ?",
+                args);
+    }
+}
@@ -0,0 +1,117 @@
+package org.example.demo_ssr_v1._core.session;
+
+import org.example.demo_ssr_v1.user.SessionUser;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.converter.GenericConverter;
+import org.springframework.core.convert.support.GenericConversionService;
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializingConverter;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+/**
+ * 세션 속성 <-> byte[] 변환기 (JDBC 세션 저장소의 SPRING_SESSION_ATTRIBUTES.ATTRIBUTE_BYTES)
+ *
+ * 기본 자바 직렬화는 클래스 이름, 필드 이름/타입 설명까지 매번 함께 저장하므로
+ * 요청마다 가장 자주 읽고 쓰는 값(SessionUser, 문자열)은 값만 이어 붙인 전용 형식으로 저장한다.
+ * - 첫 바이트가 타입 태그 (1: SessionUser, 2: String)
+ * - 그 외 타입은 자바 직렬화 그대로 저장 (스트림이 0xAC 0xED 로 시작하므로 태그와 겹치지 않음)
+ *   -> 이 변환기를 적용하기 전에 저장된 세션도 그대로 읽을 수 있다.
+ */
+public class SessionAttributeCodec implements GenericConverter {
+
+    private static final byte TAG_SESSION_USER = 1;
+    private static final byte TAG_STRING = 2;
+
+    private final SerializingConverter serializer = new SerializingConverter();
+    private final DeserializingConverter deserializer;
+
+    public SessionAttributeCodec(ClassLoader classLoader) {
+        this.deserializer = new DeserializingConverter(classLoader);
+    }
+
+    // Spring Session 이 "springSessionConversionService" 빈으로 찾아서 사용하는 ConversionService 생성
+    public static GenericConversionService conversionService(ClassLoader classLoader) {
+        GenericConversionService conversionService = new GenericConversionService();
+        conversionService.addConverter(new SessionAttributeCodec(classLoader));
+        return conversionService;
+    }
+
+    @Override
+    public Set<ConvertiblePair> getConvertibleTypes() {
+        return Set.of(
+                new ConvertiblePair(Object.class, byte[].class),
+                new ConvertiblePair(byte[].class, Object.class)
+        );
+    }
+
+    @Override
+    public Object convert(Object source, TypeDescriptor sourceType, TypeDescriptor targetType) {
+        if (source == null) {
+            return null;
+        }
+        if (source instanceof byte[] bytes && !byte[].class.equals(targetType.getType())) {
+            return decode(bytes);
+        }
+        return encode(source);
+    }
+
+    public byte[] encode(Object value) {
+        if (value instanceof SessionUser sessionUser) {
+            ByteArrayOutputStream bos = new ByteArrayOutputStream(64);
+            try (DataOutputStream out = new DataOutputStream(bos)) {
+                out.writeByte(TAG_SESSION_USER);
+                out.writeLong(sessionUser.getId());
+                out.writeUTF(sessionUser.getUsername());
+                out.writeInt(sessionUser.getRoleMask());
+                writeNullableUTF(out, sessionUser.getProfilePath());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return bos.toByteArray();
+        }
+        if (value instanceof String text) {
+            byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+            byte[] bytes = new byte[utf8.length + 1];
+            bytes[0] = TAG_STRING;
+            System.arraycopy(utf8, 0, bytes, 1, utf8.length);
+            return bytes;
+        }
+        return serializer.convert(value);
+    }
+
+    public Object decode(byte[] bytes) {
+        if (bytes.length == 0) {
+            return null;
+        }
+        switch (bytes[0]) {
+            case TAG_SESSION_USER:
+                try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1))) {
+                    long id = in.readLong();
+                    String username = in.readUTF();
+                    int roleMask = in.readInt();
+                    String profilePath = readNullableUTF(in);
+                    return new SessionUser(id, username, roleMask, profilePath);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            case TAG_STRING:
+                return new String(bytes, 1, bytes.length - 1, StandardCharsets.UTF_8);
+            default:
+                return deserializer.convert(bytes);
+        }
+    }
+
+    private static void writeNullableUTF(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullableUTF(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
@@ -0,0 +1,63 @@
+package org.example.demo_ssr_v1._core.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 파일(blob) 저장소 - key(ab/cd/{hash}.png 등) 단위로 저장 / 조회 / 삭제
+ *
+ * 구현체 (storage.backend 설정)
+ * - local (기본): LocalBlobStore - storage.root 폴더 (서버 1대, 톰캣 sendfile 로 응답)
+ * - s3          : S3BlobStore - S3 호환 저장소 (AWS S3, MinIO 등) -> 여러 서버가 업로드 파일을 공유
+ *
+ * key 를 만드는 규칙 / 중복 제거는 ContentAddressedStorage, 참조 횟수는 FileStorageService 가 담당
+ */
+public interface BlobStore {
+
+    /**
+     * 임시 파일을 key 로 저장 (같은 key 가 있으면 덮어씀)
+     * 로컬은 파일 이동으로 처리되므로 호출 이후 source 는 없을 수 있다.
+     */
+    void put(String key, Path source) throws IOException;
+
+    void put(String key, byte[] data) throws IOException;
+
+    // 없으면 Optional.empty()
+    Optional<BlobInfo> stat(String key) throws IOException;
+
+    /**
+     * @param offset 시작 위치 (Range 응답용, 0 이면 처음부터)
+     * @throws java.nio.file.NoSuchFileException key 가 없는 경우
+     */
+    InputStream open(String key, long offset) throws IOException;
+
+    // 없어도 예외 없음
+    void delete(String key) throws IOException;
+
+    /**
+     * prefix 로 시작하고 startAfter 보다 뒤에 있는 key 를 사전 순으로 최대 limit 개 (OrphanBlobCollector 가 나눠서 훑을 때 사용)
+     * @param startAfter null 이면 처음부터
+     */
+    List<BlobInfo> list(String prefix, String startAfter, int limit) throws IOException;
+
+    // 업로드 임시 파일을 만들 폴더 (로컬은 같은 디스크여야 put 이 파일 이동으로 끝남)
+    Path tempDirectory();
+
+    // 로컬 파일 경로 (sendfile / ImageIO 파일 읽기용) - 로컬 저장소가 아니면 null
+    default Path localPath(String key) {
+        return null;
+    }
+
+    // 중복 업로드로 다시 쓰이게 된 blob 의 수정 시각 갱신 (OrphanBlobCollector 가 방금 쓰인 blob 으로 보도록)
+    default void touch(String key) throws IOException {
+    }
+
+    /**
+     * @param lastModified epoch millis
+     */
+    record BlobInfo(String key, long size, long lastModified) {
+    }
+}
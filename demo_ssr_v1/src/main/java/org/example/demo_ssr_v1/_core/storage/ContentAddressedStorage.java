@@ -0,0 +1,157 @@
+package org.example.demo_ssr_v1._core.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 내용 기반(content-addressed) 파일 저장소 - 파일 이름 = 내용의 SHA-256
+ *
+ * 기존 FileUtil.saveFile 은 uuid_원본이름 으로 저장해서 같은 이미지를 올리면 매번 새 파일이 생겼다.
+ * -> 업로드를 읽으면서 바로 SHA-256 을 계산해 임시 파일에 쓰고 (NIO 채널, 버퍼 하나로 한 번만 읽음)
+ *    다 쓰면 해시 경로로 원자적으로 이동한다. 같은 내용이면 같은 경로 -> 이미 있으면 임시 파일만 삭제
+ *
+ * 실제 저장은 BlobStore (로컬 폴더 / S3 호환 저장소) 에 맡기고, 여기서는 key 규칙과 중복 제거만 담당한다.
+ *
+ * key: ab/cd/abcd...(64자).jpg
+ *  - 앞 2 + 2 글자로 폴더를 나눠 한 폴더에 파일이 몰리지 않게 (폴더당 최대 약 256개 하위 폴더)
+ *  - 반환하는 key(ab/cd/abcd....jpg)를 DB 에 저장하고 /images/{key} 로 응답
+ *  - 축소 이미지(ImageVariant)는 같은 폴더에 ab/cd/abcd..._medium.jpg 로 저장
+ *
+ * 참조 횟수(같은 파일을 몇 명이 쓰는지)는 FileStorageService 가 DB 로 관리한다. IoC 대상 아님 (StorageConfig 에서 생성)
+ */
+public class ContentAddressedStorage {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Pattern KEY_PATTERN = Pattern.compile("[0-9a-f]{2}/[0-9a-f]{2}/[0-9a-f]{64}(\\.[a-z0-9]{1,5})?");
+    private static final Pattern VARIANT_KEY_PATTERN = Pattern.compile("[0-9a-f]{2}/[0-9a-f]{2}/[0-9a-f]{64}_[a-z]{1,10}\\.jpg");
+    private static final Pattern EXTENSION_PATTERN = Pattern.compile("[a-z0-9]{1,5}");
+
+    private final BlobStore store;
+
+    public ContentAddressedStorage(BlobStore store) {
+        this.store = store;
+    }
+
+    /**
+     * 스트림을 끝까지 읽어 저장 (스트림은 호출한 쪽에서 닫는다)
+     * @param extension 확장자 (소문자 영문/숫자 1 ~ 5자, 그 외에는 확장자 없이 저장)
+     */
+    public StoredObject write(InputStream in, String extension) throws IOException {
+        String ext = normalizeExtension(extension);
+        MessageDigest digest = sha256();
+        // 로컬 저장소는 같은 디스크의 임시 폴더 -> put 이 원자적 이동으로 끝남 (S3 는 임시 파일에서 한 번만 업로드)
+        Path temp = Files.createTempFile(store.tempDirectory(), "upload_", ".part");
+        try {
+            long size = 0;
+            ReadableByteChannel source = Channels.newChannel(in);
+            try (FileChannel target = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+                while (source.read(buffer) != -1) {
+                    buffer.flip();
+                    digest.update(buffer.duplicate());
+                    while (buffer.hasRemaining()) {
+                        size += target.write(buffer);
+                    }
+                    buffer.clear();
+                }
+                // 이동한 뒤 전원이 나가도 빈 파일이 남지 않도록 내용을 디스크에 반영
+                target.force(false);
+            }
+
+            String hash = HexFormat.of().formatHex(digest.digest());
+            String key = keyPrefix(hash) + (ext.isEmpty() ? "" : "." + ext);
+            if (store.stat(key).isPresent()) {
+                // 다시 쓰이게 된 파일 -> OrphanBlobCollector 가 오래된 고아 파일로 보지 않도록 수정 시각 갱신
+                store.touch(key);
+                return new StoredObject(key, hash, size, false);
+            }
+            // 같은 내용이 동시에 올라와도 내용이 같으므로 나중에 쓴 쪽이 덮어써도 결과는 같다.
+            store.put(key, temp);
+            return new StoredObject(key, hash, size, true);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    // 축소 이미지 저장 (원본과 달리 덮어써도 됨 - 같은 원본에서 만든 결과)
+    public void writeVariant(String variantKey, byte[] data) throws IOException {
+        store.put(checkKey(variantKey), data);
+    }
+
+    public boolean exists(String key) throws IOException {
+        return store.stat(checkKey(key)).isPresent();
+    }
+
+    public void delete(String key) throws IOException {
+        store.delete(checkKey(key));
+    }
+
+    private static String checkKey(String key) {
+        if (!isContentKey(key) && !isVariantKey(key)) {
+            throw new IllegalArgumentException("잘못된 파일 key 입니다: " + key);
+        }
+        return key;
+    }
+
+    // 이 저장소가 만든 key 인지 (기존 uuid_원본이름 파일, 카카오 URL 과 구분)
+    public static boolean isContentKey(String key) {
+        return key != null && KEY_PATTERN.matcher(key).matches();
+    }
+
+    // 축소 이미지 key 인지 (ab/cd/{hash}_medium.jpg)
+    public static boolean isVariantKey(String key) {
+        return key != null && VARIANT_KEY_PATTERN.matcher(key).matches();
+    }
+
+    // 해시가 같은 원본 / 축소본 key 의 공통 앞부분 (ab/cd/{hash}) - 확장자는 파일마다 다를 수 있음
+    public static String keyPrefix(String hash) {
+        return hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash;
+    }
+
+    public static String hashOf(String key) {
+        return key.substring(6, 70);
+    }
+
+    // ab/cd/{hash}.png -> ab/cd/{hash}_medium.jpg
+    public static String variantKey(String key, ImageVariant variant) {
+        return key.substring(0, 70) + "_" + variant.getName() + ".jpg";
+    }
+
+    public BlobStore getStore() {
+        return store;
+    }
+
+    private static String normalizeExtension(String extension) {
+        if (extension == null) {
+            return "";
+        }
+        String ext = extension.toLowerCase(Locale.ROOT);
+        return EXTENSION_PATTERN.matcher(ext).matches() ? ext : "";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param created 새로 만든 파일이면 true, 같은 내용의 파일이 이미 있었으면 false
+     */
+    public record StoredObject(String key, String hash, long size, boolean created) {
+    }
+}
@@ -0,0 +1,244 @@
+package org.example.demo_ssr_v1._core.storage;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Optional;
+
+/**
+ * 파일 응답 (조건부 GET + Range + sendfile)
+ *
+ * 리소스 핸들러 대신 직접 처리하는 이유
+ * - 강한 ETag (저장소 파일은 내용 해시 그대로) + Last-Modified -> 재검증 요청은 본문 없이 304
+ * - 본문 전송: 톰캣 sendfile 사용 (커널이 파일 -> 소켓으로 바로 복사, 자바 힙 / 복사 버퍼를 거치지 않음)
+ *   sendfile 을 쓸 수 없으면 (작은 파일, 다른 서버) FileChannel.transferTo 로 전송
+ *   로컬 파일이 없는 저장소(S3 등)는 BlobStore.open 스트림을 그대로 복사
+ * - Range (단일 구간) -> 206, 구간이 잘못되면 416
+ *
+ * IoC 대상 아님 static 메서드로 사용 (서블릿 API 만 사용 - 벤치마크에서도 그대로 사용)
+ */
+public class FileSender {
+
+    // 톰캣 sendfile 요청 속성 (org.apache.catalina.Globals)
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    // 이보다 작은 파일은 일반 쓰기가 더 빠름 (톰캣 DefaultServlet 기본값과 같음)
+    private static final long SENDFILE_MIN_SIZE = 48 * 1024;
+    private static final int COPY_BUFFER_SIZE = 16 * 1024;
+
+    /**
+     * @param etag 따옴표를 제외한 강한 ETag 값
+     * @param cacheControl Cache-Control 헤더 값
+     */
+    public static void send(HttpServletRequest request, HttpServletResponse response,
+                            Path path, String contentType, String etag, String cacheControl) throws IOException {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException e) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        send(request, response, attributes.size(), attributes.lastModifiedTime().toMillis(), contentType, etag, cacheControl,
+                (start, count) -> {
+                    if (count >= SENDFILE_MIN_SIZE && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+                        // 서블릿이 끝난 뒤 톰캣이 직접 전송
+                        request.setAttribute(SENDFILE_FILENAME, path.toAbsolutePath().toString());
+                        request.setAttribute(SENDFILE_START, start);
+                        request.setAttribute(SENDFILE_END, start + count);
+                        return;
+                    }
+                    transfer(path, start, count, response);
+                });
+    }
+
+    /**
+     * 저장소의 key 응답 - 로컬 파일이 있으면 위의 파일 전송(sendfile), 없으면 저장소 스트림 복사
+     */
+    public static void send(HttpServletRequest request, HttpServletResponse response,
+                            BlobStore store, String key, String contentType, String etag, String cacheControl) throws IOException {
+        Path path = store.localPath(key);
+        if (path != null) {
+            send(request, response, path, contentType, etag, cacheControl);
+            return;
+        }
+        Optional<BlobStore.BlobInfo> info = store.stat(key);
+        if (info.isEmpty()) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        send(request, response, info.get().size(), info.get().lastModified(), contentType, etag, cacheControl,
+                (start, count) -> {
+                    try (InputStream in = store.open(key, start)) {
+                        copy(in, response.getOutputStream(), count);
+                    }
+                });
+    }
+
+    private static void send(HttpServletRequest request, HttpServletResponse response,
+                             long length, long lastModifiedMillis, String contentType, String etag, String cacheControl,
+                             BodyWriter body) throws IOException {
+        // HTTP 날짜는 초 단위
+        long lastModified = lastModifiedMillis / 1000 * 1000;
+        String quotedEtag = "\"" + etag + "\"";
+
+        response.setHeader("ETag", quotedEtag);
+        response.setDateHeader("Last-Modified", lastModified);
+        response.setHeader("Cache-Control", cacheControl);
+        response.setHeader("Accept-Ranges", "bytes");
+
+        if (isNotModified(request, quotedEtag, lastModified)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long start = 0;
+        long end = length - 1;
+        String range = request.getHeader("Range");
+        if (range != null && isRangeApplicable(request, quotedEtag, lastModified)) {
+            long[] parsed = parseRange(range, length);
+            if (parsed == null) {
+                response.setHeader("Content-Range", "bytes */" + length);
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            if (parsed.length == 2) {
+                start = parsed[0];
+                end = parsed[1];
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader("Content-Range", "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentType(contentType);
+        response.setContentLengthLong(count);
+        if ("HEAD".equals(request.getMethod()) || count <= 0) {
+            return;
+        }
+        body.write(start, count);
+    }
+
+    private static void transfer(Path path, long start, long count, HttpServletResponse response) throws IOException {
+        try (FileChannel file = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long written = file.transferTo(position, remaining, out);
+                if (written <= 0) {
+                    break; // 전송 중 파일이 줄어든 경우
+                }
+                position += written;
+                remaining -= written;
+            }
+        }
+    }
+
+    // count 바이트만 복사 (Range 응답에서 구간 끝 이후는 읽지 않음)
+    private static void copy(InputStream in, OutputStream out, long count) throws IOException {
+        byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        long remaining = count;
+        while (remaining > 0) {
+            int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+            if (read < 0) {
+                break;
+            }
+            out.write(buffer, 0, read);
+            remaining -= read;
+        }
+    }
+
+    @FunctionalInterface
+    private interface BodyWriter {
+        void write(long start, long count) throws IOException;
+    }
+
+    // If-None-Match 가 있으면 그것만 보고, 없을 때만 If-Modified-Since 확인 (RFC 9110 13.2.2)
+    static boolean isNotModified(HttpServletRequest request, String quotedEtag, long lastModified) {
+        String ifNoneMatch = request.getHeader("If-None-Match");
+        if (ifNoneMatch != null) {
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.equals("*") || tag.equals(quotedEtag) || tag.equals("W/" + quotedEtag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        long ifModifiedSince = dateHeader(request, "If-Modified-Since");
+        return ifModifiedSince != -1 && lastModified <= ifModifiedSince;
+    }
+
+    // If-Range 가 현재 파일과 다르면 Range 를 무시하고 전체를 보냄 (파일이 바뀐 경우 이어받기 방지)
+    private static boolean isRangeApplicable(HttpServletRequest request, String quotedEtag, long lastModified) {
+        String ifRange = request.getHeader("If-Range");
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"")) {
+            return ifRange.equals(quotedEtag);
+        }
+        return dateHeader(request, "If-Range") == lastModified;
+    }
+
+    /**
+     * bytes=0-99 / bytes=100- / bytes=-100 (단일 구간만 지원)
+     * @return {start, end} / 여러 구간이거나 해석할 수 없으면 빈 배열 (전체 응답) / 파일 범위를 벗어나면 null (416)
+     */
+    static long[] parseRange(String header, long length) {
+        if (!header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+            return new long[0];
+        }
+        String spec = header.substring(6).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return new long[0];
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            long start;
+            long end;
+            if (first.isEmpty()) {
+                // 마지막 N 바이트
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0) {
+                    return null;
+                }
+                start = Math.max(0, length - suffix);
+                end = length - 1;
+            } else {
+                start = Long.parseLong(first);
+                end = last.isEmpty() ? length - 1 : Math.min(Long.parseLong(last), length - 1);
+            }
+            if (start >= length || start > end) {
+                return null;
+            }
+            return new long[]{start, end};
+        } catch (NumberFormatException e) {
+            return new long[0];
+        }
+    }
+
+    private static long dateHeader(HttpServletRequest request, String name) {
+        try {
+            return request.getDateHeader(name);
+        } catch (IllegalArgumentException e) {
+            return -1; // 날짜 형식이 아님 -> 헤더가 없는 것으로 처리
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package org.example.demo_ssr_v1._core.storage;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.demo_ssr_v1._core.errors.exception.Exception500;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 업로드 파일 저장 / 해제 (ContentAddressedStorage + 참조 횟수)
+ *
+ * - 저장: 같은 파일(내용 + 확장자)이 이미 있으면 파일은 그대로 두고 참조 횟수만 1 증가 (INSERT .. ON DUPLICATE KEY UPDATE 한 번)
+ * - 해제: 참조 횟수 1 감소, 0 이 되면 row 만 삭제
+ *   실제 파일은 OrphanBlobCollector 가 삭제 (row 가 없고 min-age 동안 다시 쓰이지 않은 파일만)
+ *   -> 커밋 직후 바로 지우면 그 사이 같은 내용을 올린 요청이 이미 지워진 파일을 가리키는 row 를 만들 수 있음
+ * - 트랜잭션이 롤백되면 이번에 새로 만든 파일은 삭제 (DB 에 기록되지 않은 파일이 남지 않게)
+ *   단, 같은 파일을 동시에 올린 다른 요청이 row 를 만들었으면 그 요청이 쓰는 파일이므로 유지
+ * - 이미지는 커밋 이후 축소본(ImageVariant) 생성을 ImageVariantPipeline 에 요청
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class FileStorageService {
+
+    private final ContentAddressedStorage storage;
+    private final StoredFileRepository storedFileRepository;
+    private final ImageVariantPipeline imageVariantPipeline;
+
+    /**
+     * @return 저장소 key (파일이 없으면 null)
+     * @throws Exception500 디스크 저장에 실패한 경우
+     */
+    @Transactional
+    public String 저장(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            return null;
+        }
+        try (InputStream in = file.getInputStream()) {
+            return 저장(in, extensionOf(file.getOriginalFilename()));
+        } catch (IOException e) {
+            throw new Exception500("파일 저장에 실패했습니다.");
+        }
+    }
+
+    @Transactional
+    public String 저장(InputStream in, String extension) {
+        ContentAddressedStorage.StoredObject stored;
+        try {
+            stored = storage.write(in, extension);
+        } catch (IOException e) {
+            log.error("파일 저장 실패", e);
+            throw new Exception500("파일 저장에 실패했습니다.");
+        }
+
+        storedFileRepository.upsertRef(stored.hash(), stored.key(), stored.size());
+        if (stored.created()) {
+            afterRollback(() -> {
+                if (!storedFileRepository.existsById(stored.key())) {
+                    storage.delete(stored.key());
+                }
+            });
+        }
+        afterCommit(() -> imageVariantPipeline.submit(stored.key()));
+        return stored.key();
+    }
+
+    /**
+     * 더 이상 사용하지 않는 파일 반납
+     * - 카카오 URL 은 무시, 저장소 도입 전 파일(uuid_원본이름)은 커밋 이후 바로 삭제
+     */
+    @Transactional
+    public void 해제(String key) {
+        if (key == null || key.isEmpty() || key.startsWith("http")) {
+            return;
+        }
+        if (!ContentAddressedStorage.isContentKey(key)) {
+            afterCommit(() -> storage.getStore().delete(key));
+            return;
+        }
+
+        // 파일 / 축소본 삭제는 OrphanBlobCollector 가 row 와 수정 시각을 다시 확인한 뒤 처리
+        storedFileRepository.decrementRefCount(key);
+        storedFileRepository.deleteIfUnreferenced(key);
+    }
+
+    /**
+     * 축소본이 아직 없을 때 대신 응답할 원본 key (ImageController)
+     * 축소본 생성도 다시 요청한다. (업로드 직후이거나 대기열이 넘쳐 버려진 경우)
+     * @return 원본이 없으면 null
+     */
+    public String 원본조회(String hash) {
+        return storedFileRepository.findFirstByHash(hash)
+                .map(storedFile -> {
+                    imageVariantPipeline.submit(storedFile.getStorageKey());
+                    return storedFile.getStorageKey();
+                })
+                .orElse(null);
+    }
+
+    private static String extensionOf(String filename) {
+        if (filename == null) {
+            return null;
+        }
+        int dot = filename.lastIndexOf('.');
+        return dot < 0 ? null : filename.substring(dot + 1);
+    }
+
+    private void afterCommit(FileTask task) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.runQuietly();
+            }
+        });
+    }
+
+    private void afterRollback(FileTask task) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    task.runQuietly();
+                }
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface FileTask {
+        void run() throws IOException;
+
+        // 파일 삭제 실패는 요청 결과에 영향을 주지 않음 (참조되지 않는 파일이 남을 뿐)
+        default void runQuietly() {
+            try {
+                run();
+            } catch (IOException e) {
+                log.warn("파일 삭제 실패: {}", e.getMessage());
+            }
+        }
+    }
+}
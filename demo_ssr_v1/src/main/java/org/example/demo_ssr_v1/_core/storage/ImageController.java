@@ -0,0 +1,87 @@
+package org.example.demo_ssr_v1._core.storage;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * 업로드 이미지 응답 (/images/**) - 기존 리소스 핸들러(WebMvcConfig.addResourceHandlers)를 대체
+ *
+ * - 저장소 원본 / 축소본 (ab/cd/{hash}...): ETag = 내용 해시, 1년 immutable 캐시
+ * - 축소본이 아직 없으면 (업로드 직후): 원본으로 대신 응답 + 축소본 생성 요청, no-cache (축소본 URL 로 원본이 캐시되지 않게)
+ * - 저장소 도입 전 파일 (uuid_원본이름): ETag = 크기 + 수정 시각, 1일 캐시 후 재검증
+ * 전송 / 304 / Range 처리는 FileSender (로컬 저장소는 sendfile, S3 등은 스트림 복사)
+ */
+@Controller
+@RequiredArgsConstructor
+public class ImageController {
+
+    private static final String IMMUTABLE = "public, max-age=31536000, immutable";
+    private static final String LEGACY = "public, max-age=86400";
+    private static final String NO_CACHE = "no-cache";
+
+    private final BlobStore blobStore;
+    private final FileStorageService fileStorageService;
+
+    // http://localhost:8080/images/ab/cd/abcd...._medium.jpg
+    @GetMapping("/images/{*path}")
+    public void image(@PathVariable String path,
+                      HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String key = path.substring(1); // {*path} 는 앞에 / 가 붙어 있음
+        // 업로드 파일이 브라우저에서 다른 형식(HTML 등)으로 해석되지 않도록
+        response.setHeader("X-Content-Type-Options", "nosniff");
+
+        if (ContentAddressedStorage.isContentKey(key)) {
+            FileSender.send(request, response, blobStore, key, contentTypeOf(key),
+                    ContentAddressedStorage.hashOf(key), IMMUTABLE);
+            return;
+        }
+
+        if (ContentAddressedStorage.isVariantKey(key)) {
+            if (blobStore.stat(key).isPresent()) {
+                // 같은 원본의 축소본끼리 ETag 가 겹치지 않도록 {hash}_{variant}
+                String etag = key.substring(6, key.length() - ".jpg".length());
+                FileSender.send(request, response, blobStore, key, MediaType.IMAGE_JPEG_VALUE, etag, IMMUTABLE);
+                return;
+            }
+            String originalKey = fileStorageService.원본조회(ContentAddressedStorage.hashOf(key));
+            if (originalKey == null) {
+                response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+                return;
+            }
+            FileSender.send(request, response, blobStore, originalKey, contentTypeOf(originalKey),
+                    ContentAddressedStorage.hashOf(originalKey), NO_CACHE);
+            return;
+        }
+
+        // 저장소 도입 전 파일은 root 바로 아래에만 있음 (하위 폴더 / 상위 경로 / 숨김 파일 접근 차단)
+        if (!isLegacyFilename(key)) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        Optional<BlobStore.BlobInfo> info = blobStore.stat(key);
+        if (info.isEmpty()) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        String etag = Long.toHexString(info.get().size()) + "-" + Long.toHexString(info.get().lastModified());
+        FileSender.send(request, response, blobStore, key, contentTypeOf(key), etag, LEGACY);
+    }
+
+    private static boolean isLegacyFilename(String filename) {
+        return !filename.isEmpty() && !filename.startsWith(".") && !filename.contains("/")
+                && !filename.contains("\\") && !filename.contains(":") && !filename.contains("..");
+    }
+
+    private static String contentTypeOf(String filename) {
+        return MediaTypeFactory.getMediaType(filename).orElse(MediaType.APPLICATION_OCTET_STREAM).toString();
+    }
+}
@@ -0,0 +1,32 @@
+package org.example.demo_ssr_v1._core.storage;
+
+import lombok.Getter;
+
+/**
+ * 업로드 이미지의 축소본 종류 (긴 변 기준 크기, JPEG 품질)
+ * - 화면에 보이는 크기의 2배 (고해상도 화면 대비)
+ */
+@Getter
+public enum ImageVariant {
+
+    MEDIUM("medium", 400, 0.85f); // 회원정보 화면 (200px)
+
+    private final String name;
+    private final int maxSize;
+    private final float quality;
+
+    ImageVariant(String name, int maxSize, float quality) {
+        this.name = name;
+        this.maxSize = maxSize;
+        this.quality = quality;
+    }
+
+    public static ImageVariant of(String name) {
+        for (ImageVariant variant : values()) {
+            if (variant.name.equals(name)) {
+                return variant;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 이미지 크기: " + name);
+    }
+}
@@ -0,0 +1,229 @@
+package org.example.demo_ssr_v1._core.storage;
+
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.example.demo_ssr_v1._core.utils.ExifOrientation;
+import org.example.demo_ssr_v1._core.utils.ImageResizer;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 업로드 이미지 축소본(ImageVariant) 생성 작업자
+ *
+ * 원본(최대 10MB)을 200px 아바타에 그대로 내려보내던 문제 -> 업로드가 커밋된 뒤 백그라운드에서
+ *  1. 원본 크기만 먼저 읽고, 축소본의 2배 정도가 되도록 건너뛰며 디코딩 (큰 사진도 메모리 / 시간 절약)
+ *  2. EXIF Orientation 대로 돌린 뒤 축소
+ *  3. JPEG 로 다시 압축 (EXIF / GPS 등 메타데이터 제거)
+ *
+ * - 작업자 수 / 대기열 크기 제한 -> 넘치면 버림 (다음 요청 때 ImageController 가 다시 요청)
+ * - 같은 원본은 동시에 한 번만 처리
+ * IoC 대상 아님 (StorageConfig 에서 생성)
+ */
+@Slf4j
+public class ImageVariantPipeline {
+
+    // ImageIO 로 읽을 수 있는 확장자
+    private static final Set<String> IMAGE_EXTENSIONS = Set.of("jpg", "jpeg", "png", "gif", "bmp");
+    private static final int UNPROCESSABLE_LIMIT = 10_000;
+
+    private final ContentAddressedStorage storage;
+    private final long maxPixels;
+    private final ThreadPoolExecutor executor;
+    private final Set<String> inProgress = ConcurrentHashMap.newKeySet();
+    // 이미지가 아니거나 너무 커서 실패한 원본 (요청마다 다시 시도하지 않게, 최대 UNPROCESSABLE_LIMIT 개)
+    private final Set<String> unprocessable = ConcurrentHashMap.newKeySet();
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+
+    public ImageVariantPipeline(ContentAddressedStorage storage, int workers, int queueCapacity, long maxPixels) {
+        this.storage = storage;
+        this.maxPixels = maxPixels;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-variant-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 축소본 생성 요청 (이미 모두 있거나 처리 중이면 무시)
+     * @return 작업이 대기열에 들어갔으면 true
+     */
+    public boolean submit(String key) {
+        if (!isImageKey(key) || unprocessable.contains(key) || hasAllVariants(key) || !inProgress.add(key)) {
+            return false;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    generate(key);
+                } finally {
+                    inProgress.remove(key);
+                }
+            });
+            submitted.increment();
+            return true;
+        } catch (RejectedExecutionException e) {
+            inProgress.remove(key);
+            rejected.increment();
+            return false;
+        }
+    }
+
+    // 작업자 스레드에서 실행 (실패해도 원본은 그대로 응답되므로 로그만 남김)
+    void generate(String key) {
+        long start = System.nanoTime();
+        try {
+            BufferedImage image = read(key);
+            for (ImageVariant variant : ImageVariant.values()) {
+                BufferedImage resized = ImageResizer.resize(image, variant.getMaxSize());
+                storage.writeVariant(ContentAddressedStorage.variantKey(key, variant), ImageResizer.toJpeg(resized, variant.getQuality()));
+            }
+            completed.increment();
+        } catch (Exception e) {
+            failed.increment();
+            if (unprocessable.size() < UNPROCESSABLE_LIMIT) {
+                unprocessable.add(key);
+            }
+            log.warn("축소 이미지 생성 실패 - key: {}, 원인: {}", key, e.getMessage());
+        } finally {
+            totalNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    public boolean hasAllVariants(String key) {
+        try {
+            for (ImageVariant variant : ImageVariant.values()) {
+                if (!storage.exists(ContentAddressedStorage.variantKey(key, variant))) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (IOException e) {
+            // 저장소 일시 장애 -> 생성 요청을 미룸 (실패로 처리되어 unprocessable 에 남지 않게, 다음 요청 때 다시 확인)
+            log.warn("축소 이미지 확인 실패 - key: {}, 원인: {}", key, e.getMessage());
+            return true;
+        }
+    }
+
+    public static boolean isImageKey(String key) {
+        if (!ContentAddressedStorage.isContentKey(key)) {
+            return false;
+        }
+        int dot = key.lastIndexOf('.');
+        return dot > 0 && IMAGE_EXTENSIONS.contains(key.substring(dot + 1).toLowerCase(Locale.ROOT));
+    }
+
+    // 로컬 저장소는 파일에서 바로 읽고, S3 등은 스트림으로 받아서 읽는다.
+    private BufferedImage read(String key) throws IOException {
+        Path path = storage.getStore().localPath(key);
+        if (path != null) {
+            return decode(path, ImageVariant.MEDIUM.getMaxSize(), maxPixels);
+        }
+        try (InputStream in = storage.getStore().open(key, 0);
+             ImageInputStream imageIn = ImageIO.createImageInputStream(in)) {
+            return decode(imageIn, ImageVariant.MEDIUM.getMaxSize(), maxPixels);
+        }
+    }
+
+    static BufferedImage decode(Path path, int targetSize, long maxPixels) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(path.toFile())) {
+            return decode(in, targetSize, maxPixels);
+        }
+    }
+
+    /**
+     * 이미지 디코딩 - 긴 변이 targetSize 의 2배 이상인 경우 정수 배율로 건너뛰며 읽는다.
+     * (4000px 사진 -> 400px 축소본이면 1/5 만 읽음, 디코딩 메모리는 약 1/25)
+     * EXIF Orientation 이 있으면 그대로 돌려서 반환 (다시 저장하면 태그가 사라지므로)
+     * 업로드 외에 내려받은 이미지(KakaoProfileImageImporter)도 같은 제한으로 읽는다.
+     * @throws IOException 이미지가 아니거나 maxPixels 보다 큰 경우 (디코딩 전에 크기만 확인)
+     */
+    public static BufferedImage decode(ImageInputStream in, int targetSize, long maxPixels) throws IOException {
+        Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+        if (readers == null || !readers.hasNext()) {
+            throw new IOException("이미지 파일이 아닙니다.");
+        }
+        ImageReader reader = readers.next();
+        try {
+            reader.setInput(in, true, false); // EXIF 방향을 알아야 하므로 메타데이터도 읽음
+            int width = reader.getWidth(0);
+            int height = reader.getHeight(0);
+            if ((long) width * height > maxPixels) {
+                throw new IOException("이미지가 너무 큽니다 (" + width + "x" + height + ")");
+            }
+
+            ImageReadParam param = reader.getDefaultReadParam();
+            int step = Math.max(width, height) / (targetSize * 2);
+            if (step > 1) {
+                param.setSourceSubsampling(step, step, 0, 0);
+            }
+            int orientation = readOrientation(reader);
+            return ExifOrientation.apply(reader.read(0, param), orientation);
+        } finally {
+            reader.dispose();
+        }
+    }
+
+    // 메타데이터를 못 읽어도 디코딩은 계속 (방향 보정만 생략)
+    private static int readOrientation(ImageReader reader) {
+        try {
+            return ExifOrientation.read(reader.getImageMetadata(0));
+        } catch (IOException | RuntimeException e) {
+            return ExifOrientation.NORMAL;
+        }
+    }
+
+    public StatusDTO status() {
+        return new StatusDTO(this);
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Data
+    public static class StatusDTO {
+        private int workers;
+        private int queued;
+        private int inProgress;
+        private long submitted;
+        private long completed;
+        private long failed;
+        private long rejected;
+        private long avgMillis;
+
+        public StatusDTO(ImageVariantPipeline pipeline) {
+            this.workers = pipeline.executor.getMaximumPoolSize();
+            this.queued = pipeline.executor.getQueue().size();
+            this.inProgress = pipeline.inProgress.size();
+            this.submitted = pipeline.submitted.sum();
+            this.completed = pipeline.completed.sum();
+            this.failed = pipeline.failed.sum();
+            this.rejected = pipeline.rejected.sum();
+            long finished = completed + failed;
+            this.avgMillis = finished == 0 ? 0 : pipeline.totalNanos.sum() / finished / 1_000_000;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package org.example.demo_ssr_v1._core.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 폴더 저장소 (storage.root)
+ * - put: 같은 디스크의 임시 폴더({root}/.tmp)에서 원자적 이동 -> 쓰는 도중의 파일이 응답되지 않음
+ * - key 에 상위 경로(..) / 절대 경로가 들어오면 거절
+ * IoC 대상 아님 (StorageConfig 에서 생성)
+ */
+public class LocalBlobStore implements BlobStore {
+
+    private static final String TEMP_DIR = ".tmp";
+
+    private final Path root;
+    private final Path tempDir;
+
+    public LocalBlobStore(Path root) {
+        this.root = root.toAbsolutePath().normalize();
+        this.tempDir = this.root.resolve(TEMP_DIR);
+        try {
+            Files.createDirectories(tempDir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("파일 저장소 폴더를 만들 수 없습니다: " + this.root, e);
+        }
+    }
+
+    @Override
+    public void put(String key, Path source) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @Override
+    public void put(String key, byte[] data) throws IOException {
+        Path temp = Files.createTempFile(tempDir, "blob_", ".part");
+        try {
+            Files.write(temp, data);
+            put(key, temp);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public Optional<BlobInfo> stat(String key) throws IOException {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(resolve(key), BasicFileAttributes.class);
+            return Optional.of(new BlobInfo(key, attributes.size(), attributes.lastModifiedTime().toMillis()));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public InputStream open(String key, long offset) throws IOException {
+        FileChannel channel = FileChannel.open(resolve(key), StandardOpenOption.READ);
+        channel.position(offset);
+        return Channels.newInputStream(channel);
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    /**
+     * prefix 가 가리키는 폴더만 훑는다 (예: "ab/" -> {root}/ab 아래, 전체 파일의 약 1/256)
+     * 폴더 안의 key 를 모두 모아 정렬하므로 prefix 는 폴더 단위로 주는 것이 좋다.
+     */
+    @Override
+    public List<BlobInfo> list(String prefix, String startAfter, int limit) throws IOException {
+        int slash = prefix.lastIndexOf('/');
+        Path dir = slash < 0 ? root : resolve(prefix.substring(0, slash));
+        if (!Files.isDirectory(dir)) {
+            return List.of();
+        }
+
+        List<BlobInfo> result = new ArrayList<>();
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.filter(Files::isRegularFile)
+                    .map(path -> root.relativize(path).toString().replace('\\', '/'))
+                    .filter(key -> key.startsWith(prefix) && !key.startsWith(TEMP_DIR + "/"))
+                    .filter(key -> startAfter == null || key.compareTo(startAfter) > 0)
+                    .sorted(Comparator.naturalOrder())
+                    .limit(limit)
+                    .forEach(key -> {
+                        try {
+                            stat(key).ifPresent(result::add);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return result;
+    }
+
+    @Override
+    public Path tempDirectory() {
+        return tempDir;
+    }
+
+    @Override
+    public Path localPath(String key) {
+        return resolve(key);
+    }
+
+    @Override
+    public void touch(String key) throws IOException {
+        Files.setLastModifiedTime(resolve(key), FileTime.fromMillis(System.currentTimeMillis()));
+    }
+
+    public Path getRoot() {
+        return root;
+    }
+
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (key.isEmpty() || !path.startsWith(root) || path.equals(root)) {
+            throw new IllegalArgumentException("잘못된 파일 key 입니다: " + key);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,193 @@
+package org.example.demo_ssr_v1._core.storage;
+
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * 고아 파일 정리 - 저장소의 원본 / 축소본 중 어떤 회원(User.profileImage)도 쓰지 않는 파일 삭제
+ *
+ * FileStorageService.해제 는 row 만 지우고 실제 파일 삭제는 여기서 한다. (삭제 직전에 row / 수정 시각을 다시 확인해야
+ * 같은 내용이 동시에 다시 올라온 파일을 지우지 않음) 업로드 후 롤백 삭제 실패, 참조 횟수가 어긋난 경우도 마찬가지
+ * -> 주기적으로 저장소를 조금씩 훑어서 정리
+ *
+ * - 한 번에 batch-size 개씩, 최대 max-batches 번만 조회 (저장소 / DB 부하 제한)
+ *   key 앞 두 글자(00/ ~ ff/) 별로 나눠서 훑고, 다음 실행은 멈춘 위치부터 이어서 진행
+ * - 수정 시각이 min-age 보다 오래된 파일만 대상 (업로드 중이거나 아직 커밋되지 않은 파일 제외)
+ *   중복 업로드는 기존 파일의 수정 시각을 갱신하므로(BlobStore.touch) 다시 쓰이게 된 파일도 제외된다.
+ * - 회원이 쓰는지는 해시로 판단 (확장자만 다른 key 도 같은 파일의 참조로 봄)
+ * - DB row 를 먼저 (아무도 안 쓸 때만) 지우고, row 가 남아 있지 않은 해시의 파일만 삭제
+ * 저장소 도입 전 파일(uuid_원본이름)은 대상이 아니다.
+ */
+@Slf4j
+@Component
+public class OrphanBlobCollector {
+
+    private static final List<String> PREFIXES = createPrefixes();
+
+    private final BlobStore blobStore;
+    private final StoredFileRepository storedFileRepository;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxBatches;
+    private final long minAgeMillis;
+
+    // 다음에 훑을 위치 (PREFIXES 의 순번 + 마지막으로 본 key)
+    private int prefixIndex;
+    private String startAfter;
+
+    private long runs;
+    private long scanned;
+    private long deletedRows;
+    private long deletedBlobs;
+    private long freedBytes;
+    private long failures;
+    private long lastRunAt;
+    private long lastRunMillis;
+
+    public OrphanBlobCollector(BlobStore blobStore, StoredFileRepository storedFileRepository,
+                               @Value("${storage.gc.enabled:true}") boolean enabled,
+                               @Value("${storage.gc.batch-size:500}") int batchSize,
+                               @Value("${storage.gc.max-batches:20}") int maxBatches,
+                               @Value("${storage.gc.min-age-ms:3600000}") long minAgeMillis) {
+        this.blobStore = blobStore;
+        this.storedFileRepository = storedFileRepository;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.minAgeMillis = minAgeMillis;
+    }
+
+    @Scheduled(initialDelayString = "${storage.gc.initial-delay-ms:300000}", fixedDelayString = "${storage.gc.interval-ms:600000}")
+    public synchronized void 정리() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            collect();
+        } catch (IOException e) {
+            failures++;
+            log.warn("고아 파일 정리 실패 - 원인: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 최대 maxBatches 번 조회해서 정리 (전체를 한 바퀴 돌면 그 자리에서 멈춤)
+     * @return 삭제한 파일 수
+     */
+    synchronized int collect() throws IOException {
+        long start = System.currentTimeMillis();
+        long cutoff = start - minAgeMillis;
+        int deleted = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            List<BlobStore.BlobInfo> blobs = blobStore.list(PREFIXES.get(prefixIndex), startAfter, batchSize);
+            scanned += blobs.size();
+            deleted += collectBatch(blobs, cutoff);
+
+            if (blobs.size() < batchSize) {
+                // 이 prefix 는 끝 -> 다음 prefix (마지막이면 처음으로 돌아가고 이번 실행은 종료)
+                startAfter = null;
+                prefixIndex = (prefixIndex + 1) % PREFIXES.size();
+                if (prefixIndex == 0) {
+                    break;
+                }
+            } else {
+                startAfter = blobs.get(blobs.size() - 1).key();
+            }
+        }
+        runs++;
+        lastRunAt = start;
+        lastRunMillis = System.currentTimeMillis() - start;
+        if (deleted > 0) {
+            log.info("고아 파일 {}개 정리 ({}ms)", deleted, lastRunMillis);
+        }
+        return deleted;
+    }
+
+    private int collectBatch(List<BlobStore.BlobInfo> blobs, long cutoff) throws IOException {
+        // 해시 -> 그 해시의 원본 / 축소본 파일들
+        Map<String, List<BlobStore.BlobInfo>> candidates = new HashMap<>();
+        for (BlobStore.BlobInfo blob : blobs) {
+            boolean storageKey = ContentAddressedStorage.isContentKey(blob.key()) || ContentAddressedStorage.isVariantKey(blob.key());
+            if (storageKey && blob.lastModified() <= cutoff) {
+                candidates.computeIfAbsent(ContentAddressedStorage.hashOf(blob.key()), hash -> new ArrayList<>()).add(blob);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+
+        Set<String> orphans = new HashSet<>(candidates.keySet());
+        orphans.removeAll(storedFileRepository.findReferencedHashes(candidates.keySet()));
+        // 같은 내용을 다른 확장자(.jpg / .jpeg)로 쓰는 회원이 있으면 축소본을 공유하므로 해시 전체를 유지
+        // (기본키가 해시였던 때 올라와서 row 가 없는 파일 포함) - 남은 후보만 해시마다 한 번씩 확인
+        orphans.removeIf(hash -> storedFileRepository.existsProfileImageLike(ContentAddressedStorage.keyPrefix(hash) + "%"));
+        if (orphans.isEmpty()) {
+            return 0;
+        }
+        deletedRows += storedFileRepository.deleteUnreferenced(orphans);
+        // 지우는 사이 다시 참조된 row (같은 파일 업로드) 는 남아 있음 -> 파일도 유지
+        orphans.removeAll(storedFileRepository.findExistingHashes(orphans));
+
+        int deleted = 0;
+        for (String hash : orphans) {
+            for (BlobStore.BlobInfo blob : candidates.get(hash)) {
+                // 목록 조회 이후 중복 업로드로 수정 시각이 갱신된 파일은 유지
+                Optional<BlobStore.BlobInfo> current = blobStore.stat(blob.key());
+                if (current.isEmpty() || current.get().lastModified() > cutoff) {
+                    continue;
+                }
+                blobStore.delete(blob.key());
+                deleted++;
+                deletedBlobs++;
+                freedBytes += current.get().size();
+            }
+        }
+        return deleted;
+    }
+
+    // 정리 중에도 바로 응답 (값이 조금 늦게 보일 수 있음)
+    public StatusDTO status() {
+        return new StatusDTO(this);
+    }
+
+    private static List<String> createPrefixes() {
+        List<String> prefixes = new ArrayList<>(256);
+        for (int i = 0; i < 256; i++) {
+            prefixes.add(String.format("%02x/", i));
+        }
+        return List.copyOf(prefixes);
+    }
+
+    @Data
+    public static class StatusDTO {
+        private boolean enabled;
+        private String cursor;
+        private long runs;
+        private long scanned;
+        private long deletedRows;
+        private long deletedBlobs;
+        private long freedBytes;
+        private long failures;
+        private long lastRunAt;
+        private long lastRunMillis;
+
+        public StatusDTO(OrphanBlobCollector collector) {
+            this.enabled = collector.enabled;
+            this.cursor = collector.startAfter == null ? PREFIXES.get(collector.prefixIndex) : collector.startAfter;
+            this.runs = collector.runs;
+            this.scanned = collector.scanned;
+            this.deletedRows = collector.deletedRows;
+            this.deletedBlobs = collector.deletedBlobs;
+            this.freedBytes = collector.freedBytes;
+            this.failures = collector.failures;
+            this.lastRunAt = collector.lastRunAt;
+            this.lastRunMillis = collector.lastRunMillis;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package org.example.demo_ssr_v1._core.storage;
+
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * S3 호환 저장소 (AWS S3, MinIO 등) - 여러 서버가 같은 버킷을 공유
+ * - 업로드는 로컬 임시 파일에서 해시를 계산한 뒤 한 번만 전송 (ContentAddressedStorage)
+ * - 응답은 서버를 거쳐 스트리밍 (sendfile 대신 FileSender 의 스트림 전송)
+ * SDK 예외(SdkException)는 IOException 으로 바꿔서 로컬 저장소와 같은 방식으로 처리되게 한다.
+ * IoC 대상 아님 (StorageConfig 에서 생성)
+ */
+public class S3BlobStore implements BlobStore {
+
+    private final S3Client s3;
+    private final String bucket;
+    private final Path tempDir;
+
+    public S3BlobStore(S3Client s3, String bucket) {
+        this.s3 = s3;
+        this.bucket = bucket;
+        this.tempDir = Paths.get(System.getProperty("java.io.tmpdir"));
+    }
+
+    @Override
+    public void put(String key, Path source) throws IOException {
+        try {
+            s3.putObject(PutObjectRequest.builder().bucket(bucket).key(key).build(), RequestBody.fromFile(source));
+        } catch (SdkException e) {
+            throw new IOException("S3 업로드 실패: " + key, e);
+        }
+    }
+
+    @Override
+    public void put(String key, byte[] data) throws IOException {
+        try {
+            s3.putObject(PutObjectRequest.builder().bucket(bucket).key(key).build(), RequestBody.fromBytes(data));
+        } catch (SdkException e) {
+            throw new IOException("S3 업로드 실패: " + key, e);
+        }
+    }
+
+    @Override
+    public Optional<BlobInfo> stat(String key) throws IOException {
+        try {
+            HeadObjectResponse head = s3.headObject(HeadObjectRequest.builder().bucket(bucket).key(key).build());
+            return Optional.of(new BlobInfo(key, head.contentLength(), head.lastModified().toEpochMilli()));
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return Optional.empty();
+            }
+            throw new IOException("S3 조회 실패: " + key, e);
+        } catch (SdkException e) {
+            throw new IOException("S3 조회 실패: " + key, e);
+        }
+    }
+
+    @Override
+    public InputStream open(String key, long offset) throws IOException {
+        GetObjectRequest.Builder request = GetObjectRequest.builder().bucket(bucket).key(key);
+        if (offset > 0) {
+            request.range("bytes=" + offset + "-");
+        }
+        try {
+            return s3.getObject(request.build());
+        } catch (NoSuchKeyException e) {
+            throw new NoSuchFileException(key);
+        } catch (SdkException e) {
+            throw new IOException("S3 다운로드 실패: " + key, e);
+        }
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        try {
+            s3.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(key).build());
+        } catch (SdkException e) {
+            throw new IOException("S3 삭제 실패: " + key, e);
+        }
+    }
+
+    // S3 는 key 를 사전 순(UTF-8 바이트 순)으로 돌려주므로 prefix / startAfter 를 그대로 전달
+    @Override
+    public List<BlobInfo> list(String prefix, String startAfter, int limit) throws IOException {
+        ListObjectsV2Request.Builder request = ListObjectsV2Request.builder()
+                .bucket(bucket)
+                .prefix(prefix)
+                .maxKeys(limit);
+        if (startAfter != null) {
+            request.startAfter(startAfter);
+        }
+        try {
+            return s3.listObjectsV2(request.build()).contents().stream()
+                    .map(object -> new BlobInfo(object.key(), object.size(), object.lastModified().toEpochMilli()))
+                    .toList();
+        } catch (SdkException e) {
+            throw new IOException("S3 목록 조회 실패: " + prefix, e);
+        }
+    }
+
+    // S3 는 수정 시각만 바꿀 수 없으므로 같은 key 로 복사 (메타데이터 교체) -> LastModified 갱신, 내용 전송 없음
+    @Override
+    public void touch(String key) throws IOException {
+        try {
+            s3.copyObject(CopyObjectRequest.builder()
+                    .sourceBucket(bucket).sourceKey(key)
+                    .destinationBucket(bucket).destinationKey(key)
+                    .metadataDirective(MetadataDirective.REPLACE)
+                    .build());
+        } catch (SdkException e) {
+            throw new IOException("S3 수정 시각 갱신 실패: " + key, e);
+        }
+    }
+
+    @Override
+    public Path tempDirectory() {
+        return tempDir;
+    }
+
+    public void close() {
+        s3.close();
+    }
+
+    // 시작 시 버킷 확인 (설정 오류를 첫 업로드가 아니라 기동 시점에 발견)
+    public void verifyBucket() throws IOException {
+        try {
+            s3.headBucket(HeadBucketRequest.builder().bucket(bucket).build());
+        } catch (SdkException e) {
+            throw new IOException("S3 버킷에 접근할 수 없습니다: " + bucket, e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.demo_ssr_v1._core.storage;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 업로드 저장소 작업 지표 조회 (축소 이미지 생성 / 고아 파일 정리) (관리자 전용 - AdminInterceptor 가 /admin/** 를 검사함)
+ */
+@RestController
+@RequiredArgsConstructor
+public class StorageApiController {
+
+    private final ImageVariantPipeline imageVariantPipeline;
+    private final OrphanBlobCollector orphanBlobCollector;
+
+    // http://localhost:8080/admin/api/image-variants
+    @GetMapping("/admin/api/image-variants")
+    public ResponseEntity<?> imageVariants() {
+        return ResponseEntity.ok().body(imageVariantPipeline.status());
+    }
+
+    // http://localhost:8080/admin/api/storage-gc
+    @GetMapping("/admin/api/storage-gc")
+    public ResponseEntity<?> storageGc() {
+        return ResponseEntity.ok().body(orphanBlobCollector.status());
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.demo_ssr_v1._core.storage;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.sql.Timestamp;
+
+/**
+ * 저장된 파일 1개 = row 1개 (같은 파일은 row 하나를 여러 곳에서 참조)
+ * refCount 가 0 이 되면 row 를 삭제한다. (실제 파일은 OrphanBlobCollector 가 삭제)
+ *
+ * 기본키는 저장소 key - 같은 내용이라도 확장자가 다르면(.jpg / .jpeg) 다른 파일이므로 참조 횟수도 따로 센다.
+ * (해시를 기본키로 쓰면 두 번째 확장자의 파일은 어느 row 에도 기록되지 않음)
+ * 기존 테이블(기본키 hash)은 ddl-auto: update 로 바뀌지 않으므로 직접 변경
+ *   ALTER TABLE stored_file_tb DROP PRIMARY KEY, ADD PRIMARY KEY (storage_key);
+ */
+@Data
+@NoArgsConstructor
+@Table(
+        name = "stored_file_tb",
+        // 축소본 -> 원본 조회(ImageController), 고아 파일 정리가 해시로 조회
+        indexes = @Index(name = "idx_stored_file_hash", columnList = "hash")
+)
+@Entity
+public class StoredFile {
+
+    // 저장소 key (ab/cd/{hash}.jpg) - User.profileImage 등에 저장되는 값
+    @Id
+    @Column(length = 80)
+    private String storageKey;
+
+    // 내용의 SHA-256 (16진수 64자)
+    @Column(nullable = false, length = 64)
+    private String hash;
+
+    @Column(nullable = false)
+    private long size;
+
+    // 이 파일을 참조하는 곳의 수
+    @Column(nullable = false)
+    private int refCount;
+
+    @CreationTimestamp
+    private Timestamp createdAt;
+
+    public StoredFile(String hash, String storageKey, long size) {
+        this.hash = hash;
+        this.storageKey = storageKey;
+        this.size = size;
+        this.refCount = 1;
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.demo_ssr_v1._core.storage;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface StoredFileRepository extends JpaRepository<StoredFile, String> {
+
+    // 저장 / 해제는 호출한 쪽(회원정보수정 등) 트랜잭션에 참여하므로 clearAutomatically 를 쓰지 않는다.
+    // (영속성 컨텍스트를 비우면 먼저 조회한 User 가 준영속이 되어 그 뒤의 변경이 저장되지 않음)
+
+    // 같은 파일이 동시에 처음 올라와도 row 는 1개 (두 번째 요청은 첫 INSERT 의 커밋을 기다린 뒤 횟수만 증가)
+    // 조회 / UPDATE 후 INSERT 하면 둘 다 0 을 보고 INSERT 해서 기본키 충돌이 난다. (MySQL, H2 MODE=MySQL)
+    @Modifying
+    @Query(value = "INSERT INTO stored_file_tb (hash, storage_key, size, ref_count, created_at) " +
+            "VALUES (:hash, :storageKey, :size, 1, CURRENT_TIMESTAMP) " +
+            "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1", nativeQuery = true)
+    int upsertRef(@Param("hash") String hash, @Param("storageKey") String storageKey, @Param("size") long size);
+
+    // 참조 횟수 증감은 쿼리 한 번으로 처리 (조회 후 변경하면 동시 요청 시 횟수가 틀어짐)
+    @Modifying
+    @Query("UPDATE StoredFile f SET f.refCount = f.refCount - 1 WHERE f.storageKey = :storageKey AND f.refCount > 0")
+    int decrementRefCount(@Param("storageKey") String storageKey);
+
+    // 아무도 참조하지 않을 때만 삭제 (그 사이 다시 참조된 경우 0 반환)
+    @Modifying
+    @Query("DELETE FROM StoredFile f WHERE f.storageKey = :storageKey AND f.refCount <= 0")
+    int deleteIfUnreferenced(@Param("storageKey") String storageKey);
+
+    // 축소본이 아직 없을 때 대신 응답할 원본 (같은 해시의 파일 중 아무거나 - 내용이 같음)
+    Optional<StoredFile> findFirstByHash(String hash);
+
+    // OrphanBlobCollector - 목록 중 회원 프로필 이미지(User.profileImage)로 실제 쓰이고 있는 해시 (row 의 key 와 정확히 일치)
+    @Query("SELECT DISTINCT f.hash FROM StoredFile f WHERE f.hash IN :hashes " +
+            "AND EXISTS (SELECT 1 FROM User u WHERE u.profileImage = f.storageKey)")
+    List<String> findReferencedHashes(@Param("hashes") Collection<String> hashes);
+
+    // OrphanBlobCollector - 위에서 걸러지지 않은 해시를 다시 확인 (row 가 없거나 확장자만 다른 key 를 쓰는 회원)
+    // keyPrefix = ab/cd/{hash}% -> idx_user_profile_image 범위 검색 (해시는 16진수라 LIKE 이스케이프 불필요)
+    @Query("SELECT COUNT(u) > 0 FROM User u WHERE u.profileImage LIKE :keyPrefix")
+    boolean existsProfileImageLike(@Param("keyPrefix") String keyPrefix);
+
+    // OrphanBlobCollector - 참조 횟수와 관계없이 아무도 쓰지 않는 row 삭제 (해제가 실패해서 횟수가 남은 경우 포함)
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM StoredFile f WHERE f.hash IN :hashes " +
+            "AND NOT EXISTS (SELECT 1 FROM User u WHERE u.profileImage = f.storageKey)")
+    int deleteUnreferenced(@Param("hashes") Collection<String> hashes);
+
+    @Query("SELECT DISTINCT f.hash FROM StoredFile f WHERE f.hash IN :hashes")
+    List<String> findExistingHashes(@Param("hashes") Collection<String> hashes);
+}
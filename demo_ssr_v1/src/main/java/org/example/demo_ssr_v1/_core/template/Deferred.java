@@ -0,0 +1,72 @@
+package org.example.demo_ssr_v1._core.template;
+
+import org.example.demo_ssr_v1._core.errors.exception.Exception503;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * 스트리밍 렌더링용 모델 값 - 다른 스레드에서 조회 중인 값 (DeferredFactory.defer 로 생성)
+ *
+ * 템플릿이 이 값을 처음 읽을 때(DeferredCollector) 조회가 아직 끝나지 않았으면
+ * 지금까지 렌더링한 HTML(헤더, 검색 폼 등)을 먼저 브라우저로 보낸 뒤 기다린다.
+ * -> 첫 바이트 응답 시간이 DB 조회 시간과 무관해짐
+ */
+public final class Deferred<T> {
+
+    private final CompletableFuture<T> future;
+    // PrecompiledMustacheView 가 렌더링 직전에 연결 (연결 전이면 먼저 보내지 않고 기다리기만 함)
+    private volatile HtmlChunkWriter out;
+
+    Deferred(CompletableFuture<T> future) {
+        this.future = future;
+    }
+
+    /**
+     * 조회 결과로 계산하는 값 (예: 게시글 작성자인지 여부)
+     */
+    public <R> Deferred<R> map(Function<? super T, ? extends R> mapper) {
+        return new Deferred<>(future.thenApply(mapper));
+    }
+
+    void bind(HtmlChunkWriter out) {
+        this.out = out;
+    }
+
+    T await(long timeoutMillis) {
+        try {
+            HtmlChunkWriter writer = out;
+            if (!future.isDone() && writer != null) {
+                writer.flushToClient();
+            }
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            throw new FailedException(e.getCause());
+        } catch (TimeoutException | CancellationException e) {
+            // 취소 후 다시 읽으면 (템플릿 엔진이 한 번 더 조회함) CancellationException
+            future.cancel(true);
+            throw new FailedException(new Exception503("조회 시간이 초과되었습니다. 잠시 후 다시 시도해 주세요."));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FailedException(e);
+        } catch (IOException e) {
+            // 브라우저가 연결을 끊은 경우
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 조회 중 발생한 예외 (원래 예외는 cause) - PrecompiledMustacheView 가 템플릿 예외에서 찾아서 처리
+     */
+    public static class FailedException extends RuntimeException {
+        FailedException(Throwable cause) {
+            super(cause.getMessage(), cause);
+        }
+    }
+}
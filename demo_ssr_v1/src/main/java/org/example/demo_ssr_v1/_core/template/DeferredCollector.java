@@ -0,0 +1,46 @@
+package org.example.demo_ssr_v1._core.template;
+
+import com.samskivert.mustache.Mustache;
+
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * 값 조회 결과가 Deferred 면 조회가 끝날 때까지 기다려서 실제 값을 돌려주는 Collector
+ * - {{board.title}}, {{#boardPage.content}}, {{^isOwner}} 모두 실제 값 기준으로 동작
+ * - 나머지는 Spring Boot 기본 Collector(MustacheEnvironmentCollector)에 그대로 위임
+ *
+ * IoC 대상 아님 (TemplateConfig 에서 생성)
+ */
+public class DeferredCollector implements Mustache.Collector {
+
+    private final Mustache.Collector delegate;
+    private final long timeoutMillis;
+
+    public DeferredCollector(Mustache.Collector delegate, long timeoutMillis) {
+        this.delegate = delegate;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    public Iterator<?> toIterator(Object value) {
+        return delegate.toIterator(value);
+    }
+
+    @Override
+    public Mustache.VariableFetcher createFetcher(Object ctx, String name) {
+        Mustache.VariableFetcher fetcher = delegate.createFetcher(ctx, name);
+        if (fetcher == null) {
+            return null;
+        }
+        return (context, key) -> {
+            Object value = fetcher.get(context, key);
+            return value instanceof Deferred<?> deferred ? deferred.await(timeoutMillis) : value;
+        };
+    }
+
+    @Override
+    public <K, V> Map<K, V> createFetcherCache() {
+        return delegate.createFetcherCache();
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.demo_ssr_v1._core.template;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * 컨트롤러에서 스트리밍 렌더링용 모델 값 만들기
+ *
+ * model.addAttribute("boardPage", deferredFactory.defer(() -> boardService.게시글목록조회(...)));
+ * - 조회는 전용 스레드 풀에서 바로 시작 -> 그동안 요청 스레드는 헤더를 렌더링해서 먼저 전송
+ * - 값이 여러 개면 동시에 조회 (게시글 상세 + 댓글 목록)
+ * - 풀이 가득 차면 요청 스레드가 직접 조회 (일반 렌더링과 같아짐)
+ * - template.streaming.enabled=false 면 바로 조회 (예외도 컨트롤러에서 발생 -> MyExceptionHandler 가 처리)
+ *
+ * 서비스 메서드는 각자 트랜잭션을 열기 때문에 다른 스레드에서 호출해도 됨 (open-in-view 사용하지 않음)
+ * IoC 대상 아님 (TemplateConfig 에서 생성)
+ */
+public class DeferredFactory {
+
+    private final boolean enabled;
+    private final Executor executor;
+
+    public DeferredFactory(boolean enabled, Executor executor) {
+        this.enabled = enabled;
+        this.executor = executor;
+    }
+
+    public <T> Deferred<T> defer(Supplier<T> query) {
+        if (!enabled) {
+            return new Deferred<>(CompletableFuture.completedFuture(query.get()));
+        }
+        return new Deferred<>(CompletableFuture.supplyAsync(query, executor));
+    }
+}
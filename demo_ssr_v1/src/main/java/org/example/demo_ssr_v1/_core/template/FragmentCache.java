@@ -0,0 +1,143 @@
+package org.example.demo_ssr_v1._core.template;
+
+import com.samskivert.mustache.Mustache;
+import com.samskivert.mustache.Template;
+import lombok.Data;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 렌더링된 HTML 조각 캐시 (게시글 카드, 헤더 등)
+ *
+ * 템플릿에서 {{#fragment.영역이름}} ... {{/fragment.영역이름}} 으로 감싼 부분을
+ * 영역별 key(예: 게시글 id) + 버전(예: 게시글 수정 횟수)으로 캐시한다.
+ * - 버전이 다르면 다시 렌더링 (다른 서버에서 수정된 게시글도 DB 에서 읽은 버전으로 바로 구분)
+ * - 저장 형태는 UTF-8 바이트 -> HtmlChunkWriter 로 응답할 때는 인코딩 없이 그대로 복사
+ * - 영역마다 최대 max-entries 개 (넘치면 임의의 항목을 하나 지우고 저장)
+ *
+ * 영역 등록 / key 규칙은 TemplateConfig, 모델 주입은 PrecompiledMustacheView
+ * IoC 대상 아님 (TemplateConfig 에서 생성)
+ */
+public class FragmentCache {
+
+    /**
+     * @param key 영역 안에서 조각을 구분하는 값
+     * @param version 같은 key 의 내용이 바뀌면 달라지는 값
+     */
+    public record FragmentKey(Object key, long version) {
+    }
+
+    private final boolean enabled;
+    private final int maxEntries;
+    private final Map<String, Region> regions = new LinkedHashMap<>();
+    // 템플릿의 {{#fragment.xxx}} 가 조회하는 값 (영역 이름 -> Lambda)
+    private final Map<String, Mustache.Lambda> lambdas = new LinkedHashMap<>();
+
+    public FragmentCache(boolean enabled, int maxEntries) {
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * @param keyOf 조각이 렌더링되는 위치의 컨텍스트(섹션 안이면 그 항목, 최상위면 모델 Map) -> key
+     *              null 을 반환하면 캐시하지 않고 그대로 렌더링
+     */
+    public void register(String name, Function<Object, FragmentKey> keyOf) {
+        Region region = new Region(name, keyOf);
+        regions.put(name, region);
+        lambdas.put(name, region::execute);
+    }
+
+    public Map<String, Mustache.Lambda> lambdas() {
+        return lambdas;
+    }
+
+    public void invalidate(String name, Object key) {
+        Region region = regions.get(name);
+        if (region != null) {
+            region.entries.remove(key);
+        }
+    }
+
+    // 템플릿이 바뀐 경우 (개발 환경 자동 반영)
+    public void clear() {
+        regions.values().forEach(region -> region.entries.clear());
+    }
+
+    public List<StatusDTO> status() {
+        return regions.values().stream().map(StatusDTO::new).toList();
+    }
+
+    private record Entry(long version, byte[] html) {
+    }
+
+    private class Region {
+
+        private final String name;
+        private final Function<Object, FragmentKey> keyOf;
+        private final Map<Object, Entry> entries = new ConcurrentHashMap<>();
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder evictions = new LongAdder();
+
+        Region(String name, Function<Object, FragmentKey> keyOf) {
+            this.name = name;
+            this.keyOf = keyOf;
+        }
+
+        void execute(Template.Fragment fragment, Writer out) throws IOException {
+            FragmentKey key = enabled ? keyOf.apply(fragment.context()) : null;
+            if (key == null) {
+                fragment.execute(out);
+                return;
+            }
+            Entry entry = entries.get(key.key());
+            if (entry != null && entry.version() == key.version()) {
+                hits.increment();
+            } else {
+                misses.increment();
+                entry = new Entry(key.version(), fragment.execute().getBytes(StandardCharsets.UTF_8));
+                if (entries.size() >= maxEntries && !entries.containsKey(key.key())) {
+                    evictOne();
+                }
+                entries.put(key.key(), entry);
+            }
+            HtmlChunkWriter.write(out, entry.html());
+        }
+
+        private void evictOne() {
+            Iterator<Object> iterator = entries.keySet().iterator();
+            if (iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    @Data
+    public static class StatusDTO {
+        private String region;
+        private int entries;
+        private long hits;
+        private long misses;
+        private long evictions;
+        private long hitRatePercent;
+
+        StatusDTO(Region region) {
+            this.region = region.name;
+            this.entries = region.entries.size();
+            this.hits = region.hits.sum();
+            this.misses = region.misses.sum();
+            this.evictions = region.evictions.sum();
+            long total = hits + misses;
+            this.hitRatePercent = total == 0 ? 0 : hits * 100 / total;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.demo_ssr_v1._core.template;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * UTF-8 응답 Writer - 템플릿이 쓰는 문자열은 모아서 인코딩하고, 캐시된 조각(이미 UTF-8 바이트)은 그대로 복사
+ *
+ * 응답 OutputStream 을 직접 사용하므로 UTF-8 응답에서만 사용 (PrecompiledMustacheView 에서 확인)
+ */
+public class HtmlChunkWriter extends Writer {
+
+    private static final int FLUSH_THRESHOLD = 8 * 1024;
+
+    private final OutputStream out;
+    private final StringBuilder pending = new StringBuilder(FLUSH_THRESHOLD);
+
+    public HtmlChunkWriter(OutputStream out) {
+        this.out = out;
+    }
+
+    /**
+     * 캐시된 조각 쓰기 - HtmlChunkWriter 가 아니면 (워밍업, 다른 인코딩 응답) 문자열로 바꿔서 씀
+     */
+    public static void write(Writer writer, byte[] utf8) throws IOException {
+        if (writer instanceof HtmlChunkWriter chunkWriter) {
+            chunkWriter.writeBytes(utf8);
+        } else {
+            writer.write(new String(utf8, StandardCharsets.UTF_8));
+        }
+    }
+
+    public void writeBytes(byte[] utf8) throws IOException {
+        flushPending();
+        out.write(utf8);
+    }
+
+    @Override
+    public void write(char[] chars, int offset, int length) throws IOException {
+        pending.append(chars, offset, length);
+        flushIfFull();
+    }
+
+    @Override
+    public void write(String str, int offset, int length) throws IOException {
+        pending.append(str, offset, offset + length);
+        flushIfFull();
+    }
+
+    // 응답 버퍼까지만 넘김 (out.flush 는 하지 않음 - 렌더링 중간에 응답이 커밋되지 않게)
+    @Override
+    public void flush() throws IOException {
+        flushPending();
+    }
+
+    @Override
+    public void close() throws IOException {
+        flushPending();
+    }
+
+    /**
+     * 지금까지 쓴 내용을 브라우저로 바로 전송 (스트리밍 렌더링 - Deferred 값을 기다리기 전)
+     * 응답이 커밋되므로 이후에는 상태 코드 / 헤더를 바꿀 수 없음
+     */
+    public void flushToClient() throws IOException {
+        flushPending();
+        out.flush();
+    }
+
+    // 아직 응답 버퍼로 넘기지 않은 내용 버리기 (커밋 전 오류 응답으로 바꿀 때)
+    public void discardPending() {
+        pending.setLength(0);
+    }
+
+    // 서로게이트 쌍(이모지 등)이 나뉘어 인코딩되지 않도록 마지막 글자가 앞쪽 반이면 다음 쓰기까지 기다림
+    private void flushIfFull() throws IOException {
+        if (pending.length() >= FLUSH_THRESHOLD && !Character.isHighSurrogate(pending.charAt(pending.length() - 1))) {
+            flushPending();
+        }
+    }
+
+    private void flushPending() throws IOException {
+        if (!pending.isEmpty()) {
+            out.write(pending.toString().getBytes(StandardCharsets.UTF_8));
+            pending.setLength(0);
+        }
+    }
+}
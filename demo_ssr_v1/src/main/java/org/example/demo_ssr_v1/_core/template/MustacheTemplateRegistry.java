@@ -0,0 +1,270 @@
+package org.example.demo_ssr_v1._core.template;
+
+import com.samskivert.mustache.Mustache;
+import com.samskivert.mustache.Template;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * 컴파일된 Mustache 템플릿 보관소 (템플릿 이름 -> Template)
+ *
+ * Spring Boot 기본 MustacheView 는 렌더링할 때마다 템플릿 파일을 읽고 다시 컴파일한다.
+ * (spring.mustache.servlet.cache 는 View 객체 캐시일 뿐 컴파일 결과는 캐시하지 않음, 부분 템플릿도 매번 다시 읽음)
+ * -> 시작 시 templates/ 아래 전체를 한 번 읽어서 컴파일해 두고 PrecompiledMustacheView 가 그대로 사용
+ *
+ * - 부분 템플릿({{> layout/header}})도 메모리에 읽어 둔 원본으로 불러옴 (클래스패스를 다시 읽지 않음)
+ * - 워밍업: 모든 키에 값이 있는 예시 모델로 한 번씩 렌더링
+ *   -> 부분 템플릿 연결, 값 조회 캐시, JIT 가 첫 요청 전에 끝남
+ * - 템플릿별 렌더링 횟수 / 평균 / 최대 시간 기록 (/admin/api/templates)
+ * - 개발 환경은 TemplateFileWatcher 가 파일이 바뀔 때마다 load() 로 전체를 다시 컴파일
+ * IoC 대상 아님 (TemplateConfig 에서 생성)
+ */
+@Slf4j
+public class MustacheTemplateRegistry {
+
+    private final Mustache.Compiler compiler;
+    private final String prefix;
+    private final String suffix;
+    private final Charset charset;
+
+    // 다시 불러올 때 통째로 교체 (렌더링 중인 요청은 이전 템플릿으로 끝까지 처리)
+    private volatile Map<String, Template> templates = Map.of();
+    private final Map<String, RenderStats> stats = new ConcurrentHashMap<>();
+
+    private volatile long loadedAt;
+    private volatile int sourceHash;
+    private volatile long compileMillis;
+    private volatile long warmUpMillis;
+    private volatile List<String> warmUpFailures = List.of();
+    private final LongAdder reloads = new LongAdder();
+
+    public MustacheTemplateRegistry(Mustache.Compiler compiler, String prefix, String suffix, Charset charset) {
+        this.compiler = compiler;
+        this.prefix = prefix.endsWith("/") ? prefix : prefix + "/";
+        this.suffix = suffix;
+        this.charset = charset;
+    }
+
+    /**
+     * 클래스패스의 prefix 아래 모든 템플릿 읽기 (예: classpath:/templates/board/list.mustache -> board/list)
+     */
+    public Map<String, String> readSources() throws IOException {
+        ResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+        String root = resolver.getResource(prefix).getURL().toString();
+        Map<String, String> sources = new TreeMap<>();
+        for (Resource resource : resolver.getResources(prefix + "**/*" + suffix)) {
+            String url = resource.getURL().toString();
+            if (!url.startsWith(root)) {
+                continue;
+            }
+            String name = url.substring(root.length(), url.length() - suffix.length());
+            try (InputStream in = resource.getInputStream()) {
+                sources.put(name, new String(in.readAllBytes(), charset));
+            }
+        }
+        return sources;
+    }
+
+    /**
+     * 폴더에서 직접 읽기 (개발 환경 - src/main/resources/templates 를 고치면 빌드 없이 반영)
+     */
+    public Map<String, String> readSources(Path dir) throws IOException {
+        Map<String, String> sources = new TreeMap<>();
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                String relative = dir.relativize(path).toString().replace('\\', '/');
+                if (Files.isRegularFile(path) && relative.endsWith(suffix)) {
+                    sources.put(relative.substring(0, relative.length() - suffix.length()), Files.readString(path, charset));
+                }
+            }
+        }
+        return sources;
+    }
+
+    /**
+     * 전체 컴파일 후 교체 - 하나라도 컴파일에 실패하면 예외 (기존 템플릿은 그대로 유지)
+     */
+    public void load(Map<String, String> sources) {
+        long start = System.nanoTime();
+        // 부분 템플릿은 같은 원본 묶음에서 찾고, 없을 때만 기본 로더(클래스패스)로 읽음
+        Mustache.Compiler partialCompiler = compiler.withLoader(name -> {
+            String source = sources.get(name);
+            return source != null ? new StringReader(source) : compiler.loader.getTemplate(name);
+        });
+
+        Map<String, Template> compiled = new HashMap<>();
+        sources.forEach((name, source) -> {
+            try {
+                compiled.put(name, partialCompiler.compile(source));
+            } catch (RuntimeException e) {
+                throw new IllegalStateException("템플릿 컴파일 실패: " + name + " - " + e.getMessage(), e);
+            }
+        });
+        compileMillis = (System.nanoTime() - start) / 1_000_000;
+
+        List<String> failures = warmUp(compiled);
+        templates = Map.copyOf(compiled);
+        loadedAt = System.currentTimeMillis();
+        sourceHash = new TreeMap<>(sources).hashCode();
+        reloads.increment();
+        log.info("Mustache 템플릿 {}개 컴파일 ({}ms) + 워밍업 ({}ms, 실패 {}개)",
+                compiled.size(), compileMillis, warmUpMillis, failures.size());
+    }
+
+    private List<String> warmUp(Map<String, Template> compiled) {
+        long start = System.nanoTime();
+        List<String> failures = new ArrayList<>();
+        WarmUpModel model = new WarmUpModel();
+        compiled.forEach((name, template) -> {
+            try {
+                template.execute(model, Writer.nullWriter());
+            } catch (RuntimeException e) {
+                // 예시 모델로 표현할 수 없는 템플릿 (실제 요청은 정상 처리됨) - 해당 템플릿만 첫 요청 때 마저 준비됨
+                failures.add(name);
+                log.debug("템플릿 워밍업 실패 - {}: {}", name, e.getMessage());
+            }
+        });
+        warmUpMillis = (System.nanoTime() - start) / 1_000_000;
+        warmUpFailures = List.copyOf(failures);
+        return failures;
+    }
+
+    /**
+     * @param url 뷰 URL (prefix + 이름 + suffix, 예: classpath:/templates/board/list.mustache)
+     * @return 없으면 null (기본 MustacheView 처리로 넘어감)
+     */
+    public Template get(String url) {
+        if (!url.startsWith(prefix) || !url.endsWith(suffix)) {
+            return null;
+        }
+        return templates.get(nameOf(url));
+    }
+
+    // 마지막으로 컴파일한 시각
+    public long getLoadedAt() {
+        return loadedAt;
+    }
+
+    // 마지막으로 컴파일한 템플릿 원본 해시 (템플릿이 바뀌면 화면 ETag 도 달라지도록 - BoardPageVersion)
+    // 시각과 달리 같은 배포본이면 서버가 달라도 같은 값
+    public int getSourceHash() {
+        return sourceHash;
+    }
+
+    /**
+     * @param name 템플릿 이름 (예: err/404)
+     */
+    public Template getByName(String name) {
+        return templates.get(name);
+    }
+
+    public String nameOf(String url) {
+        return url.substring(prefix.length(), url.length() - suffix.length());
+    }
+
+    public void record(String name, long nanos) {
+        stats.computeIfAbsent(name, key -> new RenderStats()).add(nanos);
+    }
+
+    public StatusDTO status() {
+        return new StatusDTO(this);
+    }
+
+    private static class RenderStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        void add(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+    }
+
+    /**
+     * 워밍업용 예시 모델 - 어떤 키를 조회해도 자기 자신을 돌려준다.
+     * {{#섹션}} 은 한 번 렌더링, {{값}} / {{a.b}} 는 빈 문자열 -> 템플릿의 거의 모든 부분을 한 번씩 실행
+     */
+    private static class WarmUpModel extends AbstractMap<String, Object> {
+
+        @Override
+        public boolean containsKey(Object key) {
+            return true;
+        }
+
+        @Override
+        public Object get(Object key) {
+            return this;
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return Set.of();
+        }
+
+        @Override
+        public String toString() {
+            return "";
+        }
+    }
+
+    @Data
+    public static class StatusDTO {
+        private int templates;
+        private long loadedAt;
+        private long compileMillis;
+        private long warmUpMillis;
+        private List<String> warmUpFailures;
+        private long reloads;
+        private List<ViewDTO> views;
+
+        public StatusDTO(MustacheTemplateRegistry registry) {
+            this.templates = registry.templates.size();
+            this.loadedAt = registry.loadedAt;
+            this.compileMillis = registry.compileMillis;
+            this.warmUpMillis = registry.warmUpMillis;
+            this.warmUpFailures = registry.warmUpFailures;
+            // 첫 load 는 시작 시 컴파일이므로 제외
+            this.reloads = Math.max(0, registry.reloads.sum() - 1);
+            this.views = registry.stats.entrySet().stream()
+                    .map(entry -> new ViewDTO(entry.getKey(), entry.getValue()))
+                    .sorted(Comparator.comparingLong(ViewDTO::getTotalMillis).reversed())
+                    .toList();
+        }
+    }
+
+    @Data
+    public static class ViewDTO {
+        private String view;
+        private long renders;
+        private long avgMicros;
+        private long maxMicros;
+        private long totalMillis;
+
+        public ViewDTO(String view, RenderStats stats) {
+            this.view = view;
+            this.renders = stats.count.sum();
+            long total = stats.totalNanos.sum();
+            this.avgMicros = renders == 0 ? 0 : total / renders / 1_000;
+            this.maxMicros = stats.maxNanos.get() / 1_000;
+            this.totalMillis = total / 1_000_000;
+        }
+    }
+}
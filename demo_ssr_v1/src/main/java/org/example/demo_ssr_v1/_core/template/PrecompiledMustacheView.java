@@ -0,0 +1,155 @@
+package org.example.demo_ssr_v1._core.template;
+
+import com.samskivert.mustache.Template;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.example.demo_ssr_v1._core.errors.exception.*;
+import org.springframework.boot.web.servlet.view.MustacheView;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * 미리 컴파일된 템플릿(MustacheTemplateRegistry)으로 렌더링하는 뷰 + 템플릿별 렌더링 시간 기록
+ * - 모델에 조각 캐시(FragmentCache) 를 "fragment" 로 추가 -> {{#fragment.boardCard}} ... {{/fragment.boardCard}}
+ * - UTF-8 응답은 HtmlChunkWriter 로 출력 (캐시된 조각 바이트를 그대로 복사)
+ * - 스트리밍 렌더링: 모델의 Deferred 값을 기다리기 전에 그때까지 렌더링한 HTML 을 먼저 전송
+ *   조회 중 예외가 나면 MyExceptionHandler 처럼 alert 스크립트로 응답 (이미 보낸 헤더 뒤에 붙음)
+ * - ETag 가 붙은 응답(BoardPageVersion)은 먼저 보내지 않음 - 조회가 모두 끝난 뒤 렌더링
+ *   실패 화면이 ETag 와 함께 캐시되면 다시 방문할 때 304 로 실패 화면을 재사용하게 됨
+ * 보관소에 없는 템플릿은 기본 MustacheView 처리 (파일을 읽어서 컴파일)
+ *
+ * ViewResolver 가 직접 생성하므로 IoC 대상 아님 (TemplateConfig 에서 MustacheViewResolver 의 뷰 클래스로 지정)
+ */
+@Slf4j
+public class PrecompiledMustacheView extends MustacheView {
+
+    private static final String FRAGMENT_ATTRIBUTE = "fragment";
+
+    private volatile MustacheTemplateRegistry registry;
+    private FragmentCache fragmentCache;
+    private long streamingTimeoutMillis;
+
+    @Override
+    protected void renderMergedTemplateModel(Map<String, Object> model, HttpServletRequest request,
+                                             HttpServletResponse response) throws Exception {
+        init();
+        // 기본 처리로 넘어가는 템플릿도 {{#fragment.xxx}} 를 쓸 수 있으므로 먼저 추가
+        model.putIfAbsent(FRAGMENT_ATTRIBUTE, fragmentCache.lambdas());
+        Template template = registry.get(getUrl());
+        if (template == null) {
+            super.renderMergedTemplateModel(model, request, response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean conditional = response.containsHeader(HttpHeaders.ETAG);
+        Writer out;
+        if (StandardCharsets.UTF_8.name().equalsIgnoreCase(response.getCharacterEncoding())) {
+            HtmlChunkWriter chunkWriter = new HtmlChunkWriter(response.getOutputStream());
+            if (!conditional) {
+                model.values().forEach(value -> {
+                    if (value instanceof Deferred<?> deferred) {
+                        deferred.bind(chunkWriter);
+                    }
+                });
+            }
+            out = chunkWriter;
+        } else {
+            out = response.getWriter();
+        }
+        try {
+            if (conditional) {
+                // 연결하지 않은 Deferred 는 먼저 보내지 않고 기다리기만 함 (실패하면 아직 아무것도 보내지 않은 상태)
+                for (Object value : model.values()) {
+                    if (value instanceof Deferred<?> deferred) {
+                        deferred.await(streamingTimeoutMillis);
+                    }
+                }
+            }
+            template.execute(model, out);
+        } catch (RuntimeException e) {
+            Deferred.FailedException failed = findFailure(e);
+            if (failed == null) {
+                throw e;
+            }
+            writeFailure(failed.getCause(), out, request, response);
+        }
+        out.flush();
+        registry.record(registry.nameOf(getUrl()), System.nanoTime() - start);
+    }
+
+    // 템플릿 엔진이 감싼 예외에서 Deferred 조회 실패 찾기
+    private static Deferred.FailedException findFailure(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof Deferred.FailedException failed) {
+                return failed;
+            }
+        }
+        return null;
+    }
+
+    private static void writeFailure(Throwable cause, Writer out, HttpServletRequest request,
+                                     HttpServletResponse response) throws IOException {
+        HttpStatus status = statusOf(cause);
+        if (status.is5xxServerError()) {
+            log.warn("스트리밍 렌더링 중 조회 실패 ({}) - {}", request.getRequestURI(), cause.toString());
+        }
+        // 아직 아무것도 보내지 않았으면 렌더링한 내용을 버리고 상태 코드도 맞춤
+        if (!response.isCommitted()) {
+            if (out instanceof HtmlChunkWriter chunkWriter) {
+                chunkWriter.discardPending();
+            }
+            if (response.containsHeader(HttpHeaders.ETAG)) {
+                // 실패 화면에는 ETag 를 붙이지 않음 (헤더까지 비우고 Content-Type 만 다시 지정)
+                String contentType = response.getContentType();
+                response.reset();
+                response.setContentType(contentType);
+            } else {
+                response.resetBuffer();
+            }
+            response.setStatus(status.value());
+        }
+        String message = status.is5xxServerError() && !(cause instanceof Exception503)
+                ? "일시적인 오류가 발생했습니다." : String.valueOf(cause.getMessage());
+        String next = status == HttpStatus.UNAUTHORIZED ? "location.href = '/login';" : "history.back();";
+        out.write("<script>alert('" + escapeScript(message) + "');" + next + "</script>");
+    }
+
+    private static HttpStatus statusOf(Throwable cause) {
+        if (cause instanceof Exception400) {
+            return HttpStatus.BAD_REQUEST;
+        } else if (cause instanceof Exception401) {
+            return HttpStatus.UNAUTHORIZED;
+        } else if (cause instanceof Exception403) {
+            return HttpStatus.FORBIDDEN;
+        } else if (cause instanceof Exception404) {
+            return HttpStatus.NOT_FOUND;
+        } else if (cause instanceof Exception503) {
+            return HttpStatus.SERVICE_UNAVAILABLE;
+        }
+        return HttpStatus.INTERNAL_SERVER_ERROR;
+    }
+
+    // 자바스크립트 문자열 안에 넣는 값 (작은따옴표, 줄바꿈, </script> 방지)
+    private static String escapeScript(String message) {
+        return message.replace("\\", "\\\\").replace("'", "\\'")
+                .replace("\n", "\\n").replace("\r", "").replace("<", "\\x3C");
+    }
+
+    // 뷰는 빈 주입 대상이 아니므로 처음 렌더링할 때 컨텍스트에서 꺼냄
+    private void init() {
+        if (registry == null) {
+            // registry 를 마지막에 넣어야 다른 스레드가 registry 만 보고 fragmentCache 를 null 로 쓰지 않음
+            fragmentCache = obtainApplicationContext().getBean(FragmentCache.class);
+            streamingTimeoutMillis = obtainApplicationContext().getEnvironment()
+                    .getProperty("template.streaming.timeout-ms", Long.class, 10_000L);
+            registry = obtainApplicationContext().getBean(MustacheTemplateRegistry.class);
+        }
+    }
+}
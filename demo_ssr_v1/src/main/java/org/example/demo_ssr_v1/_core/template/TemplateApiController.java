@@ -0,0 +1,29 @@
+package org.example.demo_ssr_v1._core.template;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 템플릿 컴파일 / 워밍업 결과, 뷰별 렌더링 시간, 조각 캐시 적중률 조회 (관리자 전용 - AdminInterceptor 가 /admin/** 를 검사함)
+ */
+@RestController
+@RequiredArgsConstructor
+public class TemplateApiController {
+
+    private final MustacheTemplateRegistry mustacheTemplateRegistry;
+    private final FragmentCache fragmentCache;
+
+    // http://localhost:8080/admin/api/templates
+    @GetMapping("/admin/api/templates")
+    public ResponseEntity<?> templates() {
+        return ResponseEntity.ok().body(mustacheTemplateRegistry.status());
+    }
+
+    // http://localhost:8080/admin/api/fragment-cache
+    @GetMapping("/admin/api/fragment-cache")
+    public ResponseEntity<?> fragmentCache() {
+        return ResponseEntity.ok().body(fragmentCache.status());
+    }
+}
@@ -0,0 +1,104 @@
+package org.example.demo_ssr_v1._core.template;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 개발 환경 템플릿 자동 반영 - 템플릿 폴더가 바뀌면 전체를 다시 컴파일 (dev 프로필에서만 생성)
+ *
+ * - 한 파일만 바뀌어도 전체를 다시 컴파일 (부분 템플릿을 포함한 템플릿까지 함께 갱신, 수십 개라 금방 끝남)
+ * - 저장 시 이벤트가 여러 번 오므로 debounce-ms 동안 모아서 한 번만 처리
+ * - 컴파일에 실패하면 기존 템플릿을 그대로 사용하고 로그만 남김
+ * IoC 대상 아님 (TemplateConfig 에서 생성)
+ */
+@Slf4j
+public class TemplateFileWatcher {
+
+    private final MustacheTemplateRegistry registry;
+    private final Path dir;
+    private final long debounceMillis;
+    private final Runnable afterReload;
+
+    private WatchService watchService;
+    private Thread thread;
+
+    /**
+     * @param afterReload 다시 컴파일한 뒤 실행 (조각 캐시 비우기 등)
+     */
+    public TemplateFileWatcher(MustacheTemplateRegistry registry, Path dir, long debounceMillis, Runnable afterReload) {
+        this.registry = registry;
+        this.dir = dir.toAbsolutePath().normalize();
+        this.debounceMillis = debounceMillis;
+        this.afterReload = afterReload;
+    }
+
+    public void start() throws IOException {
+        if (!Files.isDirectory(dir)) {
+            log.warn("템플릿 폴더가 없어 자동 반영을 사용하지 않습니다: {}", dir);
+            return;
+        }
+        watchService = dir.getFileSystem().newWatchService();
+        registerAll();
+        thread = new Thread(this::run, "template-watcher");
+        thread.setDaemon(true);
+        thread.start();
+        log.info("템플릿 자동 반영 사용 - {}", dir);
+    }
+
+    public void stop() throws IOException {
+        if (thread != null) {
+            thread.interrupt();
+        }
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+
+    private void run() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = watchService.take();
+                drain(key);
+                // 같은 저장에서 이어지는 이벤트를 모아서 한 번만 다시 컴파일
+                WatchKey next;
+                while ((next = watchService.poll(debounceMillis, TimeUnit.MILLISECONDS)) != null) {
+                    drain(next);
+                }
+                reload();
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // 종료
+        }
+    }
+
+    private void reload() {
+        try {
+            registerAll(); // 새로 만든 하위 폴더도 감시
+            registry.load(registry.readSources(dir));
+            afterReload.run();
+        } catch (IOException | RuntimeException e) {
+            log.warn("템플릿 다시 불러오기 실패 (기존 템플릿 유지) - {}", e.getMessage());
+        }
+    }
+
+    // 하위 폴더까지 감시 (WatchService 는 등록한 폴더 바로 아래만 알려 줌, 같은 폴더를 다시 등록해도 무방)
+    private void registerAll() throws IOException {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                if (Files.isDirectory(path)) {
+                    path.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                            StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+                }
+            }
+        }
+    }
+
+    private static void drain(WatchKey key) {
+        key.pollEvents();
+        key.reset();
+    }
+}
@@ -0,0 +1,135 @@
+package org.example.demo_ssr_v1._core.utils;
+
+import org.w3c.dom.Node;
+
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JPEG EXIF 의 Orientation(0x0112) 태그 처리
+ *
+ * 휴대폰 사진은 픽셀은 가로로 저장하고 "90도 돌려서 보여라" 태그만 붙이는 경우가 많다.
+ * 축소본은 메타데이터 없이 다시 저장되므로 태그대로 미리 돌려 두어야 한다.
+ * IoC 대상 아님 static 메서드로 사용 (JDK ImageIO 의 JPEG 메타데이터만 사용)
+ */
+public class ExifOrientation {
+
+    public static final int NORMAL = 1;
+
+    private static final String JPEG_METADATA_FORMAT = "javax_imageio_jpeg_image_1.0";
+    private static final String APP1_MARKER_TAG = "225";
+    private static final byte[] EXIF_HEADER = "Exif\0\0".getBytes(StandardCharsets.US_ASCII);
+    private static final int ORIENTATION_TAG = 0x0112;
+
+    /**
+     * 메타데이터에서 Orientation 값(1 ~ 8)을 읽는다.
+     * JPEG 가 아니거나 태그가 없거나 깨져 있으면 NORMAL
+     */
+    public static int read(IIOMetadata metadata) {
+        if (metadata == null || !JPEG_METADATA_FORMAT.equals(metadata.getNativeMetadataFormatName())) {
+            return NORMAL;
+        }
+        try {
+            Node root = metadata.getAsTree(JPEG_METADATA_FORMAT);
+            for (Node node : children(root, "markerSequence")) {
+                for (Node marker : children(node, "unknown")) {
+                    Node tag = marker.getAttributes().getNamedItem("MarkerTag");
+                    if (tag != null && APP1_MARKER_TAG.equals(tag.getNodeValue())
+                            && ((IIOMetadataNode) marker).getUserObject() instanceof byte[] data) {
+                        int orientation = parseApp1(data);
+                        if (orientation != NORMAL) {
+                            return orientation;
+                        }
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            // 메타데이터가 깨져 있어도 이미지는 그대로 사용
+        }
+        return NORMAL;
+    }
+
+    /**
+     * Orientation 대로 돌리거나 뒤집은 이미지 (NORMAL 이면 그대로 반환)
+     * 5 ~ 8 은 가로 / 세로가 바뀐다.
+     */
+    public static BufferedImage apply(BufferedImage source, int orientation) {
+        if (orientation < 2 || orientation > 8) {
+            return source;
+        }
+        int w = source.getWidth();
+        int h = source.getHeight();
+        // new AffineTransform(m00, m10, m01, m11, m02, m12) -> x' = m00*x + m01*y + m02, y' = m10*x + m11*y + m12
+        AffineTransform transform = switch (orientation) {
+            case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);  // 좌우 반전
+            case 3 -> new AffineTransform(-1, 0, 0, -1, w, h); // 180도
+            case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);  // 상하 반전
+            case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);   // 대각선 반전
+            case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);  // 시계 방향 90도
+            case 7 -> new AffineTransform(0, -1, -1, 0, h, w); // 반대 대각선 반전
+            default -> new AffineTransform(0, -1, 1, 0, 0, w); // 8: 반시계 방향 90도
+        };
+        boolean swap = orientation >= 5;
+        int type = source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage target = new BufferedImage(swap ? h : w, swap ? w : h, type);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.drawImage(source, transform, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    // APP1 = "Exif\0\0" + TIFF (바이트 순서 II/MM, 42, IFD0 위치) -> IFD0 항목 중 Orientation
+    static int parseApp1(byte[] data) {
+        if (data.length < EXIF_HEADER.length + 8) {
+            return NORMAL;
+        }
+        for (int i = 0; i < EXIF_HEADER.length; i++) {
+            if (data[i] != EXIF_HEADER[i]) {
+                return NORMAL;
+            }
+        }
+        ByteBuffer tiff = ByteBuffer.wrap(data, EXIF_HEADER.length, data.length - EXIF_HEADER.length).slice();
+        if (tiff.get(0) == 'I' && tiff.get(1) == 'I') {
+            tiff.order(ByteOrder.LITTLE_ENDIAN);
+        } else if (tiff.get(0) != 'M' || tiff.get(1) != 'M') {
+            return NORMAL;
+        }
+        int ifd = tiff.getInt(4);
+        if (ifd < 8 || ifd + 2 > tiff.limit()) {
+            return NORMAL;
+        }
+        int count = tiff.getShort(ifd) & 0xFFFF;
+        for (int i = 0; i < count; i++) {
+            int entry = ifd + 2 + i * 12;
+            if (entry + 12 > tiff.limit()) {
+                break;
+            }
+            if ((tiff.getShort(entry) & 0xFFFF) == ORIENTATION_TAG) {
+                int value = tiff.getShort(entry + 8) & 0xFFFF; // SHORT 1개 -> 값 영역 앞 2바이트
+                return value >= 1 && value <= 8 ? value : NORMAL;
+            }
+        }
+        return NORMAL;
+    }
+
+    private static List<Node> children(Node parent, String name) {
+        List<Node> result = new ArrayList<>();
+        for (Node child = parent.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (name.equals(child.getNodeName())) {
+                result.add(child);
+            }
+        }
+        return result;
+    }
+}
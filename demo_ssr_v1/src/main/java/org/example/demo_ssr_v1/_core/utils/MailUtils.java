@@ -1,16 +1,18 @@
 package org.example.demo_ssr_v1._core.utils;
 
-import java.util.Random;
+import java.security.SecureRandom;
 
 public class MailUtils {
+    // 인증번호는 추측할 수 없어야 하므로 SecureRandom 사용 (스레드 안전 - 하나를 공유)
+    private static final SecureRandom RANDOM = new SecureRandom();
+
     // 정적 메서드로 랜덤 번호 6자리 생성하는 헬프 메서드
     public static String generateRandomCode() {
-        Random random = new Random();
         // 0 ~ 899999 (하나의 랜덤 숫자 생성)
         // 1. 0
         // 2. 12
         // -> 반드시 여섯자리 번호를 생성 시켜야 함
-        int code = 100_000 + random.nextInt(900_000);
+        int code = 100_000 + RANDOM.nextInt(900_000);
 
         return String.valueOf(code);
     }
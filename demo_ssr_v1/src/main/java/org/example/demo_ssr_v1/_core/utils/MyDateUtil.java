@@ -4,10 +4,58 @@ import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
+/**
+ * 화면 표시용 날짜 포맷 (yyyy-MM-dd HH:mm:ss)
+ *
+ * 목록 DTO 가 행마다 호출하므로 (게시글 / 댓글 / 결제 내역 ...)
+ * - 기존: 호출할 때마다 DateTimeFormatter.ofPattern -> 패턴 파싱 + 포맷 객체 여러 개 생성
+ * - 변경: 숫자를 두 자리씩 미리 만들어 둔 표에서 19 글자 배열에 바로 채움 (결과 문자열 외에는 할당 없음)
+ *   연도가 4 자리가 아니면 기존과 같은 FORMATTER 로 처리
+ * 비교: src/jmh/java/.../_core/utils/MyDateUtilBenchmark
+ */
 public class MyDateUtil {
+
+    public static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    // "00" ~ "99" 의 십의 자리 / 일의 자리 글자
+    private static final char[] TENS = new char[100];
+    private static final char[] ONES = new char[100];
+
+    static {
+        for (int i = 0; i < 100; i++) {
+            TENS[i] = (char) ('0' + i / 10);
+            ONES[i] = (char) ('0' + i % 10);
+        }
+    }
+
     // 정적 메서드 (기능) 시간 포멧터 기능 한개.
     public static String time(Timestamp timestamp) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-        return timestamp.toLocalDateTime().format(formatter);
+        return time(timestamp.toLocalDateTime());
+    }
+
+    public static String time(LocalDateTime dateTime) {
+        int year = dateTime.getYear();
+        if (year < 1000 || year > 9999) {
+            return dateTime.format(FORMATTER);
+        }
+        char[] chars = new char[19];
+        put(chars, 0, year / 100);
+        put(chars, 2, year % 100);
+        chars[4] = '-';
+        put(chars, 5, dateTime.getMonthValue());
+        chars[7] = '-';
+        put(chars, 8, dateTime.getDayOfMonth());
+        chars[10] = ' ';
+        put(chars, 11, dateTime.getHour());
+        chars[13] = ':';
+        put(chars, 14, dateTime.getMinute());
+        chars[16] = ':';
+        put(chars, 17, dateTime.getSecond());
+        return new String(chars);
+    }
+
+    private static void put(char[] chars, int index, int twoDigits) {
+        chars[index] = TENS[twoDigits];
+        chars[index + 1] = ONES[twoDigits];
     }
 }
@@ -0,0 +1,142 @@
+package org.example.demo_ssr_v1._core.verification;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.demo_ssr_v1._core.errors.exception.Exception503;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 메모리 인증번호 저장소 (서버 1대용)
+ *
+ * - 조회 / 저장 / 검증: ConcurrentHashMap 키 하나에 대한 연산 -> O(1), 키 단위 잠금
+ * - 만료: 모든 인증번호의 TTL 이 같으므로 저장한 순서 = 만료 순서
+ *   -> 저장 순서대로 FIFO 큐에 넣고, 1초마다 앞에서부터 만료된 것만 꺼내서 삭제 (만료된 개수만큼만 작업)
+ *   -> 정리 주기 사이에 만료된 번호는 verify 에서 만료 시각으로 한 번 더 걸러낸다.
+ * - 메모리 상한: maxEntries 개를 넘으면 새 발급을 Exception503 으로 거절
+ *   (인증번호 1개 = 맵 노드 + 키 문자열 + Entry + 큐 노드, 약 150 ~ 200 byte -> 100만 개 약 200MB)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "verification.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryVerificationCodeStore implements VerificationCodeStore {
+
+    private final long ttlMs;
+    private final int maxAttempts;
+    private final int maxEntries;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry> expiryQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    public InMemoryVerificationCodeStore(@Value("${verification.ttl-seconds:300}") long ttlSeconds,
+                                         @Value("${verification.max-attempts:5}") int maxAttempts,
+                                         @Value("${verification.max-entries:1000000}") int maxEntries) {
+        this.ttlMs = ttlSeconds * 1000;
+        this.maxAttempts = maxAttempts;
+        this.maxEntries = maxEntries;
+    }
+
+    @Override
+    public void save(String email, String code) {
+        String key = normalize(email);
+        Entry entry = new Entry(key, Integer.parseInt(code), System.currentTimeMillis() + ttlMs);
+
+        Entry previous = entries.put(key, entry);
+        if (previous == null && size.incrementAndGet() > maxEntries) {
+            entries.remove(key, entry);
+            size.decrementAndGet();
+            throw new Exception503("인증 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        expiryQueue.add(entry);
+    }
+
+    @Override
+    public Result verify(String email, String code) {
+        String key = normalize(email);
+        int input;
+        try {
+            input = Integer.parseInt(code.trim());
+        } catch (NumberFormatException e) {
+            input = -1;
+        }
+        int submitted = input;
+        long now = System.currentTimeMillis();
+        Result[] result = {Result.EXPIRED};
+
+        // compute 안에서 키 단위로 원자적으로 (시도 횟수 증가 -> 비교 -> 삭제 여부 결정)
+        entries.computeIfPresent(key, (k, entry) -> {
+            if (entry.expiresAt <= now) {
+                result[0] = Result.EXPIRED;
+                return removed();
+            }
+            if (entry.attempts >= maxAttempts) {
+                result[0] = Result.TOO_MANY_ATTEMPTS;
+                return entry;
+            }
+            entry.attempts++;
+            if (entry.code == submitted) {
+                result[0] = Result.SUCCESS;
+                return removed();
+            }
+            result[0] = entry.attempts >= maxAttempts ? Result.TOO_MANY_ATTEMPTS : Result.MISMATCH;
+            return entry;
+        });
+        return result[0];
+    }
+
+    // computeIfPresent 에서 null 을 반환하면 키가 삭제된다.
+    private Entry removed() {
+        size.decrementAndGet();
+        return null;
+    }
+
+    // 만료된 인증번호 정리 (큐 앞쪽이 가장 먼저 만료됨)
+    @Scheduled(fixedDelay = 1000)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        int evicted = 0;
+        Entry head;
+        while ((head = expiryQueue.peek()) != null && head.expiresAt <= now) {
+            expiryQueue.poll();
+            // 같은 이메일로 다시 발급된 경우 맵에는 새 Entry 가 있으므로 삭제되지 않음
+            if (entries.remove(head.key, head)) {
+                size.decrementAndGet();
+                evicted++;
+            }
+        }
+        if (evicted > 0) {
+            log.debug("만료된 인증번호 {}개 정리 (남은 인증번호 {}개)", evicted, size.get());
+        }
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // equals 를 재정의 하지 않음 -> remove(key, entry) 는 같은 객체일 때만 삭제
+    private static final class Entry {
+        private final String key;
+        private final int code;
+        private final long expiresAt;
+        private int attempts; // compute 안에서만 변경 (키 단위 잠금)
+
+        private Entry(String key, int code, long expiresAt) {
+            this.key = key;
+            this.code = code;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
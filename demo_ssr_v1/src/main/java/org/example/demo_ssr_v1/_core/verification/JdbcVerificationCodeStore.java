@@ -0,0 +1,101 @@
+package org.example.demo_ssr_v1._core.verification;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * DB 인증번호 저장소 (verification.store: jdbc - 여러 서버가 같은 DB 를 공유할 때)
+ *
+ * - 저장 / 검증: PK(이메일) 조회 + UPDATE 1번 -> O(1)
+ * - 시도 횟수는 조건부 UPDATE 로 먼저 올린 뒤 비교 (서버가 여러 대여도 최대 시도 횟수를 넘지 못함)
+ * - 만료된 row 는 cleanup-batch-size 개씩 나눠서 삭제 (긴 DELETE 로 인한 락 대기 방지)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "verification.store", havingValue = "jdbc")
+@Transactional
+public class JdbcVerificationCodeStore implements VerificationCodeStore {
+
+    private final VerificationCodeRepository verificationCodeRepository;
+    private final long ttlMs;
+    private final int maxAttempts;
+    private final int cleanupBatchSize;
+
+    public JdbcVerificationCodeStore(VerificationCodeRepository verificationCodeRepository,
+                                     @Value("${verification.ttl-seconds:300}") long ttlSeconds,
+                                     @Value("${verification.max-attempts:5}") int maxAttempts,
+                                     @Value("${verification.cleanup-batch-size:500}") int cleanupBatchSize) {
+        this.verificationCodeRepository = verificationCodeRepository;
+        this.ttlMs = ttlSeconds * 1000;
+        this.maxAttempts = maxAttempts;
+        this.cleanupBatchSize = cleanupBatchSize;
+    }
+
+    @Override
+    public void save(String email, String code) {
+        String key = normalize(email);
+        long expiresAt = System.currentTimeMillis() + ttlMs;
+        verificationCodeRepository.findById(key).ifPresentOrElse(
+                verificationCode -> verificationCode.reissue(code, expiresAt), // 더티 체킹
+                () -> verificationCodeRepository.save(new VerificationCode(key, code, expiresAt)));
+    }
+
+    @Override
+    public Result verify(String email, String code) {
+        String key = normalize(email);
+        long now = System.currentTimeMillis();
+
+        if (verificationCodeRepository.incrementAttempts(key, now, maxAttempts) == 0) {
+            // 만료 / 발급 내역 없음 / 시도 횟수 초과 중 어느 경우인지 구분
+            return verificationCodeRepository.findById(key)
+                    .filter(verificationCode -> verificationCode.getExpiresAt() > now)
+                    .map(verificationCode -> Result.TOO_MANY_ATTEMPTS)
+                    .orElse(Result.EXPIRED);
+        }
+
+        VerificationCode verificationCode = verificationCodeRepository.findById(key).orElse(null);
+        if (verificationCode == null) {
+            return Result.EXPIRED;
+        }
+        if (verificationCode.getCode().equals(code.trim())) {
+            verificationCodeRepository.delete(verificationCode);
+            return Result.SUCCESS;
+        }
+        return verificationCode.getAttempts() >= maxAttempts ? Result.TOO_MANY_ATTEMPTS : Result.MISMATCH;
+    }
+
+    // 배치마다 짧은 트랜잭션으로 나눠서 실행 (SimpleJpaRepository 의 메서드 단위 트랜잭션)
+    @Scheduled(fixedDelayString = "${verification.cleanup-interval-ms:60000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        int total = 0;
+        while (true) {
+            List<String> emails = verificationCodeRepository.findExpiredEmails(now, PageRequest.of(0, cleanupBatchSize));
+            if (emails.isEmpty()) {
+                break;
+            }
+            verificationCodeRepository.deleteExpired(emails, now);
+            total += emails.size();
+            if (emails.size() < cleanupBatchSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.debug("만료된 인증번호 {}개 정리", total);
+        }
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.demo_ssr_v1._core.verification;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 이메일 인증번호 (JdbcVerificationCodeStore 전용 - 여러 서버가 공유)
+ * 만료 시각 인덱스로 만료된 row 를 나눠서 삭제한다.
+ */
+@Data
+@NoArgsConstructor
+@Table(name = "verification_code_tb", indexes = {
+        @Index(name = "idx_verification_code_expires_at", columnList = "expiresAt")
+})
+@Entity
+public class VerificationCode {
+
+    // 소문자로 바꾼 이메일 주소
+    @Id
+    @Column(length = 100)
+    private String email;
+
+    @Column(nullable = false, length = 10)
+    private String code;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    // 만료 시각 (epoch millis)
+    @Column(nullable = false)
+    private long expiresAt;
+
+    public VerificationCode(String email, String code, long expiresAt) {
+        this.email = email;
+        this.code = code;
+        this.expiresAt = expiresAt;
+    }
+
+    // 같은 이메일로 다시 발급
+    public void reissue(String code, long expiresAt) {
+        this.code = code;
+        this.expiresAt = expiresAt;
+        this.attempts = 0;
+    }
+}
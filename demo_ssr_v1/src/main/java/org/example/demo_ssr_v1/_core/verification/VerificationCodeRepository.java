@@ -0,0 +1,33 @@
+package org.example.demo_ssr_v1._core.verification;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface VerificationCodeRepository extends JpaRepository<VerificationCode, String> {
+
+    // 만료 전이고 시도 횟수가 남아 있을 때만 1 증가 (UPDATE 한 번으로 원자적으로 처리 - 여러 서버 동시 시도 대비)
+    @Modifying(clearAutomatically = true)
+    @Query("""
+    UPDATE VerificationCode v SET v.attempts = v.attempts + 1
+    WHERE v.email = :email AND v.expiresAt > :now AND v.attempts < :maxAttempts
+    """)
+    int incrementAttempts(@Param("email") String email,
+                          @Param("now") long now,
+                          @Param("maxAttempts") int maxAttempts);
+
+    // 만료된 인증번호 PK (만료 시각 인덱스 범위 조회, 배치 크기만큼)
+    @Query("SELECT v.email FROM VerificationCode v WHERE v.expiresAt <= :now ORDER BY v.expiresAt")
+    List<String> findExpiredEmails(@Param("now") long now, Pageable pageable);
+
+    // 조회와 삭제 사이에 다시 발급된(만료 시각이 늘어난) 인증번호는 지우지 않도록 만료 조건을 한 번 더 확인
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM VerificationCode v WHERE v.email IN :emails AND v.expiresAt <= :now")
+    int deleteExpired(@Param("emails") List<String> emails, @Param("now") long now);
+}
@@ -0,0 +1,33 @@
+package org.example.demo_ssr_v1._core.verification;
+
+/**
+ * 이메일 인증번호 저장소
+ *
+ * 기존에는 HttpSession 에 code_{email} 속성으로 저장 했는데
+ * - 만료가 없어서 세션이 끝날 때 까지 메모리에 남고
+ * - 다른 서버로 요청이 가면 인증번호를 찾지 못하고
+ * - 틀린 번호를 무제한으로 시도할 수 있었다.
+ * -> 만료 시간(TTL) + 시도 횟수 제한이 있는 전용 저장소로 분리
+ *
+ * 구현체 (verification.store 설정)
+ * - memory (기본): InMemoryVerificationCodeStore - 서버 1대
+ * - jdbc        : JdbcVerificationCodeStore - 여러 서버가 DB 를 공유
+ */
+public interface VerificationCodeStore {
+
+    enum Result {
+        SUCCESS,            // 일치 (저장소에서 삭제됨 - 재사용 불가)
+        MISMATCH,           // 불일치 (시도 횟수 1 증가)
+        TOO_MANY_ATTEMPTS,  // 시도 횟수 초과 (새 인증번호를 발급 받아야 함)
+        EXPIRED             // 발급 내역이 없거나 만료됨
+    }
+
+    /**
+     * 인증번호 저장 (같은 이메일로 다시 발급하면 이전 번호는 무효, 시도 횟수 초기화)
+     * @throws org.example.demo_ssr_v1._core.errors.exception.Exception503 저장 한도를 넘은 경우
+     */
+    void save(String email, String code);
+
+    // 시도 횟수를 먼저 올린 뒤 비교 -> 동시에 여러 번 시도해도 최대 시도 횟수를 넘지 못함
+    Result verify(String email, String code);
+}
@@ -2,21 +2,99 @@ package org.example.demo_ssr_v1.admin;
 
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
-import org.example.demo_ssr_v1.user.User;
+import org.example.demo_ssr_v1.refund.RefundRequestDTO;
+import org.example.demo_ssr_v1.refund.RefundResponse;
+import org.example.demo_ssr_v1.refund.RefundService;
+import org.example.demo_ssr_v1.user.SessionUser;
+import org.example.demo_ssr_v1.user.UserRequest;
+import org.example.demo_ssr_v1.user.UserResponse;
+import org.example.demo_ssr_v1.user.UserService;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @Controller
 @RequiredArgsConstructor
 public class AdminController {
 
+    private final RefundService refundService;
+    private final DashboardStatService dashboardStatService;
+    private final UserService userService;
+
     // http://localhost:8080/admin/dashboard
     @GetMapping("/admin/dashboard")
     public String dashboard(HttpSession session, Model model) {
-        User sessionUser = (User) session.getAttribute("sessionUser");
+        SessionUser sessionUser = (SessionUser) session.getAttribute("sessionUser");
 
         model.addAttribute("user", sessionUser);
+        // 집계 테이블 PK 조회 1번 (원본 테이블 COUNT / SUM 없음)
+        model.addAttribute("stat", dashboardStatService.통계조회());
         return "admin/dashboard";
     }
+
+    // 회원 목록 (검색 + 필터 + 키셋 페이징)
+    // http://localhost:8080/admin/user/list?keyword=ss&searchType=username&provider=LOCAL&role=USER
+    @GetMapping("/admin/user/list")
+    public String userList(UserRequest.DirectorySearchDTO searchDTO, Model model) {
+        searchDTO.validate();
+        UserResponse.DirectoryPageDTO userPage = userService.회원목록조회(searchDTO);
+        model.addAttribute("userList", userPage.getContent());
+        model.addAttribute("userPage", userPage);
+        return "admin/user-list";
+    }
+
+    // 환불 대기 목록 (키셋 페이징 - 오래된 요청부터)
+    // http://localhost:8080/admin/refund/list?cursor=100&size=50
+    @GetMapping("/admin/refund/list")
+    public String refundList(Model model,
+                             @RequestParam(required = false) Long cursor,
+                             @RequestParam(defaultValue = "50") int size,
+                             @RequestParam(required = false) Integer approved,
+                             @RequestParam(required = false) Integer rejected,
+                             @RequestParam(required = false) Integer failed) {
+        RefundResponse.QueuePageDTO refundPage = refundService.환불대기목록(cursor, size);
+        model.addAttribute("refundList", refundPage.getContent());
+        model.addAttribute("refundPage", refundPage);
+
+        // 직전 일괄 처리 결과 (리다이렉트 쿼리 파라미터)
+        if (approved != null || rejected != null || failed != null) {
+            RefundResponse.BatchResultDTO result = new RefundResponse.BatchResultDTO();
+            result.setApproved(approved == null ? 0 : approved);
+            result.setRejected(rejected == null ? 0 : rejected);
+            result.setFailed(failed == null ? 0 : failed);
+            model.addAttribute("result", result);
+        }
+        return "admin/refund-list";
+    }
+
+    // 선택 승인
+    @PostMapping("/admin/refund/approve")
+    public String approveProc(RefundRequestDTO.BatchDTO batchDTO) {
+        batchDTO.validate();
+        RefundResponse.BatchResultDTO result = refundService.환불일괄승인(batchDTO.getIds());
+        return redirectWithResult(result);
+    }
+
+    // 선택 거절
+    @PostMapping("/admin/refund/reject")
+    public String rejectProc(RefundRequestDTO.BatchDTO batchDTO) {
+        batchDTO.validateReject();
+        RefundResponse.BatchResultDTO result = refundService.환불일괄거절(batchDTO.getIds(), batchDTO.getRejectReason());
+        return redirectWithResult(result);
+    }
+
+    // 대기중인 환불 요청 전체 승인
+    @PostMapping("/admin/refund/approve-all")
+    public String approveAllProc() {
+        RefundResponse.BatchResultDTO result = refundService.환불전체승인();
+        return redirectWithResult(result);
+    }
+
+    private static String redirectWithResult(RefundResponse.BatchResultDTO result) {
+        return "redirect:/admin/refund/list?approved=" + result.getApproved()
+                + "&rejected=" + result.getRejected()
+                + "&failed=" + result.getFailed();
+    }
 }
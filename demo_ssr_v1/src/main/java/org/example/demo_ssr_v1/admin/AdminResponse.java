@@ -0,0 +1,33 @@
+package org.example.demo_ssr_v1.admin;
+
+import lombok.Data;
+import org.example.demo_ssr_v1._core.utils.MyDateUtil;
+
+import java.time.LocalDate;
+
+public class AdminResponse {
+
+    // 관리자 대시보드 통계 DTO
+    @Data
+    public static class DashboardDTO {
+        private long totalUsers;
+        private long totalBoards;
+        private long totalReplies;
+        private long totalRevenue;
+        private long pendingRefunds;
+        private long todaySignups;
+        private String recomputedAt; // 마지막 전체 재집계 시간
+
+        public DashboardDTO(DashboardStat stat, LocalDate today) {
+            this.totalUsers = stat.getTotalUsers();
+            this.totalBoards = stat.getTotalBoards();
+            this.totalReplies = stat.getTotalReplies();
+            this.totalRevenue = stat.getTotalRevenue();
+            this.pendingRefunds = stat.getPendingRefunds();
+            this.todaySignups = stat.getTodaySignups(today);
+            if (stat.getRecomputedAt() != null) {
+                this.recomputedAt = MyDateUtil.time(stat.getRecomputedAt());
+            }
+        }
+    }
+}
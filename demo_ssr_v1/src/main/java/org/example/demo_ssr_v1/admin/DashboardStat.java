@@ -0,0 +1,77 @@
+package org.example.demo_ssr_v1.admin;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+
+/**
+ * 관리자 대시보드 통계 (집계 테이블 - row 는 항상 1개)
+ *
+ * 대시보드를 열 때마다 COUNT / SUM 으로 전체 테이블을 훑지 않도록
+ * 쓰기 작업(회원가입, 글쓰기, 결제 ...)이 커밋되면 증감 값만 모아 두었다가 주기적으로 반영한다. (DashboardStatService)
+ * -> 대시보드 조회는 PK 조회 1번 (테이블 크기와 무관하게 일정한 시간)
+ *
+ * 증감 반영 중 누락이나 오차가 생길 수 있으므로 매일 밤 원본 테이블 기준으로 다시 집계한다.
+ */
+@Data
+@NoArgsConstructor
+@Table(name = "dashboard_stat_tb")
+@Entity
+public class DashboardStat {
+
+    // 단일 row 식별자
+    public static final Long SINGLETON_ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private long totalUsers;
+
+    @Column(nullable = false)
+    private long totalBoards;
+
+    @Column(nullable = false)
+    private long totalReplies;
+
+    // 총 매출 (결제 완료 금액 합계 - 환불된 금액은 제외)
+    @Column(nullable = false)
+    private long totalRevenue;
+
+    @Column(nullable = false)
+    private long pendingRefunds;
+
+    // 오늘 가입자 수 (statDate 날짜 기준, 날짜가 바뀌면 0 부터 다시 센다)
+    @Column(nullable = false)
+    private long todaySignups;
+
+    private LocalDate statDate;
+
+    // 마지막 전체 재집계 시간
+    private Timestamp recomputedAt;
+
+    public DashboardStat(Long id) {
+        this.id = id;
+    }
+
+    // 전체 재집계 결과로 덮어쓰기
+    public void recompute(long totalUsers, long totalBoards, long totalReplies, long totalRevenue,
+                          long pendingRefunds, long todaySignups, LocalDate statDate) {
+        this.totalUsers = totalUsers;
+        this.totalBoards = totalBoards;
+        this.totalReplies = totalReplies;
+        this.totalRevenue = totalRevenue;
+        this.pendingRefunds = pendingRefunds;
+        this.todaySignups = todaySignups;
+        this.statDate = statDate;
+        this.recomputedAt = new Timestamp(System.currentTimeMillis());
+    }
+
+    // 오늘 가입자 수 (자정 이후 아직 가입자가 없으면 statDate 가 어제 날짜 -> 0)
+    public long getTodaySignups(LocalDate today) {
+        return today.equals(statDate) ? todaySignups : 0;
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.demo_ssr_v1.admin;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+
+public interface DashboardStatRepository extends JpaRepository<DashboardStat, Long> {
+
+    // 증감 반영 - 조회 없이 UPDATE 1번 (값을 읽고 더해서 저장하면 동시 요청 시 갱신 손실 발생)
+    // DashboardStatService 가 커밋된 증감을 모아 두었다가 주기적으로 한 번에 반영 (쓰기 트랜잭션마다 통계 row 를 잠그지 않음)
+    // 회원가입 - 날짜가 바뀌었으면 오늘 가입자 수를 이번에 반영할 가입자 수부터 다시 센다.
+    @Transactional
+    @Modifying
+    @Query("""
+    UPDATE DashboardStat s
+    SET s.totalUsers = s.totalUsers + :signups,
+        s.todaySignups = CASE WHEN s.statDate = :today THEN s.todaySignups + :signups ELSE :signups END,
+        s.statDate = :today,
+        s.totalBoards = s.totalBoards + :boards,
+        s.totalReplies = s.totalReplies + :replies,
+        s.totalRevenue = s.totalRevenue + :revenue,
+        s.pendingRefunds = s.pendingRefunds + :pendingRefunds
+    WHERE s.id = 1
+    """)
+    int addDeltas(@Param("signups") long signups,
+                  @Param("boards") long boards,
+                  @Param("replies") long replies,
+                  @Param("revenue") long revenue,
+                  @Param("pendingRefunds") long pendingRefunds,
+                  @Param("today") LocalDate today);
+
+    // ---- 전체 재집계용 (야간 배치에서만 사용) ----
+
+    @Query("SELECT COUNT(u) FROM User u")
+    long countUsers();
+
+    @Query("SELECT COUNT(b) FROM Board b")
+    long countBoards();
+
+    @Query("SELECT COUNT(r) FROM Reply r")
+    long countReplies();
+
+    @Query("SELECT COALESCE(SUM(p.amount), 0) FROM Payment p WHERE p.status = 'paid'")
+    long sumRevenue();
+
+    // 승인 처리중(PROCESSING)도 아직 끝나지 않은 요청이므로 대기 수에 포함
+    @Query("SELECT COUNT(r) FROM RefundRequest r WHERE r.status IN (org.example.demo_ssr_v1.refund.RefundStatus.PENDING, org.example.demo_ssr_v1.refund.RefundStatus.PROCESSING)")
+    long countPendingRefunds();
+
+    @Query("SELECT COUNT(u) FROM User u WHERE u.createdAt >= :from")
+    long countUsersCreatedSince(@Param("from") Timestamp from);
+}
@@ -0,0 +1,136 @@
+package org.example.demo_ssr_v1.admin;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 관리자 대시보드 통계 Service
+ *
+ * 증감 메서드는 통계 row 를 바로 UPDATE 하지 않는다.
+ * (row 가 1개라 쓰기 트랜잭션마다 UPDATE 하면 커밋까지 row 락을 잡아서 모든 쓰기 작업이 한 줄로 서게 된다)
+ * 1. 호출한 쪽(회원가입, 글쓰기 ...) 트랜잭션이 커밋된 뒤에만 서버 메모리(LongAdder)에 더해 둔다. (롤백되면 버려짐)
+ * 2. 모아 둔 값을 주기적으로 UPDATE 1번에 반영 (서버가 여러 대여도 각자 자기 증감만 더하므로 합계는 맞음)
+ * -> 대시보드 숫자는 반영 주기만큼 늦을 수 있다. (서버가 비정상 종료되면 모아 둔 값은 잃고 자정 재집계에서 맞춰진다)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DashboardStatService {
+
+    private final DashboardStatRepository dashboardStatRepository;
+
+    // 커밋됐지만 아직 통계 row 에 반영하지 않은 증감
+    private final LongAdder signups = new LongAdder();
+    private final LongAdder boards = new LongAdder();
+    private final LongAdder replies = new LongAdder();
+    private final LongAdder revenue = new LongAdder();
+    private final LongAdder pendingRefunds = new LongAdder();
+
+    // 대시보드 통계 조회 (PK 조회 1번)
+    @Transactional(readOnly = true)
+    public AdminResponse.DashboardDTO 통계조회() {
+        DashboardStat stat = dashboardStatRepository.findById(DashboardStat.SINGLETON_ID)
+                .orElseGet(() -> new DashboardStat(DashboardStat.SINGLETON_ID));
+        return new AdminResponse.DashboardDTO(stat, LocalDate.now());
+    }
+
+    public void 회원가입반영() {
+        addAfterCommit(signups, 1);
+    }
+
+    public void 게시글수반영(long delta) {
+        addAfterCommit(boards, delta);
+    }
+
+    public void 댓글수반영(long delta) {
+        addAfterCommit(replies, delta);
+    }
+
+    public void 매출반영(long delta) {
+        addAfterCommit(revenue, delta);
+    }
+
+    public void 환불대기수반영(long delta) {
+        addAfterCommit(pendingRefunds, delta);
+    }
+
+    // 모아 둔 증감을 통계 row 에 반영 (UPDATE 1번, 실패하면 다음 주기에 다시 시도)
+    @Scheduled(fixedDelayString = "${dashboard.flush-interval-ms:1000}")
+    @PreDestroy
+    public void 증감반영() {
+        long signupDelta = signups.sumThenReset();
+        long boardDelta = boards.sumThenReset();
+        long replyDelta = replies.sumThenReset();
+        long revenueDelta = revenue.sumThenReset();
+        long pendingRefundDelta = pendingRefunds.sumThenReset();
+        if (signupDelta == 0 && boardDelta == 0 && replyDelta == 0 && revenueDelta == 0 && pendingRefundDelta == 0) {
+            return;
+        }
+        try {
+            dashboardStatRepository.addDeltas(signupDelta, boardDelta, replyDelta, revenueDelta, pendingRefundDelta, LocalDate.now());
+        } catch (RuntimeException e) {
+            signups.add(signupDelta);
+            boards.add(boardDelta);
+            replies.add(replyDelta);
+            revenue.add(revenueDelta);
+            pendingRefunds.add(pendingRefundDelta);
+            log.warn("대시보드 통계 반영 실패 (다음 주기에 다시 시도): {}", e.getMessage());
+        }
+    }
+
+    // 트랜잭션 안이면 커밋된 뒤에, 밖이면 바로 더한다.
+    private static void addAfterCommit(LongAdder adder, long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            adder.add(delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                adder.add(delta);
+            }
+        });
+    }
+
+    // 1. 서버 시작 시 통계 row 생성 + 집계 (통계 테이블이 비어 있거나 서버가 꺼져 있던 동안의 오차 보정)
+    // 2. 매일 자정 원본 테이블 기준으로 다시 집계 (증감 반영 오차 보정 + 오늘 가입자 수 초기화)
+    // 아직 반영하지 않은 증감은 재집계 값에 이미 포함되어 있으므로 버린다.
+    // 재집계 도중 들어온 증감은 덮어써지거나 두 번 더해질 수 있지만 다음 재집계에서 다시 맞춰진다.
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${dashboard.recompute-cron:0 0 0 * * *}")
+    @Transactional
+    public void 전체재집계() {
+        long start = System.currentTimeMillis();
+        LocalDate today = LocalDate.now();
+        for (LongAdder adder : List.of(signups, boards, replies, revenue, pendingRefunds)) {
+            adder.reset();
+        }
+
+        DashboardStat stat = dashboardStatRepository.findById(DashboardStat.SINGLETON_ID)
+                .orElseGet(() -> dashboardStatRepository.save(new DashboardStat(DashboardStat.SINGLETON_ID)));
+
+        stat.recompute(
+                dashboardStatRepository.countUsers(),
+                dashboardStatRepository.countBoards(),
+                dashboardStatRepository.countReplies(),
+                dashboardStatRepository.sumRevenue(),
+                dashboardStatRepository.countPendingRefunds(),
+                dashboardStatRepository.countUsersCreatedSince(Timestamp.valueOf(today.atStartOfDay())),
+                today
+        );
+        log.info("대시보드 통계 재집계 완료 ({}ms)", System.currentTimeMillis() - start);
+    }
+}
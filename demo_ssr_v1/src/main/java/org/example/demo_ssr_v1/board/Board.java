@@ -31,6 +31,12 @@ public class Board {
     @CreationTimestamp
     private Timestamp createdAt;
 
+    // 내용이 바뀔 때마다 1 증가 - 목록 카드 HTML 캐시(FragmentCache)의 버전
+    // (@Version 낙관적 락과는 별개, 동시 수정 시 예외를 내지 않음)
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Long version = 0L;
+
     @Builder
     public Board (String title, String content, User user, Boolean premium) {
         this.title = title;
@@ -49,6 +55,7 @@ public class Board {
         // 게시글 수정은 작성자를 변경할 수 없다.
 
         this.premium = (updateDTO.getPremium() != null ? updateDTO.getPremium() : false);
+        this.version++;
     }
 
     // 게시글 소유자 확인 로직
@@ -62,6 +69,7 @@ public class Board {
             throw new IllegalArgumentException("제목은 비워둘 수 없습니다.");
         }
         this.title = newTitle;
+        this.version++;
     }
 
     // 개별 필드 수정 - content
@@ -70,5 +78,6 @@ public class Board {
             throw new IllegalArgumentException("내용은 비워둘 수 없습니다.");
         }
         this.content = newContent;
+        this.version++;
     }
 }
@@ -0,0 +1,23 @@
+package org.example.demo_ssr_v1.board;
+
+import lombok.RequiredArgsConstructor;
+import org.example.demo_ssr_v1._core.config.TemplateConfig;
+import org.example.demo_ssr_v1._core.template.FragmentCache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 게시글이 수정 / 삭제되면 커밋 이후 목록 카드 HTML 캐시 삭제
+ * (버전이 달라지므로 지우지 않아도 옛 카드가 보이지는 않지만 메모리를 바로 비움)
+ */
+@Component
+@RequiredArgsConstructor
+public class BoardCardCacheEvictor {
+
+    private final FragmentCache fragmentCache;
+
+    @TransactionalEventListener
+    public void evict(BoardChangedEvent event) {
+        fragmentCache.invalidate(TemplateConfig.BOARD_CARD, event.boardId());
+    }
+}
@@ -0,0 +1,10 @@
+package org.example.demo_ssr_v1.board;
+
+/**
+ * 게시글 화면 내용이 바뀌는 이벤트 - 게시글 작성 / 수정 / 삭제, 댓글 작성 / 삭제, 구매
+ * 커밋 이후 처리
+ * - BoardCardCacheEvictor: 목록 카드 HTML 캐시 삭제
+ * - BoardPageVersion: 목록 / 상세 화면 ETag 버전 증가
+ */
+public record BoardChangedEvent(Long boardId) {
+}
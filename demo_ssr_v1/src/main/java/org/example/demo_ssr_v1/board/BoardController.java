@@ -2,16 +2,20 @@ package org.example.demo_ssr_v1.board;
 
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
+import org.example.demo_ssr_v1._core.template.Deferred;
+import org.example.demo_ssr_v1._core.template.DeferredFactory;
 import org.example.demo_ssr_v1.purchase.PurchaseService;
 import org.example.demo_ssr_v1.reply.ReplyResponse;
 import org.example.demo_ssr_v1.reply.ReplyService;
-import org.example.demo_ssr_v1.user.User;
+import org.example.demo_ssr_v1.user.SessionUser;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.SessionAttribute;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.List;
 
@@ -22,6 +26,8 @@ public class BoardController {
     private final BoardService boardService;
     private final ReplyService replyService;
     private final PurchaseService purchaseService;
+    private final DeferredFactory deferredFactory;
+    private final BoardPageVersion boardPageVersion;
 
     // 내가 작성한 글만 보여야 한다 (인가 처리)
     /**
@@ -39,7 +45,7 @@ public class BoardController {
             HttpSession session
     ) {
         // 1. 인증 검사 (O)
-        User sessionUser = (User) session.getAttribute("sessionUser");
+        SessionUser sessionUser = (SessionUser) session.getAttribute("sessionUser");
 
         // 2. 인가 처리 (O)
         BoardResponse.UpdateFormDTO board = boardService.게시글수정화면요청(id, sessionUser.getId());
@@ -64,7 +70,7 @@ public class BoardController {
             BoardRequest.UpdateDTO updateDTO,
             HttpSession session
     ) {
-        User sessionUser = (User) session.getAttribute("sessionUser");
+        SessionUser sessionUser = (SessionUser) session.getAttribute("sessionUser");
         updateDTO.validate();
         boardService.게시글수정(updateDTO, id, sessionUser.getId());
 
@@ -85,10 +91,18 @@ public class BoardController {
             Model model,
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "3") int size,
-            @RequestParam(required = false) String keyword
+            @RequestParam(required = false) String keyword,
+            // HttpSession 을 받으면 비로그인 방문자에게도 세션이 생기므로 세션 값만 받음
+            @SessionAttribute(name = "sessionUser", required = false) SessionUser sessionUser,
+            ServletWebRequest webRequest
         ) {
+        // 바뀐 내용이 없으면 조회 / 렌더링 없이 304 응답
+        if (boardPageVersion.checkNotModified(webRequest, sessionUser)) {
+            return null;
+        }
         int pageIndex = Math.max(0, page -1);
-        BoardResponse.PageDTO boardPage = boardService.게시글목록조회(pageIndex, size, keyword);
+        // 스트리밍 렌더링 - 조회하는 동안 헤더 / 검색 폼을 먼저 전송
+        Deferred<BoardResponse.PageDTO> boardPage = deferredFactory.defer(() -> boardService.게시글목록조회(pageIndex, size, keyword));
         model.addAttribute("boardPage", boardPage);
         model.addAttribute("keyword", keyword != null ? keyword : "");
         return "board/list";
@@ -102,7 +116,7 @@ public class BoardController {
     // http://localhost:8080/board/save
     @GetMapping("/board/save")
     public String saveForm(HttpSession session) {
-        User sessionUser = (User) session.getAttribute("sessionUser");
+        SessionUser sessionUser = (SessionUser) session.getAttribute("sessionUser");
         return "board/save-form";
     }
 
@@ -114,8 +128,8 @@ public class BoardController {
     public String saveProc(BoardRequest.SaveDTO saveDTO, HttpSession session) {
         // 1. 인증 검사 - 인터셉터
         // 2. 유효성 검사(형식), 논리적인 검사는 (서비스단)
-        User sessionUser = (User) session.getAttribute("sessionUser");
-        boardService.게시글작성(saveDTO, sessionUser);
+        SessionUser sessionUser = (SessionUser) session.getAttribute("sessionUser");
+        boardService.게시글작성(saveDTO, sessionUser.getId());
         return "redirect:/";
     }
 
@@ -132,7 +146,7 @@ public class BoardController {
             @PathVariable Long id,
             HttpSession session
     ) {
-        User sessionUser = (User) session.getAttribute("sessionUser");
+        SessionUser sessionUser = (SessionUser) session.getAttribute("sessionUser");
         boardService.게시글삭제(id, sessionUser.getId());
         return "redirect:/";
     }
@@ -148,22 +162,25 @@ public class BoardController {
     public String detail(
             @PathVariable(name = "id") Long boardId,
             HttpSession session,
-            Model model
+            Model model,
+            ServletWebRequest webRequest
     ) {
         // 세션에 로그인 사용자 정보 조회 (없을 수도 있음)
-        User sessionUser = (User) session.getAttribute("sessionUser");
-        Long sessionUserId = sessionUser != null ? sessionUser.getId() : null;
-
-        BoardResponse.DetailDTO board = boardService.게시글상세조회(boardId, sessionUserId);
-        boolean isOwner = false;
-
-        if (sessionUser != null && board.getUserId() != null) {
-            isOwner = board.getUserId().equals(sessionUser.getId());
+        SessionUser sessionUser = (SessionUser) session.getAttribute("sessionUser");
+        // 바뀐 내용이 없으면 조회 / 렌더링 없이 304 응답
+        if (boardPageVersion.checkNotModified(webRequest, sessionUser)) {
+            return null;
         }
+        Long sessionUserId = sessionUser != null ? sessionUser.getId() : null;
 
-        // 댓글 목록 조회 (추가)
+        // 스트리밍 렌더링 - 댓글 목록만 다른 스레드에서 조회 (게시글 조회와 동시에 시작)
         // 로그인 안한 상태에서 댓글 목록 요청시에 sessionUserId 는 null 값
-        List<ReplyResponse.ListDTO> replyList = replyService.댓글목록조회(boardId, sessionUserId);
+        Deferred<List<ReplyResponse.ListDTO>> replyList = deferredFactory.defer(() -> replyService.댓글목록조회(boardId, sessionUserId));
+
+        // 게시글은 응답을 보내기 전에 조회 (PK 조회 1번)
+        // 없는 게시글이면 MyExceptionHandler 가 404 화면으로 응답 (헤더를 먼저 보낸 뒤에는 상태 코드를 바꿀 수 없음)
+        BoardResponse.DetailDTO board = boardService.게시글상세조회(boardId, sessionUserId);
+        boolean isOwner = sessionUser != null && board.getUserId() != null && board.getUserId().equals(sessionUser.getId());
 
         model.addAttribute("isOwner", isOwner);
         model.addAttribute("board", board);
@@ -177,7 +194,7 @@ public class BoardController {
             HttpSession session
     ) {
         // 1. 인증 검사 - 로인 인터셉터가 동작 함
-        User sessionUser = (User) session.getAttribute("sessionUser");
+        SessionUser sessionUser = (SessionUser) session.getAttribute("sessionUser");
         // 포인트 차감
         // 구매 내역 저장 (insert)...
         purchaseService.구매하기(sessionUser.getId(), boardId);
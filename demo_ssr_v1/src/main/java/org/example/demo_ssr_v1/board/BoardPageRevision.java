@@ -0,0 +1,31 @@
+package org.example.demo_ssr_v1.board;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글 화면 버전 (row 는 항상 1개, 모든 서버가 공유)
+ *
+ * 게시글 / 댓글 / 구매가 커밋될 때마다 1 증가 -> BoardPageVersion 이 주기적으로 읽어서 ETag 에 사용
+ * 서버마다 따로 세는 값이 아니므로 같은 ETag 는 어느 서버에서 받든 같은 내용이다.
+ */
+@Data
+@NoArgsConstructor
+@Table(name = "board_page_revision_tb")
+@Entity
+public class BoardPageRevision {
+
+    // 단일 row 식별자
+    public static final Long SINGLETON_ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private long revision;
+
+    public BoardPageRevision(Long id) {
+        this.id = id;
+    }
+}
@@ -0,0 +1,18 @@
+package org.example.demo_ssr_v1.board;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Optional;
+
+public interface BoardPageRevisionRepository extends JpaRepository<BoardPageRevision, Long> {
+
+    // 조회 없이 UPDATE 1번 (커밋 이후 별도 트랜잭션에서 호출 - 원본 쓰기 트랜잭션이 row 락을 잡지 않음)
+    @Modifying
+    @Query("UPDATE BoardPageRevision r SET r.revision = r.revision + 1 WHERE r.id = 1")
+    int increment();
+
+    @Query("SELECT r.revision FROM BoardPageRevision r WHERE r.id = 1")
+    Optional<Long> findRevision();
+}
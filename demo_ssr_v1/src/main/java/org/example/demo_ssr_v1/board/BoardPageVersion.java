@@ -0,0 +1,127 @@
+package org.example.demo_ssr_v1.board;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.demo_ssr_v1._core.template.MustacheTemplateRegistry;
+import org.example.demo_ssr_v1.user.SessionUser;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 목록 / 상세 화면 ETag (조건부 GET)
+ *
+ * 화면을 렌더링하지 않고 ETag 를 만들기 위해 게시글 화면 전체에 대한 버전 하나를 쓴다.
+ * - 버전은 DB 의 공유 row 하나 (BoardPageRevision) -> 서버가 여러 대여도 같은 버전 = 같은 내용
+ * - 게시글 작성 / 수정 / 삭제, 댓글 작성 / 삭제, 구매가 커밋되면 별도 트랜잭션으로 1 증가 (BoardChangedEvent)
+ *   원본 쓰기 트랜잭션 안에서 올리면 모든 쓰기가 row 락 하나에 줄을 서게 되므로 커밋 이후에 올린다.
+ * - 다른 서버에서 올린 버전은 sync-interval-ms 마다 PK 조회 1번으로 반영 (테이블 크기와 무관)
+ * - ETag = 버전 + 템플릿 내용 해시 + 로그인 사용자(id, 역할) -> 헤더 / 작성자 버튼 / 구매 여부가 사용자마다 다름
+ * 같으면 DB 조회와 렌더링 없이 304 응답
+ *
+ * 버전을 아직 읽지 못했으면(시작 직후 DB 장애) ETag 없이 평소대로 응답한다.
+ */
+@Slf4j
+@Component
+public class BoardPageVersion {
+
+    private static final long UNKNOWN = -1;
+
+    private final BoardPageRevisionRepository revisionRepository;
+    private final MustacheTemplateRegistry mustacheTemplateRegistry;
+    // 커밋 이후(AFTER_COMMIT) 호출 -> 끝난 트랜잭션에 참여하지 않도록 새 트랜잭션으로 실행
+    private final TransactionTemplate requiresNew;
+
+    private final AtomicLong version = new AtomicLong(UNKNOWN);
+
+    public BoardPageVersion(BoardPageRevisionRepository revisionRepository,
+                            MustacheTemplateRegistry mustacheTemplateRegistry,
+                            PlatformTransactionManager transactionManager) {
+        this.revisionRepository = revisionRepository;
+        this.mustacheTemplateRegistry = mustacheTemplateRegistry;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * ETag 비교 - 같으면 304 응답 상태로 바꾸고 true (컨트롤러는 null 을 반환)
+     * 다르면 ETag 헤더만 붙이고 false
+     */
+    public boolean checkNotModified(ServletWebRequest request, SessionUser sessionUser) {
+        // 사용자마다 내용이 다르므로 공유 캐시(프록시) 저장 금지, 브라우저는 매번 확인 후 사용
+        request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        String eTag = eTag(sessionUser);
+        return eTag != null && request.checkNotModified(eTag);
+    }
+
+    // 약한 ETag - 톰캣은 강한 ETag 응답을 압축하지 않음 (압축하면 바이트가 달라지므로)
+    String eTag(SessionUser sessionUser) {
+        long current = version.get();
+        if (current == UNKNOWN) {
+            return null;
+        }
+        String user = sessionUser == null ? "0" : sessionUser.getId() + "." + sessionUser.getRoleMask();
+        return "W/\"" + Long.toHexString(current) + "-"
+                + Integer.toHexString(mustacheTemplateRegistry.getSourceHash()) + "-" + user + "\"";
+    }
+
+    @TransactionalEventListener
+    public void onChanged(BoardChangedEvent event) {
+        try {
+            Integer updated = requiresNew.execute(status -> revisionRepository.increment());
+            if (updated == null || updated == 0) {
+                createRow();
+            }
+            apply(readRevision());
+        } catch (RuntimeException e) {
+            // 버전을 못 올렸으면 이 서버의 ETag 를 끄고 다음 sync 에서 다시 읽음 (오래된 화면에 304 를 주지 않게)
+            version.set(UNKNOWN);
+            log.warn("게시글 화면 버전 증가 실패 - {}", e.getMessage());
+        }
+    }
+
+    // 다른 서버에서 올린 버전 반영 (PK 조회 1번)
+    @Scheduled(fixedDelayString = "${board.etag.sync-interval-ms:5000}")
+    public void sync() {
+        try {
+            long current = readRevision();
+            if (current == UNKNOWN) {
+                createRow();
+                current = readRevision();
+            }
+            apply(current);
+        } catch (RuntimeException e) {
+            version.set(UNKNOWN);
+            log.warn("게시글 화면 버전 조회 실패 - {}", e.getMessage());
+        }
+    }
+
+    private long readRevision() {
+        Long current = requiresNew.execute(status -> revisionRepository.findRevision().orElse(UNKNOWN));
+        return current == null ? UNKNOWN : current;
+    }
+
+    private void apply(long next) {
+        long previous = version.getAndSet(next);
+        if (previous != next) {
+            log.debug("게시글 화면 버전 변경 - {} -> {}", previous, next);
+        }
+    }
+
+    // 첫 실행 - 서버 여러 대가 동시에 만들면 한 곳만 성공 (나머지는 기본키 충돌 무시)
+    private void createRow() {
+        try {
+            requiresNew.executeWithoutResult(status ->
+                    revisionRepository.saveAndFlush(new BoardPageRevision(BoardPageRevision.SINGLETON_ID)));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("게시글 화면 버전 row 는 이미 생성됨");
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package org.example.demo_ssr_v1.board;
 
 import lombok.Data;
+import lombok.Getter;
 import org.example.demo_ssr_v1._core.utils.MyDateUtil;
 import org.springframework.data.domain.Page;
 
@@ -18,10 +19,12 @@ public class BoardResponse {
         private String title;
         private String username; // 작성자명 (평탄화) {{board.user.username}} 평탄화 전 / {{board.username}} 평탄화 후
         private String createdAt;
+        private long version; // 카드 HTML 캐시 버전 (화면에는 표시하지 않음)
 
         public ListDTO (Board board) {
             this.id = board.getId();
             this.title = board.getTitle();
+            this.version = board.getVersion() != null ? board.getVersion() : 0;
             // 쿼리 --> JOIN FETCH 로 가져오면 null 아님 (문제 해결)
             if (board.getUser() != null) {
                 this.username = board.getUser().getUsername();
@@ -128,8 +131,6 @@ public class BoardResponse {
         }
 
         private List<PageLink> generatePageLinks(Page<Board> page) {
-            List<PageLink> links = new ArrayList<>();
-
             int currentPage = page.getNumber() + 1;
             int totalPage = page.getTotalPages();
 
@@ -138,11 +139,10 @@ public class BoardResponse {
             int startPage = Math.max(1, currentPage - 2);
             int endPage = Math.min(totalPage, currentPage + 2);
 
+            // 최대 5 개 - 크기를 정해서 생성 (링크 객체는 미리 만들어 둔 것을 재사용)
+            List<PageLink> links = new ArrayList<>(Math.max(0, endPage - startPage + 1));
             for (int i = startPage; i <= endPage; i++) {
-                PageLink link = new PageLink();
-                link.setDisplayNumber(i);
-                link.setActive(i == currentPage);
-                links.add(link);
+                links.add(PageLink.of(i, i == currentPage));
             }
             return links;
         }
@@ -150,10 +150,34 @@ public class BoardResponse {
     }
 
     // 페이지 링크 클래스 설계
-    @Data
+    // 요청마다 만들지 않도록 1 ~ CACHED_PAGES 번 링크는 미리 만들어 두고 공유 -> 값을 바꿀 수 없게 getter 만 제공
+    @Getter
     public static class PageLink {
-        private int displayNumber; // 표시할 페이지 번호
-        private boolean active;
+        private static final int CACHED_PAGES = 1000;
+        private static final PageLink[] INACTIVE = new PageLink[CACHED_PAGES + 1];
+        private static final PageLink[] ACTIVE = new PageLink[CACHED_PAGES + 1];
+
+        static {
+            for (int i = 1; i <= CACHED_PAGES; i++) {
+                INACTIVE[i] = new PageLink(i, false);
+                ACTIVE[i] = new PageLink(i, true);
+            }
+        }
+
+        private final int displayNumber; // 표시할 페이지 번호
+        private final boolean active;
+
+        private PageLink(int displayNumber, boolean active) {
+            this.displayNumber = displayNumber;
+            this.active = active;
+        }
+
+        public static PageLink of(int displayNumber, boolean active) {
+            if (displayNumber < 1 || displayNumber > CACHED_PAGES) {
+                return new PageLink(displayNumber, active);
+            }
+            return active ? ACTIVE[displayNumber] : INACTIVE[displayNumber];
+        }
     }
 
 } // end of outer class
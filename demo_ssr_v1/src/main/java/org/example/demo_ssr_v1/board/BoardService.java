@@ -3,9 +3,12 @@ package org.example.demo_ssr_v1.board;
 import lombok.RequiredArgsConstructor;
 import org.example.demo_ssr_v1._core.errors.exception.Exception403;
 import org.example.demo_ssr_v1._core.errors.exception.Exception404;
+import org.example.demo_ssr_v1.admin.DashboardStatService;
 import org.example.demo_ssr_v1.purchase.PurchaseService;
 import org.example.demo_ssr_v1.reply.ReplyRepository;
 import org.example.demo_ssr_v1.user.User;
+import org.example.demo_ssr_v1.user.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -23,7 +26,10 @@ public class BoardService {
 
     private final BoardRepository boardRepository;
     private final ReplyRepository replyRepository;
+    private final UserRepository userRepository;
     private final PurchaseService purchaseService;
+    private final DashboardStatService dashboardStatService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 게시글 목록 조회
@@ -98,10 +104,14 @@ public class BoardService {
     // 1. 트랜잭션 처리
     // 2. Repository 저장 처리
     @Transactional
-    public Board 게시글작성(BoardRequest.SaveDTO saveDTO, User sessionUser) {
+    public Board 게시글작성(BoardRequest.SaveDTO saveDTO, Long sessionUserId) {
+        // 세션에는 엔티티가 없으므로 작성자는 프록시(참조)로 연결 - SELECT 없이 FK 값만 사용
+        User userRef = userRepository.getReferenceById(sessionUserId);
         // DTO 에서 직접 new 해서 생성한 Board 객체 일뿐 아직 영속화 된 객체는 아니다!!
-        Board board = saveDTO.toEntity(sessionUser);
+        Board board = saveDTO.toEntity(userRef);
         boardRepository.save(board);
+        dashboardStatService.게시글수반영(1);
+        eventPublisher.publishEvent(new BoardChangedEvent(board.getId()));
 //        return boardRepository.save(board);
         return board;
     }
@@ -137,7 +147,8 @@ public class BoardService {
         }
 
         // 4.
-        boardEntity.update(updateDTO); // 상태값 변경
+        boardEntity.update(updateDTO); // 상태값 변경 (version 증가)
+        eventPublisher.publishEvent(new BoardChangedEvent(boardId));
         return boardEntity;
     }
 
@@ -158,11 +169,16 @@ public class BoardService {
         }
         // 4.
         // 게시글 삭제 시 제약 오류 발생하기 때문에 댓글 부터 삭제 후 게시글 삭제 처리 해야 함
-        replyRepository.deleteByBoardId(boardEntity.getId());
+        long deletedReplies = replyRepository.deleteByBoardId(boardEntity.getId());
 
         // 5.
         boardRepository.deleteById(boardId);
 
+        // 6. 대시보드 통계 반영
+        dashboardStatService.게시글수반영(-1);
+        dashboardStatService.댓글수반영(-deletedReplies);
+        eventPublisher.publishEvent(new BoardChangedEvent(boardId));
+
 
     }
 }
@@ -11,7 +11,13 @@ import java.sql.Timestamp;
 
 @Data
 @NoArgsConstructor
-@Table(name = "payment_tb")
+@Table(
+        name = "payment_tb",
+        // 결제 내역 키셋 페이징 (WHERE user_id = ? AND id < ? ORDER BY id DESC) 용 인덱스
+        indexes = {
+                @Index(name = "idx_payment_user_id", columnList = "user_id, id")
+        }
+)
 @Entity
 public class Payment {
     @Id
@@ -2,7 +2,7 @@ package org.example.demo_ssr_v1.payment;
 
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
-import org.example.demo_ssr_v1.user.User;
+import org.example.demo_ssr_v1.user.SessionUser;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -25,7 +25,7 @@ public class PaymentApiController {
         reqDTO.validate();
 
         // 누가 요청 한지 - 세션에서 추출
-        User sessionUser = (User) session.getAttribute("sessionUser");
+        SessionUser sessionUser = (SessionUser) session.getAttribute("sessionUser");
         if (sessionUser == null) {
             return ResponseEntity.status(401).body(Map.of("message", "로그인이 필요합니다."));
         }
@@ -43,7 +43,7 @@ public class PaymentApiController {
             @RequestBody PaymentRequest.VerifyDTO reqDTO,
             HttpSession session
     ) {
-        User sessionUser = (User) session.getAttribute("sessionUser");
+        SessionUser sessionUser = (SessionUser) session.getAttribute("sessionUser");
         if (sessionUser == null) {
             return ResponseEntity.status(401).body(Map.of("message", "로그인이 필요합니다."));
         }
@@ -55,10 +55,7 @@ public class PaymentApiController {
                 reqDTO.getMerchantUid()
         );
 
-        // 세션에서 사용자 포인트 정보 즉시 업데이트
-        sessionUser.setPoint(verifyDTO.getCurrentPoint());
-        // 반드시 갱신해주어야 함.
-        session.setAttribute("sessionUser", sessionUser);
+        // 포인트는 세션에 저장하지 않음 -> 충전 후 최신 포인트는 응답(currentPoint)과 DB 조회로 확인
 
         return ResponseEntity.ok().body(verifyDTO);
     }
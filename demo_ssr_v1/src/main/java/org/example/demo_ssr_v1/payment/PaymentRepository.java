@@ -1,7 +1,9 @@
 package org.example.demo_ssr_v1.payment;
 
 import org.example.demo_ssr_v1.purchase.Purchase;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -29,4 +31,29 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
         ORDER BY p.timestamp DESC
     """)
     List<Payment> findAllByUserId(@Param("userId") Long userId);
+
+    /**
+     * 결제 내역 + 환불 상태 한번에 조회 (키셋 페이징)
+     * - LEFT JOIN 으로 환불 요청이 없는 결제도 함께 가져온다 (r.status 는 null)
+     * - 결제 건마다 환불 테이블을 따로 조회하던 N + 1 문제 해결
+     * - OFFSET 대신 마지막으로 본 결제 id(lastId) 보다 작은 것만 조회 (idx_payment_user_id 인덱스 사용)
+     * @param lastId 이전 페이지의 마지막 결제 id (첫 페이지는 null)
+     * @param pageable 조회할 개수 (LIMIT) 용도로만 사용
+     * @return [0] Payment, [1] RefundStatus (환불 요청 없으면 null)
+     */
+    @Query("""
+        SELECT p, r.status FROM Payment p
+        LEFT JOIN RefundRequest r ON r.payment = p
+        WHERE p.user.id = :userId
+        AND (:lastId IS NULL OR p.id < :lastId)
+        ORDER BY p.id DESC
+    """)
+    List<Object[]> findHistoryByUserId(@Param("userId") Long userId,
+                                       @Param("lastId") Long lastId,
+                                       Pageable pageable);
+
+    // 결제 상태 일괄 변경 (환불 승인 시 cancelled 처리) - 쿼리 1번
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Payment p SET p.status = :status WHERE p.id IN :ids")
+    int updateStatusByIdIn(@Param("ids") List<Long> ids, @Param("status") String status);
 }
@@ -5,8 +5,10 @@ import com.fasterxml.jackson.databind.annotation.JsonNaming;
 import lombok.Data;
 import org.example.demo_ssr_v1._core.errors.exception.Exception400;
 import org.example.demo_ssr_v1._core.utils.MyDateUtil;
+import org.example.demo_ssr_v1.refund.RefundStatus;
 
 import java.sql.Timestamp;
+import java.util.List;
 
 public class PaymentResponse {
 
@@ -84,20 +86,53 @@ public class PaymentResponse {
         // 환불 관련 추가
         private Boolean isRefundable; // 환불 가능 여부 (화면에 표시 여부)
 
-        public ListDTO(Payment payment, Boolean isRefundable) {
+        // refundStatus: LEFT JOIN 으로 함께 조회한 환불 요청 상태 (요청이 없으면 null)
+        public ListDTO(Payment payment, RefundStatus refundStatus) {
             this.id = payment.getId();
             this.merchantUid = payment.getMerchantUid();
             this.impUid = payment.getImpUid();
-            this.isRefundable = isRefundable != null ? isRefundable : false;
+            this.isRefundable = isRefundable(payment.getStatus(), refundStatus);
             if (payment.getTimestamp() != null) {
                 this.timestamp = MyDateUtil.time(payment.getTimestamp());
             }
             this.amount = payment.getAmount();
+            this.status = payment.getStatus();
             if ("paid".equals(payment.getStatus())) {
                 this.statusDisplay = "결제완료";
             } else {
                 this.statusDisplay = "환불완료";
             }
         }
+
+        // 환불 요청 상태를 확인하여 isRefundable 를 결정 해야 한다.
+        // - 결제 상태가 paid -> 환불 요청이 없는 상태 (환불 가능)
+        // - 결제 상태가 paid -> 관리자가 거절 했지만 다시 요청 가능하게 너그러움을 준다 (환불 가능)
+        // - 결제 상태가 paid -> 환불 요청 대기중 이거나 승인된 상태 (버튼 안 보임)
+        // - 결제 상태가 cancelled 상태인 경우 -> 이미 환불 완료, 환불 불가
+        private static boolean isRefundable(String paymentStatus, RefundStatus refundStatus) {
+            if (!"paid".equals(paymentStatus)) {
+                return false;
+            }
+            return refundStatus == null || refundStatus == RefundStatus.REJECTED;
+        }
+    }
+
+    // 결제 내역 페이지 DTO (키셋 페이징)
+    // 페이지 번호 대신 마지막으로 본 결제 id(nextCursor)로 다음 페이지를 요청 한다.
+    @Data
+    public static class HistoryPageDTO {
+        private List<ListDTO> content;
+        private boolean hasNext; // 다음 페이지 존재 여부
+        private Long nextCursor; // 다음 페이지 요청시 사용할 커서 (없으면 null)
+        private int size; // 페이지 크기 (다음 페이지도 같은 크기로 요청)
+
+        public HistoryPageDTO(List<ListDTO> content, boolean hasNext, int size) {
+            this.content = content;
+            this.hasNext = hasNext;
+            this.size = size;
+            this.nextCursor = (hasNext && !content.isEmpty())
+                    ? content.get(content.size() - 1).getId()
+                    : null;
+        }
     }
 }
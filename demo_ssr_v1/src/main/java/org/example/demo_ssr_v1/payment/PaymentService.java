@@ -4,15 +4,19 @@ import lombok.RequiredArgsConstructor;
 
 import org.example.demo_ssr_v1._core.errors.exception.Exception400;
 import org.example.demo_ssr_v1._core.errors.exception.Exception404;
-import org.example.demo_ssr_v1.refund.RefundRequest;
-import org.example.demo_ssr_v1.refund.RefundRequestRepository;
+import org.example.demo_ssr_v1._core.errors.exception.Exception503;
+import org.example.demo_ssr_v1._core.resilience.UpstreamGuard;
+import org.example.demo_ssr_v1._core.resilience.UpstreamGuardRegistry;
+import org.example.demo_ssr_v1.admin.DashboardStatService;
+import org.example.demo_ssr_v1.refund.RefundStatus;
 import org.example.demo_ssr_v1.user.User;
 import org.example.demo_ssr_v1.user.UserRepository;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.*;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 
 import java.util.*;
 
@@ -23,7 +27,8 @@ public class PaymentService {
 
     private final PaymentRepository paymentRepository;
     private final UserRepository userRepository;
-    private final RefundRequestRepository refundRequestRepository;
+    private final UpstreamGuardRegistry upstreamGuardRegistry;
+    private final DashboardStatService dashboardStatService;
 
     @Value("${portont.imp-key}")
     private String impKey;
@@ -31,6 +36,10 @@ public class PaymentService {
     @Value("${portont.imp-secret}")
     private String impSecret;
 
+    // 포트원 API 서버 주소 (부하 테스트 시에는 로컬 시뮬레이터 주소로 변경 - application-loadtest.yml)
+    @Value("${portont.base-url:https://api.iamport.kr}")
+    private String portOneBaseUrl;
+
     // 1. 사전 결제 요청
     // 프론트엔드가 결제 창을 띄우기 전에, 서버에서 먼저 고유한 '주문번호(merchantUid)'를
     // 생성하여 내려 주기 위함 (중복 결제 방지, 금액 위변조 방지)
@@ -85,6 +94,7 @@ public class PaymentService {
                 .status("paid")
                 .build();
         paymentRepository.save(payment);
+        dashboardStatService.매출반영(paymentData.getAmount());
 
         // 필요한 데이터만 반환
         return new PaymentResponse.VerifyDTO(paymentData.getAmount(), user.getPoint());
@@ -95,47 +105,61 @@ public class PaymentService {
         String accessToken = 포트원엑세스토큰발급();
 
         // 2. 포트원 자원 서버에 결제 정보 조회 요청
+        PaymentResponse.PortOnePaymentResponse.PaymentData data;
         try {
-            RestTemplate restTemplate = new RestTemplate();
-            // 포트원 단건 조회 API ( GET 방식과 헤더에 Bearer + "공백" 키값)
-            HttpHeaders headers = new HttpHeaders();
-            // headers: { Authorization: access_token }
-            headers.setBearerAuth(accessToken);
-            HttpEntity<Void> request = new HttpEntity<>(headers);
-
-            ResponseEntity<PaymentResponse.PortOnePaymentResponse> response = restTemplate.exchange(
-                    ("https://api.iamport.kr/payments/" + impUid),
-                    HttpMethod.GET,
-                    request,
-                    PaymentResponse.PortOnePaymentResponse.class
-            );
-
-            // 3. 응답 데이터 추출
-            PaymentResponse.PortOnePaymentResponse.PaymentData data = response.getBody().getResponse();
-
-            if (data == null) {
-                throw new Exception400("결제 정보를 찾을 수 없습니다.");
-            }
-
-            // ** 4. 데이터 무결성 검증 **
-            if (!"paid".equals(data.getStatus())) {
-                throw new Exception400("결제가 완료되지 않았습니다.");
-            }
-            if (!merchantUid.equals(data.getMerchantUid())) {
-                throw new Exception400("주문번호가 일치하지 않습니다.");
-            }
-
-            return data;
-
+            data = 포트원결제단건조회(accessToken, impUid);
+        } catch (Exception503 e) {
+            // 서킷 OPEN / 동시 호출 한도 초과 -> 그대로 503 응답
+            throw e;
         } catch (RuntimeException e) {
             throw new RuntimeException(e);
         }
+
+        if (data == null) {
+            throw new Exception400("결제 정보를 찾을 수 없습니다.");
+        }
+
+        // ** 4. 데이터 무결성 검증 **
+        if (!"paid".equals(data.getStatus())) {
+            throw new Exception400("결제가 완료되지 않았습니다.");
+        }
+        if (!merchantUid.equals(data.getMerchantUid())) {
+            throw new Exception400("주문번호가 일치하지 않습니다.");
+        }
+
+        return data;
     }
 
-    private String 포트원엑세스토큰발급() {
+    // 포트원 결제 단건 조회 (조회는 다시 보내도 안전하므로 재시도 포함)
+    // 벌크헤드 + 서킷 브레이커 + 재시도 (포트원이 느려져도 톰캣 스레드가 전부 묶이지 않게)
+    private PaymentResponse.PortOnePaymentResponse.PaymentData 포트원결제단건조회(String accessToken, String impUid) {
+        UpstreamGuard portone = upstreamGuardRegistry.get(UpstreamGuardRegistry.PORTONE);
+
+        // 포트원 단건 조회 API ( GET 방식과 헤더에 Bearer + "공백" 키값)
+        HttpHeaders headers = new HttpHeaders();
+        // headers: { Authorization: access_token }
+        headers.setBearerAuth(accessToken);
+        HttpEntity<Void> request = new HttpEntity<>(headers);
+
+        ResponseEntity<PaymentResponse.PortOnePaymentResponse> response = portone.call(() ->
+                portone.getRestTemplate().exchange(
+                        (portOneBaseUrl + "/payments/" + impUid),
+                        HttpMethod.GET,
+                        request,
+                        PaymentResponse.PortOnePaymentResponse.class
+                ));
+
+        // 3. 응답 데이터 추출
+        return response.getBody() == null ? null : response.getBody().getResponse();
+    }
+
+    // 외부 통신만 하는 메서드 -> DB 커넥션을 잡지 않도록 트랜잭션 없이 실행
+    // (readOnly 트랜잭션이어도 커넥션을 먼저 가져와서 read-only 설정을 하기 때문)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String 포트원엑세스토큰발급() {
+        UpstreamGuard portone = upstreamGuardRegistry.get(UpstreamGuardRegistry.PORTONE);
         try {
-            // https://api.iamport.kr/users/getToken
-            RestTemplate restTemplate = new RestTemplate();
+            // https://api.iamport.kr/users/getToken (portOneBaseUrl + /users/getToken)
 
             // HTTP 메세지 헤더 생성
             HttpHeaders headers = new HttpHeaders();
@@ -151,59 +175,86 @@ public class PaymentService {
             HttpEntity<Map<String, String>> request = new HttpEntity<>(body, headers);
 
             // 통신 요청
-            ResponseEntity<PaymentResponse.PortOneTokenResponse> response = restTemplate.exchange(
-                    "https://api.iamport.kr/users/getToken",
-                    HttpMethod.POST,
-                    request,
-                    PaymentResponse.PortOneTokenResponse.class
-            );
+            ResponseEntity<PaymentResponse.PortOneTokenResponse> response = portone.call(() ->
+                    portone.getRestTemplate().exchange(
+                            portOneBaseUrl + "/users/getToken",
+                            HttpMethod.POST,
+                            request,
+                            PaymentResponse.PortOneTokenResponse.class
+                    ));
             // 응답 받은 엑세스 토큰 리턴
             return response.getBody().getResponse().getAccessToken();
+        } catch (Exception503 e) {
+            throw e;
         } catch (Exception e) {
             throw new Exception400("포트원 인증실패: 관리자 설정을 확인하세요.");
         }
     }
-    // 환불 요청 상태를 확인하여 isRefundable 를 결정 해야 한다.
-    // - 결제 상태가 paid -> 환불 요청이 없는 상태
-    // - 결제 상태가 paid -> 환불 요청 대기중 이거나 승인된 상태
-    // - 결제 상태가 cancelled 상태인 경우 -> 이미 관리자에서 거절 했음, 환불 불가
-    public List<PaymentResponse.ListDTO> 결제내역조회(Long userId) {
-        List<Payment> paymentList = paymentRepository.findAllByUserId(userId);
-        // [1, 2, 3, 4]
-        return paymentList.stream()
-                .map(payment -> {
-                    // 환불 요청 조회
-                    // 결제 PK 값으로 환불 테이블에 이력이 있는지 없는지 조회
-                    Optional<RefundRequest> refundRequestOpt
-                            = refundRequestRepository.findByPaymentId(payment.getId());
-
-                    // 환불 요청이 있는 경우 상태 확인
-                    // 요청이 있으면 true --> 화면에는 환불 요청 버튼 보이면 안됨.
-                    boolean hasRefundRequest = refundRequestOpt.isPresent();
-                    boolean isRefundable = false;
-
-                    if ("paid".equals(payment.getStatus())) {
-                        // 1. 결제 완료인 상태다.
-                        if (!hasRefundRequest) {
-                            // 환불 요청이 없는 상태이기 때문에 환불 요청 가능
-                            isRefundable = true;
-                        } else {
-                            // 환불 요청 대기 상태 --> 원래 false 임 (즉, 화면에 버튼 안 보임)
-                            RefundRequest refundRequest = refundRequestOpt.get();
-                            // 관리자가 환불 거절했지만 다시 요청 가능하게 사용자에게 너그러움 준다면
-                            if (refundRequest.isRejected()) {
-                                isRefundable = true;
-                            } else {
-                                // 대기중 / 환불 완료
-                                isRefundable = false;
-                            }
-                        }
-                    } else {
-                        // 환불 완료 상태 (돈 내어 줌)
-                        isRefundable = false;
-                    }
-
-                    return new PaymentResponse.ListDTO(payment, isRefundable);
-                }).toList();
+
+    /**
+     * 포트원 결제 취소 (전액 환불)
+     * - 환불 일괄 처리 시 엑세스 토큰은 묶음(chunk) 단위로 한번만 발급 받아서 재사용 한다.
+     * - 취소 요청은 다시 보내면 안 되므로 재시도 없이 1번만 보낸다. (UpstreamGuard.callOnce)
+     * - 거절 / 오류 / 응답을 못 받은 경우(읽기 타임아웃)에는 단건 조회로 실제 상태를 확인한다.
+     *   이미 취소된 결제(이전 시도에서 취소는 됐지만 응답을 못 받은 경우)도 성공으로 처리
+     * @return 결제가 취소된 상태이면 true
+     * @throws Exception503 서킷 OPEN / 동시 호출 한도 초과 (취소 요청을 보내지 못한 경우)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean 포트원결제취소(String accessToken, String impUid, String reason) {
+        UpstreamGuard portone = upstreamGuardRegistry.get(UpstreamGuardRegistry.PORTONE);
+
+        // POST https://api.iamport.kr/payments/cancel  { imp_uid, reason }
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setBearerAuth(accessToken);
+
+        Map<String, String> body = new HashMap<>();
+        body.put("imp_uid", impUid);
+        body.put("reason", reason);
+        HttpEntity<Map<String, String>> request = new HttpEntity<>(body, headers);
+
+        try {
+            ResponseEntity<PaymentResponse.PortOnePaymentResponse> response = portone.callOnce(() ->
+                    portone.getRestTemplate().exchange(
+                            portOneBaseUrl + "/payments/cancel",
+                            HttpMethod.POST,
+                            request,
+                            PaymentResponse.PortOnePaymentResponse.class
+                    ));
+            PaymentResponse.PortOnePaymentResponse result = response.getBody();
+            if (result != null && result.getCode() == 0 && result.getResponse() != null
+                    && "cancelled".equals(result.getResponse().getStatus())) {
+                return true;
+            }
+        } catch (Exception503 e) {
+            throw e;
+        } catch (RuntimeException e) {
+            // 타임아웃 / 5xx -> 포트원에서는 취소가 처리됐을 수 있으므로 아래에서 상태 확인
+        }
+
+        // 포트원은 취소 실패(이미 취소된 결제 포함)도 200 응답에 code != 0 으로 내려준다. -> 실제 결제 상태로 판단
+        PaymentResponse.PortOnePaymentResponse.PaymentData data = 포트원결제단건조회(accessToken, impUid);
+        return data != null && "cancelled".equals(data.getStatus());
+    }
+
+    // 결제 내역 조회 (키셋 페이징)
+    // 환불 요청 상태는 결제 목록과 함께 LEFT JOIN 한번으로 가져온다.
+    // -> 페이지 크기와 상관없이 쿼리는 항상 1번 (결제 건마다 환불 테이블 조회 X)
+    public PaymentResponse.HistoryPageDTO 결제내역조회(Long userId, Long cursor, int size) {
+        // size는 최소 1, 최대 50으로 제한
+        int validSize = Math.max(1, Math.min(50, size));
+
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        List<Object[]> rows = paymentRepository.findHistoryByUserId(
+                userId, cursor, PageRequest.of(0, validSize + 1));
+
+        boolean hasNext = rows.size() > validSize;
+        List<PaymentResponse.ListDTO> content = rows.stream()
+                .limit(validSize)
+                .map(row -> new PaymentResponse.ListDTO((Payment) row[0], (RefundStatus) row[1]))
+                .toList();
+
+        return new PaymentResponse.HistoryPageDTO(content, hasNext, validSize);
     }
 }
@@ -4,9 +4,11 @@ import lombok.RequiredArgsConstructor;
 import org.example.demo_ssr_v1._core.errors.exception.Exception400;
 import org.example.demo_ssr_v1._core.errors.exception.Exception404;
 import org.example.demo_ssr_v1.board.Board;
+import org.example.demo_ssr_v1.board.BoardChangedEvent;
 import org.example.demo_ssr_v1.board.BoardRepository;
 import org.example.demo_ssr_v1.user.User;
 import org.example.demo_ssr_v1.user.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +22,7 @@ public class PurchaseService {
     private final PurchaseRepository purchaseRepository;
     private final BoardRepository boardRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 유료 게시글 구매 기능
     private static final Integer PREMIUM_BOARD_PRICE = 500;
@@ -57,6 +60,8 @@ public class PurchaseService {
         purchaseRepository.save(purchase);
         // 8. 구매 요청자의 포인트 차감 갱신 (user 상태 갱신)
         userRepository.save(user);
+        // 구매한 게시글 상세 화면 내용이 바뀜 (ETag)
+        eventPublisher.publishEvent(new BoardChangedEvent(boardId));
     }
 
     // 게시글 상세 보기 화면 들어갈 때 내가 구매한 글 여부 확인
@@ -0,0 +1,39 @@
+package org.example.demo_ssr_v1.refund;
+
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import org.example.demo_ssr_v1.user.SessionUser;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+
+@RequiredArgsConstructor
+@Controller
+public class RefundController {
+
+    private final RefundService refundService;
+
+    // 환불 요청 화면
+    // http://localhost:8080/refund/request/1 (결제 번호)
+    @GetMapping("/refund/request/{paymentId}")
+    public String requestForm(@PathVariable(name = "paymentId") Long paymentId, HttpSession session, Model model) {
+        SessionUser sessionUser = (SessionUser) session.getAttribute("sessionUser");
+
+        RefundResponse.RequestFormDTO refund = refundService.환불요청화면(sessionUser.getId(), paymentId);
+        model.addAttribute("refund", refund);
+        return "refund/request-form";
+    }
+
+    // 환불 요청 (관리자 승인 전까지 대기 상태)
+    @PostMapping("/refund/request/{paymentId}")
+    public String requestProc(@PathVariable(name = "paymentId") Long paymentId,
+                              RefundRequestDTO.SaveDTO saveDTO,
+                              HttpSession session) {
+        SessionUser sessionUser = (SessionUser) session.getAttribute("sessionUser");
+        saveDTO.validate();
+        refundService.환불요청(sessionUser.getId(), paymentId, saveDTO);
+        return "redirect:/user/payment/list";
+    }
+}
@@ -7,13 +7,20 @@ import lombok.NoArgsConstructor;
 import org.example.demo_ssr_v1.payment.Payment;
 import org.example.demo_ssr_v1.user.User;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.sql.Timestamp;
 
 
 @Data
 @NoArgsConstructor
-@Table(name = "refund_request_tb")
+@Table(
+        name = "refund_request_tb",
+        // 관리자 환불 대기 큐 키셋 페이징 (WHERE status = 'PENDING' AND id > ? ORDER BY id) 용 인덱스
+        indexes = {
+                @Index(name = "idx_refund_status_id", columnList = "status, id")
+        }
+)
 @Entity
 public class RefundRequest {
     @Id
@@ -54,7 +61,7 @@ public class RefundRequest {
     private Timestamp createdAt;
 
     // 수정 시간
-    @CreationTimestamp
+    @UpdateTimestamp
     private Timestamp updatedAt;
 
     // 사용자가 먼저 환불 요청에 의해서 -> row 생성 되기 때문 (reason <- 사용자 환불 사유)
@@ -66,6 +73,13 @@ public class RefundRequest {
         this.status = RefundStatus.PENDING;
     }
 
+    // 편의 기능 - 거절된 요청을 다시 환불 요청 (결제 1건당 환불 요청 row 는 1개 - unique)
+    public void reRequest(String reason) {
+        this.status = RefundStatus.PENDING;
+        this.reason = reason;
+        this.rejectReason = null;
+    }
+
     // 편의 기능 - 환불 승인 처리
     public void approve() {
         this.status = RefundStatus.APPROVED;
@@ -82,6 +96,11 @@ public class RefundRequest {
         return this.status == RefundStatus.PENDING;
     }
 
+    // 승인 처리중(포트원 취소 진행중)인지 확인
+    public boolean isProcessing() {
+        return this.status == RefundStatus.PROCESSING;
+    }
+
     // 승인 상태인지 확인
     public boolean isApproved() {
         return this.status == RefundStatus.APPROVED;
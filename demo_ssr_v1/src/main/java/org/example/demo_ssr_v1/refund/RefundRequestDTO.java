@@ -0,0 +1,48 @@
+package org.example.demo_ssr_v1.refund;
+
+import lombok.Data;
+import org.example.demo_ssr_v1._core.errors.exception.Exception400;
+
+import java.util.List;
+
+// 환불 요청 DTO 모음 (RefundRequest 는 엔티티 이름이라 DTO 클래스는 RefundRequestDTO 로 구분)
+public class RefundRequestDTO {
+
+    // 사용자 환불 요청 DTO
+    @Data
+    public static class SaveDTO {
+        private String reason; // 환불 사유
+
+        public void validate() {
+            if (reason == null || reason.trim().isEmpty()) {
+                throw new Exception400("환불 사유를 입력하세요");
+            }
+            if (reason.length() > 500) {
+                throw new Exception400("환불 사유는 500자 이하로 입력하세요");
+            }
+        }
+    }
+
+    // 관리자 일괄 승인 / 거절 DTO (체크박스 name="ids" 여러개)
+    @Data
+    public static class BatchDTO {
+        private List<Long> ids;
+        private String rejectReason; // 거절 시에만 사용
+
+        public void validate() {
+            if (ids == null || ids.isEmpty()) {
+                throw new Exception400("처리할 환불 요청을 선택하세요");
+            }
+        }
+
+        public void validateReject() {
+            validate();
+            if (rejectReason == null || rejectReason.trim().isEmpty()) {
+                throw new Exception400("거절 사유를 입력하세요");
+            }
+            if (rejectReason.length() > 500) {
+                throw new Exception400("거절 사유는 500자 이하로 입력하세요");
+            }
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package org.example.demo_ssr_v1.refund;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.sql.Timestamp;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,4 +25,82 @@ public interface RefundRequestRepository extends JpaRepository<RefundRequest, Lo
 
     // 결제 ID로 환불 요청 조회 여부 확인
     Optional<RefundRequest> findByPaymentId(Long paymentId);
+
+    // 관리자 환불 대기 큐 (키셋 페이징 - 오래된 요청부터)
+    @Query("""
+    SELECT r FROM RefundRequest r
+    JOIN FETCH r.payment p
+    JOIN FETCH r.user u
+    WHERE r.status = :status
+    AND (:lastId IS NULL OR r.id > :lastId)
+    ORDER BY r.id ASC
+    """)
+    List<RefundRequest> findAllByStatusAfter(@Param("status") RefundStatus status,
+                                             @Param("lastId") Long lastId,
+                                             Pageable pageable);
+
+    // 일괄 처리할 대기중 환불 요청 id 목록 (키셋 페이징 - 엔티티 없이 id 만 조회)
+    @Query("""
+    SELECT r.id FROM RefundRequest r
+    WHERE r.status = :status
+    AND (:lastId IS NULL OR r.id > :lastId)
+    ORDER BY r.id ASC
+    """)
+    List<Long> findIdsByStatusAfter(@Param("status") RefundStatus status,
+                                    @Param("lastId") Long lastId,
+                                    Pageable pageable);
+
+    // 일괄 처리 대상 조회 (결제, 사용자 정보까지 한번에)
+    @Query("""
+    SELECT r FROM RefundRequest r
+    JOIN FETCH r.payment p
+    JOIN FETCH r.user u
+    WHERE r.id IN :ids
+    AND r.status = :status
+    """)
+    List<RefundRequest> findAllByIdInAndStatus(@Param("ids") List<Long> ids, @Param("status") RefundStatus status);
+
+    // 상태 일괄 변경 (대기중인 요청만) - row 마다 UPDATE 하지 않고 쿼리 1번
+    // 벌크 연산은 영속성 컨텍스트를 거치지 않으므로 수정 시간도 직접 지정
+    @Modifying(clearAutomatically = true)
+    @Query("""
+    UPDATE RefundRequest r
+    SET r.status = :status, r.rejectReason = :rejectReason, r.updatedAt = CURRENT_TIMESTAMP
+    WHERE r.id IN :ids
+    AND r.status = org.example.demo_ssr_v1.refund.RefundStatus.PENDING
+    """)
+    int updateStatusOfPending(@Param("ids") List<Long> ids,
+                              @Param("status") RefundStatus status,
+                              @Param("rejectReason") String rejectReason);
+
+    // 승인 처리 선점 (PENDING -> PROCESSING) - 조건부 UPDATE 라서 서버 여러 대 중 1곳만 1을 받는다.
+    @Modifying
+    @Query("""
+    UPDATE RefundRequest r
+    SET r.status = org.example.demo_ssr_v1.refund.RefundStatus.PROCESSING, r.updatedAt = CURRENT_TIMESTAMP
+    WHERE r.id = :id
+    AND r.status = org.example.demo_ssr_v1.refund.RefundStatus.PENDING
+    """)
+    int claimPending(@Param("id") Long id);
+
+    // 선점한 요청의 처리 결과 반영 (PROCESSING -> APPROVED / PENDING)
+    @Modifying(clearAutomatically = true)
+    @Query("""
+    UPDATE RefundRequest r
+    SET r.status = :status, r.updatedAt = CURRENT_TIMESTAMP
+    WHERE r.id IN :ids
+    AND r.status = org.example.demo_ssr_v1.refund.RefundStatus.PROCESSING
+    """)
+    int updateStatusOfProcessing(@Param("ids") List<Long> ids, @Param("status") RefundStatus status);
+
+    // 처리 도중 서버가 멈춰 PROCESSING 으로 남은 요청을 다시 대기 상태로
+    // (포트원 취소가 이미 됐더라도 다음 승인 때 단건 조회로 취소 상태를 확인하므로 안전)
+    @Modifying
+    @Query("""
+    UPDATE RefundRequest r
+    SET r.status = org.example.demo_ssr_v1.refund.RefundStatus.PENDING, r.updatedAt = CURRENT_TIMESTAMP
+    WHERE r.status = org.example.demo_ssr_v1.refund.RefundStatus.PROCESSING
+    AND r.updatedAt < :before
+    """)
+    int releaseStaleProcessing(@Param("before") Timestamp before);
 }
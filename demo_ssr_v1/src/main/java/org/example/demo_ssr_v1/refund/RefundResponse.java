@@ -0,0 +1,89 @@
+package org.example.demo_ssr_v1.refund;
+
+import lombok.Data;
+import org.example.demo_ssr_v1._core.utils.MyDateUtil;
+import org.example.demo_ssr_v1.payment.Payment;
+
+import java.util.List;
+
+public class RefundResponse {
+
+    // 환불 요청 화면 DTO
+    @Data
+    public static class RequestFormDTO {
+        private Long paymentId;
+        private String merchantUid;
+        private Integer amount;
+        private String timestamp;
+        private String rejectReason; // 이전에 거절된 경우 거절 사유 (재요청 화면에 표시)
+
+        public RequestFormDTO(Payment payment, RefundRequest previous) {
+            this.paymentId = payment.getId();
+            this.merchantUid = payment.getMerchantUid();
+            this.amount = payment.getAmount();
+            if (payment.getTimestamp() != null) {
+                this.timestamp = MyDateUtil.time(payment.getTimestamp());
+            }
+            if (previous != null) {
+                this.rejectReason = previous.getRejectReason();
+            }
+        }
+    }
+
+    // 관리자 환불 대기 목록 DTO
+    @Data
+    public static class ListDTO {
+        private Long id;
+        private Long paymentId;
+        private String username;
+        private String merchantUid;
+        private Integer amount;
+        private String reason;
+        private String createdAt;
+
+        // payment, user 는 JOIN FETCH 로 함께 조회된 상태
+        public ListDTO(RefundRequest refundRequest) {
+            this.id = refundRequest.getId();
+            this.paymentId = refundRequest.getPayment().getId();
+            this.username = refundRequest.getUser().getUsername();
+            this.merchantUid = refundRequest.getPayment().getMerchantUid();
+            this.amount = refundRequest.getPayment().getAmount();
+            this.reason = refundRequest.getReason();
+            if (refundRequest.getCreatedAt() != null) {
+                this.createdAt = MyDateUtil.time(refundRequest.getCreatedAt());
+            }
+        }
+    }
+
+    // 관리자 환불 대기 목록 페이지 DTO (키셋 페이징 - 오래된 요청부터)
+    @Data
+    public static class QueuePageDTO {
+        private List<ListDTO> content;
+        private boolean hasContent; // 일괄 처리 버튼 표시 여부
+        private boolean hasNext;
+        private Long nextCursor; // 다음 페이지 요청시 사용할 커서 (마지막 환불 요청 id)
+
+        public QueuePageDTO(List<ListDTO> content, boolean hasNext) {
+            this.content = content;
+            this.hasContent = !content.isEmpty();
+            this.hasNext = hasNext;
+            this.nextCursor = (hasNext && !content.isEmpty())
+                    ? content.get(content.size() - 1).getId()
+                    : null;
+        }
+    }
+
+    // 일괄 처리 결과 DTO
+    @Data
+    public static class BatchResultDTO {
+        private int approved; // 승인 (포트원 취소 + 포인트 회수 완료)
+        private int rejected; // 거절 (관리자 거절 + 포인트 부족으로 자동 거절)
+        private int failed;   // 포트원 취소 실패 -> 대기 상태 유지 (다음에 다시 처리)
+
+        public void add(BatchResultDTO other) {
+            this.approved += other.approved;
+            this.rejected += other.rejected;
+            this.failed += other.failed;
+        }
+    }
+}
@@ -1,9 +1,351 @@
 package org.example.demo_ssr_v1.refund;
 
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.demo_ssr_v1._core.errors.exception.Exception400;
+import org.example.demo_ssr_v1._core.errors.exception.Exception403;
+import org.example.demo_ssr_v1._core.errors.exception.Exception404;
+import org.example.demo_ssr_v1._core.errors.exception.Exception503;
+import org.example.demo_ssr_v1.admin.DashboardStatService;
+import org.example.demo_ssr_v1.payment.Payment;
+import org.example.demo_ssr_v1.payment.PaymentRepository;
+import org.example.demo_ssr_v1.payment.PaymentService;
+import org.example.demo_ssr_v1.user.User;
+import org.example.demo_ssr_v1.user.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.Timestamp;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 환불 처리 Service
+ *
+ * 사용자: 결제 건마다 환불 요청 (PENDING)
+ * 관리자: 대기 목록에서 선택 승인 / 선택 거절 / 전체 승인
+ *
+ * 승인 처리 흐름 (묶음(chunk) 단위)
+ * 1. 대기중인 요청을 결제, 사용자와 함께 한번에 조회 (쿼리 1번)
+ * 2. 포인트가 부족한 요청(충전 후 이미 사용)은 자동 거절
+ * 3. 취소할 요청을 선점 (PENDING -> PROCESSING 조건부 UPDATE, 서버 여러 대가 같은 요청을 이중 취소하지 않게)
+ * 4. 포트원 결제 취소 API 를 전용 스레드 풀로 동시에 호출 (트랜잭션 밖 - 외부 통신 동안 DB 커넥션을 잡지 않음)
+ * 5. 취소 성공 건만 짧은 트랜잭션 하나로 포인트 회수 + 환불/결제 상태 일괄 변경, 실패 건은 다시 대기 상태로
+ *    (포인트: 변경 감지 + JDBC 배치, 상태: 벌크 UPDATE 쿼리 1번)
+ */
+@Slf4j
 @Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class RefundService {
 
-    // 결제 내역 목록 조회
+    private static final String INSUFFICIENT_POINT_REASON = "충전 포인트를 이미 사용하여 환불할 수 없습니다.";
+
+    private final RefundRequestRepository refundRequestRepository;
+    private final PaymentRepository paymentRepository;
+    private final UserRepository userRepository;
+    private final PaymentService paymentService;
+    private final TransactionTemplate transactionTemplate;
+    private final DashboardStatService dashboardStatService;
+
+    // 포트원 취소 API 호출 전용 풀 (ExecutorConfig - 필드 이름으로 빈 이름 매칭)
+    private final ThreadPoolTaskExecutor refundCancelExecutor;
+
+    // 서버 1대 안에서 일괄 처리는 동시에 하나만 실행 (포트원 호출 수 제한)
+    // 서버 여러 대 사이의 이중 취소는 요청별 선점(PROCESSING)으로 막는다.
+    private final ReentrantLock batchLock = new ReentrantLock();
+
+    // 한 묶음(트랜잭션 하나)에서 처리할 환불 요청 수
+    @Value("${refund.chunk-size:100}")
+    private int chunkSize;
+
+    // 이 시간보다 오래 PROCESSING 으로 남은 요청은 처리 도중 서버가 멈춘 것으로 보고 다시 대기 상태로
+    @Value("${refund.processing-timeout-ms:600000}")
+    private long processingTimeoutMs;
+
+    // 환불 요청 화면
+    public RefundResponse.RequestFormDTO 환불요청화면(Long userId, Long paymentId) {
+        Payment payment = 환불가능결제조회(userId, paymentId);
+        RefundRequest previous = refundRequestRepository.findByPaymentId(paymentId).orElse(null);
+        checkRequestable(previous);
+        return new RefundResponse.RequestFormDTO(payment, previous);
+    }
+
+    // 환불 요청 (사용자)
+    @Transactional
+    public void 환불요청(Long userId, Long paymentId, RefundRequestDTO.SaveDTO saveDTO) {
+        Payment payment = 환불가능결제조회(userId, paymentId);
+        RefundRequest previous = refundRequestRepository.findByPaymentId(paymentId).orElse(null);
+        checkRequestable(previous);
+
+        if (previous != null) {
+            // 거절된 요청 -> 결제 1건당 환불 요청 row 는 1개 (unique) 이므로 기존 row 를 다시 대기 상태로
+            previous.reRequest(saveDTO.getReason());
+            dashboardStatService.환불대기수반영(1);
+            return;
+        }
+
+        RefundRequest refundRequest = RefundRequest.builder()
+                .user(payment.getUser())
+                .payment(payment)
+                .reason(saveDTO.getReason())
+                .build();
+        refundRequestRepository.save(refundRequest);
+        dashboardStatService.환불대기수반영(1);
+    }
+
+    private Payment 환불가능결제조회(Long userId, Long paymentId) {
+        Payment payment = paymentRepository.findById(paymentId)
+                .orElseThrow(() -> new Exception404("결제 내역을 찾을 수 없습니다."));
+        if (!payment.getUser().getId().equals(userId)) {
+            throw new Exception403("본인 결제 내역만 환불 요청할 수 있습니다.");
+        }
+        if (!"paid".equals(payment.getStatus())) {
+            throw new Exception400("이미 환불된 결제 입니다.");
+        }
+        return payment;
+    }
+
+    private void checkRequestable(RefundRequest previous) {
+        if (previous == null || previous.isRejected()) {
+            return;
+        }
+        if (previous.isPending() || previous.isProcessing()) {
+            throw new Exception400("이미 환불 요청이 접수되어 처리 대기중 입니다.");
+        }
+        throw new Exception400("이미 환불된 결제 입니다.");
+    }
+
+    // 관리자 환불 대기 목록 (키셋 페이징 - 오래된 요청부터)
+    public RefundResponse.QueuePageDTO 환불대기목록(Long cursor, int size) {
+        int validSize = Math.max(1, Math.min(100, size));
+
+        List<RefundRequest> rows = refundRequestRepository.findAllByStatusAfter(
+                RefundStatus.PENDING, cursor, PageRequest.of(0, validSize + 1));
+
+        boolean hasNext = rows.size() > validSize;
+        List<RefundResponse.ListDTO> content = rows.stream()
+                .limit(validSize)
+                .map(RefundResponse.ListDTO::new)
+                .toList();
+
+        return new RefundResponse.QueuePageDTO(content, hasNext);
+    }
+
+    // 선택 승인
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public RefundResponse.BatchResultDTO 환불일괄승인(List<Long> ids) {
+        return runExclusive(() -> {
+            멈춘처리중요청복구();
+            RefundResponse.BatchResultDTO total = new RefundResponse.BatchResultDTO();
+            for (List<Long> chunk : chunks(distinct(ids))) {
+                total.add(승인묶음처리(chunk));
+            }
+            return total;
+        });
+    }
+
+    // 전체 승인 - 대기중인 요청을 id 순서대로 묶음 단위로 끝까지 처리
+    // 취소 실패 건은 대기 상태로 남지만 커서가 지나가므로 같은 건을 반복하지 않는다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public RefundResponse.BatchResultDTO 환불전체승인() {
+        return runExclusive(() -> {
+            멈춘처리중요청복구();
+            RefundResponse.BatchResultDTO total = new RefundResponse.BatchResultDTO();
+            Long cursor = null;
+            while (true) {
+                List<Long> chunk = refundRequestRepository.findIdsByStatusAfter(
+                        RefundStatus.PENDING, cursor, PageRequest.of(0, chunkSize));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+                total.add(승인묶음처리(chunk));
+                cursor = chunk.get(chunk.size() - 1);
+            }
+            log.info("환불 전체 승인 완료 - 승인: {}, 거절: {}, 실패: {}",
+                    total.getApproved(), total.getRejected(), total.getFailed());
+            return total;
+        });
+    }
+
+    // 선택 거절 - 묶음마다 UPDATE 쿼리 1번 (외부 통신 없음)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public RefundResponse.BatchResultDTO 환불일괄거절(List<Long> ids, String rejectReason) {
+        return runExclusive(() -> {
+            RefundResponse.BatchResultDTO total = new RefundResponse.BatchResultDTO();
+            for (List<Long> chunk : chunks(distinct(ids))) {
+                Integer rejected = transactionTemplate.execute(status -> {
+                    int count = refundRequestRepository.updateStatusOfPending(chunk, RefundStatus.REJECTED, rejectReason);
+                    dashboardStatService.환불대기수반영(-count);
+                    return count;
+                });
+                total.setRejected(total.getRejected() + (rejected == null ? 0 : rejected));
+            }
+            return total;
+        });
+    }
+
+    private RefundResponse.BatchResultDTO 승인묶음처리(List<Long> ids) {
+        RefundResponse.BatchResultDTO result = new RefundResponse.BatchResultDTO();
+
+        // 1. 대상 조회 (결제, 사용자 JOIN FETCH - 쿼리 1번, 읽기 전용 트랜잭션은 여기서 끝남)
+        List<RefundRequest> pending = refundRequestRepository.findAllByIdInAndStatus(ids, RefundStatus.PENDING);
+        if (pending.isEmpty()) {
+            return result;
+        }
+
+        // 2. 포인트 부족 건 분리 (포트원 취소 전에 걸러야 돈만 돌려주고 포인트는 남는 상황을 막을 수 있음)
+        // 같은 사용자의 요청이 여러 건이면 누적 금액으로 확인
+        Map<Long, Integer> remainingPoints = new HashMap<>();
+        List<RefundRequest> cancelTargets = new ArrayList<>();
+        List<Long> insufficientIds = new ArrayList<>();
+        for (RefundRequest refundRequest : pending) {
+            User user = refundRequest.getUser();
+            int remaining = remainingPoints.getOrDefault(user.getId(), user.getPoint());
+            int amount = refundRequest.getPayment().getAmount();
+            if (remaining < amount) {
+                insufficientIds.add(refundRequest.getId());
+                continue;
+            }
+            remainingPoints.put(user.getId(), remaining - amount);
+            cancelTargets.add(refundRequest);
+        }
+
+        // 3. 선점 - 다른 서버(또는 사용자 재요청 등)로 이미 상태가 바뀐 요청은 제외
+        List<RefundRequest> claimed = cancelTargets.isEmpty()
+                ? List.of()
+                : 선점(cancelTargets);
+
+        // 4. 포트원 결제 취소 (동시 호출 수는 전용 스레드 풀 크기로 제한, 토큰은 묶음당 1번 발급)
+        List<RefundRequest> cancelled = claimed.isEmpty()
+                ? List.of()
+                : 포트원일괄취소(claimed);
+
+        // 5. 상태 반영 (짧은 쓰기 트랜잭션 하나)
+        Map<Long, Integer> reclaimAmounts = new HashMap<>();
+        long refundedAmount = 0;
+        List<Long> approvedIds = new ArrayList<>();
+        List<Long> paymentIds = new ArrayList<>();
+        for (RefundRequest refundRequest : cancelled) {
+            reclaimAmounts.merge(refundRequest.getUser().getId(), refundRequest.getPayment().getAmount(), Integer::sum);
+            approvedIds.add(refundRequest.getId());
+            paymentIds.add(refundRequest.getPayment().getId());
+            refundedAmount += refundRequest.getPayment().getAmount();
+        }
+        long totalRefundedAmount = refundedAmount;
+        List<Long> failedIds = claimed.stream()
+                .map(RefundRequest::getId)
+                .filter(id -> !approvedIds.contains(id))
+                .toList();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!insufficientIds.isEmpty()) {
+                result.setRejected(refundRequestRepository.updateStatusOfPending(
+                        insufficientIds, RefundStatus.REJECTED, INSUFFICIENT_POINT_REASON));
+                dashboardStatService.환불대기수반영(-result.getRejected());
+            }
+            if (!failedIds.isEmpty()) {
+                // 취소 실패 -> 다시 대기 상태로 (다음 승인 때 재시도, 이미 취소됐다면 그때 조회로 확인)
+                refundRequestRepository.updateStatusOfProcessing(failedIds, RefundStatus.PENDING);
+            }
+            if (approvedIds.isEmpty()) {
+                return;
+            }
+            // 포인트 회수 - 사용자 IN 조회 1번 + 변경 감지 (hibernate.jdbc.batch_size 로 UPDATE 배치 전송)
+            // 조회 후 포인트를 사용했을 수 있으므로 0 까지만 회수 (이미 돈은 돌려준 상태)
+            for (User user : userRepository.findAllById(reclaimAmounts.keySet())) {
+                user.reclaimPoint(reclaimAmounts.get(user.getId()));
+            }
+            // 벌크 UPDATE 전에 포인트 변경 내용을 먼저 반영 (clearAutomatically 로 영속성 컨텍스트가 비워지기 때문)
+            userRepository.flush();
+            int approved = refundRequestRepository.updateStatusOfProcessing(approvedIds, RefundStatus.APPROVED);
+            paymentRepository.updateStatusByIdIn(paymentIds, "cancelled");
+            dashboardStatService.환불대기수반영(-approved);
+            dashboardStatService.매출반영(-totalRefundedAmount);
+        });
+
+        result.setApproved(approvedIds.size());
+        result.setFailed(failedIds.size());
+        return result;
+    }
+
+    // 요청마다 PENDING -> PROCESSING 조건부 UPDATE, 1 row 가 바뀐 요청만 이 서버가 처리
+    private List<RefundRequest> 선점(List<RefundRequest> targets) {
+        List<RefundRequest> claimed = transactionTemplate.execute(status -> targets.stream()
+                .filter(target -> refundRequestRepository.claimPending(target.getId()) == 1)
+                .toList());
+        return claimed == null ? List.of() : claimed;
+    }
+
+    private void 멈춘처리중요청복구() {
+        Timestamp before = new Timestamp(System.currentTimeMillis() - processingTimeoutMs);
+        Integer released = transactionTemplate.execute(status -> refundRequestRepository.releaseStaleProcessing(before));
+        if (released != null && released > 0) {
+            log.warn("처리중으로 멈춘 환불 요청 {}건을 대기 상태로 되돌림", released);
+        }
+    }
+
+    // 포트원 결제 취소를 동시에 호출하고 성공한 요청만 반환
+    private List<RefundRequest> 포트원일괄취소(List<RefundRequest> targets) {
+        String accessToken;
+        try {
+            accessToken = paymentService.포트원엑세스토큰발급();
+        } catch (RuntimeException e) {
+            // 토큰 발급 실패 -> 이번 묶음은 전부 대기 상태로 남김
+            log.warn("환불 처리 중 포트원 토큰 발급 실패 - {}건 보류: {}", targets.size(), e.getMessage());
+            return List.of();
+        }
+
+        List<CompletableFuture<Boolean>> futures = new ArrayList<>(targets.size());
+        for (RefundRequest target : targets) {
+            String impUid = target.getPayment().getImpUid();
+            String reason = target.getReason();
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return paymentService.포트원결제취소(accessToken, impUid, reason);
+                } catch (RuntimeException e) {
+                    log.warn("포트원 결제 취소 실패 - impUid: {}, {}", impUid, e.getMessage());
+                    return false;
+                }
+            }, refundCancelExecutor));
+        }
+
+        List<RefundRequest> cancelled = new ArrayList<>();
+        for (int i = 0; i < targets.size(); i++) {
+            if (futures.get(i).join()) {
+                cancelled.add(targets.get(i));
+            }
+        }
+        return cancelled;
+    }
+
+    private <T> T runExclusive(Supplier<T> task) {
+        if (!batchLock.tryLock()) {
+            throw new Exception503("다른 환불 일괄 처리가 진행중입니다. 잠시 후 다시 시도해주세요.");
+        }
+        try {
+            return task.get();
+        } finally {
+            batchLock.unlock();
+        }
+    }
+
+    private List<List<Long>> chunks(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += chunkSize) {
+            chunks.add(ids.subList(i, Math.min(ids.size(), i + chunkSize)));
+        }
+        return chunks;
+    }
+
+    private static List<Long> distinct(List<Long> ids) {
+        return new ArrayList<>(new LinkedHashSet<>(ids));
+    }
 }
@@ -2,6 +2,7 @@ package org.example.demo_ssr_v1.refund;
 
 public enum RefundStatus {
     PENDING,
+    PROCESSING, // 승인 처리중 - 포트원 취소 호출 전에 선점 (서버 여러 대가 같은 요청을 이중 취소하지 않게)
     APPROVED,
     REJECTED
 }
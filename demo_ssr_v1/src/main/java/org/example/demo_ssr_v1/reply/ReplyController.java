@@ -2,7 +2,7 @@ package org.example.demo_ssr_v1.reply;
 
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
-import org.example.demo_ssr_v1.user.User;
+import org.example.demo_ssr_v1.user.SessionUser;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -24,7 +24,7 @@ public class ReplyController {
     // 4. 게시글 상세보기 화면으로 리다이렉트 처리
     @PostMapping("/reply/save")
     public String saveProc(ReplyRequest.SaveDTO saveDTO, HttpSession session) {
-        User sessionUser = (User) session.getAttribute("sessionUser");
+        SessionUser sessionUser = (SessionUser) session.getAttribute("sessionUser");
         saveDTO.validate();
         replyService.댓글작성(saveDTO, sessionUser.getId());
         return "redirect:/board/" + saveDTO.getBoardId();
@@ -32,7 +32,7 @@ public class ReplyController {
 
     @PostMapping("/reply/{id}/delete")
     public String deleteProc(@PathVariable(name = "id") Long replyId, HttpSession session) {
-        User sessionUser = (User) session.getAttribute("sessionUser");
+        SessionUser sessionUser = (SessionUser) session.getAttribute("sessionUser");
 
         Long boardId = replyService.댓글삭제(replyId, sessionUser.getId());
 
@@ -31,7 +31,7 @@ public interface ReplyRepository extends JpaRepository<Reply, Long> {
     Optional<Reply> findByIdWithUser(@Param("id") Long id);
 
     // 댓글 삭제 -> 네임드 쿼리로 만들어 보세요
-    // 게시글 ID로 댓글 삭제
-    void deleteByBoardId (Long boardId);
+    // 게시글 ID로 댓글 삭제 (삭제된 댓글 수 반환 - 대시보드 통계 반영용)
+    long deleteByBoardId (Long boardId);
 
 }
@@ -4,10 +4,13 @@ import lombok.RequiredArgsConstructor;
 import org.example.demo_ssr_v1._core.errors.exception.Exception400;
 import org.example.demo_ssr_v1._core.errors.exception.Exception403;
 import org.example.demo_ssr_v1._core.errors.exception.Exception404;
+import org.example.demo_ssr_v1.admin.DashboardStatService;
 import org.example.demo_ssr_v1.board.Board;
+import org.example.demo_ssr_v1.board.BoardChangedEvent;
 import org.example.demo_ssr_v1.board.BoardRepository;
 import org.example.demo_ssr_v1.user.User;
 import org.example.demo_ssr_v1.user.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +24,8 @@ public class ReplyService {
     private final ReplyRepository replyRepository;
     private final BoardRepository boardRepository;
     private final UserRepository userRepository;
+    private final DashboardStatService dashboardStatService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 댓글 목록 조회 기능
     /**
@@ -59,7 +64,10 @@ public class ReplyService {
         // 비영속상태
         Reply reply = saveDTO.toEntity(boardEntity, userEntity);
 
-        return replyRepository.save(reply);
+        replyRepository.save(reply);
+        dashboardStatService.댓글수반영(1);
+        eventPublisher.publishEvent(new BoardChangedEvent(boardEntity.getId()));
+        return reply;
     }
 
     // 댓글 삭제
@@ -76,6 +84,8 @@ public class ReplyService {
         Long boardId = replyEntity.getBoard().getId();
 
         replyRepository.delete(replyEntity);
+        dashboardStatService.댓글수반영(-1);
+        eventPublisher.publishEvent(new BoardChangedEvent(boardId));
 
         // 컨트롤러에서 리다이렉트 처리해서 다시 게시글 상세보기 호출 하기 위한 boardId값
         return boardId;
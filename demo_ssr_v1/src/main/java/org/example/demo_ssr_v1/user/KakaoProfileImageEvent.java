@@ -0,0 +1,8 @@
+package org.example.demo_ssr_v1.user;
+
+/**
+ * 카카오 프로필 이미지 URL 을 로컬 파일로 가져와야 하는 사용자 (트랜잭션 커밋 후 처리)
+ * @param imageUrl 현재 DB 에 저장된 카카오 이미지 URL (처리 도중 사용자가 바꿨는지 비교용)
+ */
+public record KakaoProfileImageEvent(Long userId, String imageUrl) {
+}
@@ -0,0 +1,130 @@
+package org.example.demo_ssr_v1.user;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.demo_ssr_v1._core.resilience.UpstreamGuard;
+import org.example.demo_ssr_v1._core.resilience.UpstreamGuardRegistry;
+import org.example.demo_ssr_v1._core.storage.FileStorageService;
+import org.example.demo_ssr_v1._core.storage.ImageVariantPipeline;
+import org.example.demo_ssr_v1._core.utils.ImageResizer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.imageio.ImageIO;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 카카오 프로필 이미지 로컬 저장
+ *
+ * 카카오 로그인 사용자는 프로필 이미지가 카카오 CDN URL 로 저장되어 있어서
+ * 페이지를 열 때마다 외부 이미지를 그대로 불러왔다 (원본 크기, 외부 서버 상태에 따라 느려짐)
+ * -> 가입(또는 로그인) 트랜잭션이 커밋된 뒤 별도 스레드에서 (트랜잭션 밖에서 발행하면 바로)
+ *    1. 이미지를 내려받아 (크기 제한, 허용된 호스트만)
+ *       업로드 축소본과 같은 방식으로 디코딩 (픽셀 수 제한, 건너뛰며 읽기, EXIF 방향 보정)
+ *    2. 화면용 크기로 줄여 JPEG 로 파일 저장소에 저장하고 (카카오 기본 이미지 등 같은 이미지는 파일 하나를 공유)
+ *    3. 사용자 프로필 이미지를 저장소 key 로 교체한다.
+ * 실패하면 기존 URL 을 그대로 사용 (다음 로그인 때 다시 시도)
+ */
+@Slf4j
+@Component
+public class KakaoProfileImageImporter {
+
+    private final UserService userService;
+    private final FileStorageService fileStorageService;
+    private final UpstreamGuard kakaoCdn;
+    private final long maxBytes;
+    private final List<String> allowedHosts;
+    private final int mediumSize;
+    private final long maxPixels;
+
+    // 같은 사용자에 대해 동시에 여러 번 가져오지 않도록 (가져오는 도중 다시 로그인 하는 경우)
+    private final Set<Long> inProgress = ConcurrentHashMap.newKeySet();
+
+    public KakaoProfileImageImporter(UserService userService,
+                                     FileStorageService fileStorageService,
+                                     UpstreamGuardRegistry upstreamGuardRegistry,
+                                     @Value("${profile-image.import.max-bytes:5242880}") long maxBytes,
+                                     @Value("${profile-image.import.allowed-hosts:kakaocdn.net}") List<String> allowedHosts,
+                                     @Value("${profile-image.medium-size:400}") int mediumSize,
+                                     @Value("${storage.image-variant.max-pixels:40000000}") long maxPixels) {
+        this.userService = userService;
+        this.fileStorageService = fileStorageService;
+        this.kakaoCdn = upstreamGuardRegistry.get(UpstreamGuardRegistry.KAKAO_CDN);
+        this.maxBytes = maxBytes;
+        this.allowedHosts = allowedHosts;
+        this.mediumSize = mediumSize;
+        this.maxPixels = maxPixels;
+    }
+
+    @Async("profileImageExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void 프로필이미지가져오기(KakaoProfileImageEvent event) {
+        if (!inProgress.add(event.userId())) {
+            return;
+        }
+        try {
+            if (!isAllowed(event.imageUrl())) {
+                log.warn("허용되지 않은 프로필 이미지 주소 - userId: {}, url: {}", event.userId(), event.imageUrl());
+                return;
+            }
+
+            byte[] original = download(event.imageUrl());
+            // 작은 파일도 픽셀 수는 클 수 있으므로 (압축 폭탄) 디코딩 전에 크기부터 확인
+            BufferedImage image;
+            try (ImageInputStream in = ImageIO.createImageInputStream(new ByteArrayInputStream(original))) {
+                image = ImageVariantPipeline.decode(in, mediumSize, maxPixels);
+            }
+
+            byte[] jpeg = ImageResizer.toJpeg(ImageResizer.resize(image, mediumSize), 0.85f);
+            String key = fileStorageService.저장(new ByteArrayInputStream(jpeg), "jpg");
+
+            // 가져오는 동안 사용자가 프로필을 바꿨다면 교체하지 않고 저장소에 반납
+            if (!userService.카카오프로필이미지교체(event.userId(), event.imageUrl(), key)) {
+                fileStorageService.해제(key);
+            }
+        } catch (Exception e) {
+            log.warn("카카오 프로필 이미지 저장 실패 - userId: {}, 원인: {}", event.userId(), e.getMessage());
+        } finally {
+            inProgress.remove(event.userId());
+        }
+    }
+
+    // https + 허용 호스트(하위 도메인 포함)만 내려받음 (임의의 내부 주소 요청 방지)
+    private boolean isAllowed(String url) {
+        URI uri;
+        try {
+            uri = URI.create(url);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        String host = uri.getHost();
+        if (!"https".equalsIgnoreCase(uri.getScheme()) || host == null) {
+            return false;
+        }
+        return allowedHosts.stream().anyMatch(allowed -> host.equals(allowed) || host.endsWith("." + allowed));
+    }
+
+    // maxBytes 보다 크면 중단 (Content-Length 를 믿지 않고 실제 읽은 크기로 확인)
+    private byte[] download(String url) {
+        return kakaoCdn.call(() -> kakaoCdn.getRestTemplate().execute(url, HttpMethod.GET, null, response -> {
+            try (InputStream in = response.getBody()) {
+                byte[] data = in.readNBytes((int) Math.min(Integer.MAX_VALUE, maxBytes + 1));
+                if (data.length > maxBytes) {
+                    throw new IOException("프로필 이미지가 너무 큽니다 (" + maxBytes + " byte 초과)");
+                }
+                return data;
+            }
+        }));
+    }
+}
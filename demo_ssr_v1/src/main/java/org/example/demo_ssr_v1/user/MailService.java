@@ -1,69 +1,49 @@
 package org.example.demo_ssr_v1.user;
 
-import jakarta.mail.internet.MimeMessage;
-import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
+import org.example.demo_ssr_v1._core.mail.MailDispatcher;
 import org.example.demo_ssr_v1._core.utils.MailUtils;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
+import org.example.demo_ssr_v1._core.verification.VerificationCodeStore;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+
 @Service
 @RequiredArgsConstructor
 public class MailService {
 
-    // 의존성 주입 받았던 클래스 (javaMailSender -> 편지를 쓰게하는 클래스)
-    private final HttpSession session;
-    private final JavaMailSender javaMailSender;
+    // 인증번호는 세션이 아니라 만료 시간 / 시도 횟수 제한이 있는 전용 저장소에 보관
+    private final VerificationCodeStore verificationCodeStore;
+    // 메일은 대기열에 넣기만 하고 실제 SMTP 발송은 MailDispatcher 워커가 처리
+    private final MailDispatcher mailDispatcher;
 
-    public void 인증번호발송(String email) {
+    /**
+     * 인증번호 메일 발송 요청 (SMTP 발송을 기다리지 않고 바로 반환)
+     * @return 발송 상태 조회용 번호
+     */
+    public long 인증번호발송(String email) {
         // 1. 인증번호 생성
-        // email -> 인증번호(123456) -> 임시로 세션메모리 저장 -> 메일 발송 요청
+        // email -> 인증번호(123456) -> 인증번호 저장소에 저장 -> 메일 발송 요청
         String code = MailUtils.generateRandomCode();
 
-        // 2. 이메일 전송 내용 설정
-        // MimeMessage / SimpleMailMessage(순수하게 텍스트만 보낼 때 사용)
-        // MimeMessage: 텍스트 뿐만 아니라 HTML, 첨부파일등을 포함할 수 있는 표준 포멧
-        // SimpleMailMessage: 순수하게 텍스트만 보낼 때 사용
-        MimeMessage message = javaMailSender.createMimeMessage();
-
-        // 3. 구글 메일 서버로 전송 - 우리 서버가 아니고 외부 서버로 통신 요청
-        // 외부 통신하는 코드 일 때도 기본적으로 try catch를 사용해야 한다.
-        try {
-            // 3-1 도우미 객체를 사용
-            // 인자값 2번: 멀티파트 허용
-            // 인자값 3번: 인토딩 설정
-            MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-
-            helper.setTo(email); // 받는 사람 이메일 주소
-            helper.setSubject("[MyBlog] 회원가입 이메일 전송");
-            helper.setText("<h3>인증번호는 [" + code + "] 입니다<h3>", true);
-
-            javaMailSender.send(message);
+        // 2. 인증번호 저장 (메일이 도착하기 전에 먼저 저장해 둔다)
+        // 같은 이메일로 다시 요청하면 이전 번호는 무효가 되고 시도 횟수도 초기화 된다.
+        verificationCodeStore.save(email, code);
 
-            // 세션에 임시 코드 저장
-            // sessionUser: USer {...}
-            // code_a@naver.com: 123456
-            // 동시에 접속자가 많아도 이메일 주소로 누구인증번호인지 구별 할 수 있음
-            session.setAttribute("code_" + email, code);
-
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+        // 3. 발송 대기열에 등록
+        return mailDispatcher.enqueue(
+                email,
+                "[MyBlog] 회원가입 이메일 전송",
+                "<h3>인증번호는 [" + code + "] 입니다<h3>");
     }
 
-    public boolean 인증번호확인(String email, String code) {
-        // 1. 세션에서 저장된 코드 가져오기
-        // key: code_ + "a@naver.com"
-        String savedCode = (String) session.getAttribute("code_" + email);
-
-        // 2. 세션에 가지고 온 code 값과 사용자가 입력한 인증번호 일치 여부 확인
-        if (savedCode != null && savedCode.equals(code)) {
-            // 세션 메모리에서 제거 해주어야 함
-            session.removeAttribute("code_" + email);
-            return true;
-        }
+    // 발송 상태 조회 (QUEUED, SENDING, RETRYING, SENT, FAILED)
+    public Optional<MailDispatcher.DeliveryDTO> 발송상태조회(long mailId) {
+        return mailDispatcher.delivery(mailId);
+    }
 
-        return false;
+    // 인증번호 확인 (일치하면 저장소에서 삭제 -> 재사용 불가)
+    public VerificationCodeStore.Result 인증번호확인(String email, String code) {
+        return verificationCodeStore.verify(email, code);
     }
 }
@@ -0,0 +1,86 @@
+package org.example.demo_ssr_v1.user;
+
+import org.example.demo_ssr_v1.board.Role;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * 세션에 저장하는 로그인 사용자 정보 (불변 객체)
+ *
+ * 기존에는 User 엔티티를 통째로 세션에 저장 했는데
+ * - roles(PersistentBag), 비밀번호 해시, 이메일, 포인트까지 세션마다 들고 있어서 메모리 / 직렬화 비용이 크고
+ * - 포인트처럼 자주 바뀌는 값은 세션에 복사해 두면 DB 와 어긋난다.
+ * -> 화면과 인가 처리에 필요한 값만 담고, 포인트 등은 필요할 때 DB 에서 조회한다.
+ *
+ * 역할은 Role.ordinal() 비트 위치에 1 을 세운 비트마스크로 저장 (ADMIN: 1, USER: 2)
+ */
+public final class SessionUser implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final long id;
+    private final String username;
+    private final int roleMask;
+    private final String profilePath;
+
+    public SessionUser(long id, String username, int roleMask, String profilePath) {
+        this.id = id;
+        this.username = username;
+        this.roleMask = roleMask;
+        this.profilePath = profilePath;
+    }
+
+    // 로그인 / 회원정보 수정 후 엔티티에서 세션 정보 생성
+    // (roles 는 EAGER 라 트랜잭션 밖에서도 바로 사용 가능)
+    public static SessionUser from(User user) {
+        int roleMask = 0;
+        if (user.getRoles() != null) {
+            for (UserRole userRole : user.getRoles()) {
+                roleMask |= 1 << userRole.getRole().ordinal();
+            }
+        }
+        return new SessionUser(user.getId(), user.getUsername(), roleMask, user.getProfilePath());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public int getRoleMask() {
+        return roleMask;
+    }
+
+    public String getProfilePath() {
+        return profilePath;
+    }
+
+    public boolean hasRole(Role role) {
+        return (roleMask & (1 << role.ordinal())) != 0;
+    }
+
+    // 관리자 인지 여부를 반환 합니다.
+    public boolean isAdmin() {
+        return hasRole(Role.ADMIN);
+    }
+
+    // 템플릿에서 {{#isAdmin}}... {{/isAdmin}} 형태로 사용하는 편의 메서드
+    public boolean getIsAdmin() {
+        return isAdmin();
+    }
+
+    // 화면에 표시할 역할 문자열 제공
+    public String getRoleDisplay() {
+        return isAdmin() ? "ADMIN" : "USER";
+    }
+
+    @Override
+    public String toString() {
+        return "SessionUser{id=" + id + ", username='" + username + "', roleMask=" + roleMask + "}";
+    }
+}
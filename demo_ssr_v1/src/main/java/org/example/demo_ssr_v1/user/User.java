@@ -5,6 +5,9 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.example.demo_ssr_v1._core.errors.exception.Exception400;
+import org.example.demo_ssr_v1._core.storage.ContentAddressedStorage;
+import org.example.demo_ssr_v1._core.storage.ImageVariant;
+import org.example.demo_ssr_v1._core.storage.ImageVariantPipeline;
 import org.example.demo_ssr_v1.board.Role;
 import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
@@ -15,7 +18,16 @@ import java.util.List;
 
 @Data
 @NoArgsConstructor
-@Table(name = "user_tb")
+@Table(
+        name = "user_tb",
+        // 관리자 회원 목록 provider 필터 + 키셋 페이징 (WHERE provider = ? AND id < ? ORDER BY id DESC) 용 인덱스
+        // username / email 앞부분 검색은 각 컬럼의 unique 인덱스를 사용 (그 컬럼 순서로 정렬 / 페이징 해야 인덱스로 끝남)
+        indexes = {
+                @Index(name = "idx_user_provider_id", columnList = "provider, id"),
+                // 고아 파일 정리(OrphanBlobCollector)가 파일 key 로 사용 여부를 확인
+                @Index(name = "idx_user_profile_image", columnList = "profileImage")
+        }
+)
 @Entity
 public class User {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -140,7 +152,15 @@ public class User {
         if (this.profileImage == null) { return null; }
         // https로 시작하면 소셜 이미지 URL 그대로 리턴
         if (this.profileImage.startsWith("http")) { return this.profileImage; }
-        // 아니면 (로컬 이미지) 폴더 경로 붙여서 리턴
+        // 저장소 이미지는 화면 크기(200px)에 맞춘 축소본 (원본은 최대 10MB)
+        return profileVariantPath(ImageVariant.MEDIUM);
+    }
+
+    private String profileVariantPath(ImageVariant variant) {
+        if (ImageVariantPipeline.isImageKey(this.profileImage)) {
+            return "/images/" + ContentAddressedStorage.variantKey(this.profileImage, variant);
+        }
+        // 아니면 (저장소 도입 전 로컬 이미지) 폴더 경로 붙여서 리턴
         return "/images/" + this.profileImage;
     }
 
@@ -179,4 +199,17 @@ public class User {
         }
         this.point += amount;
     }
+
+    /**
+     * 환불로 인한 포인트 회수
+     * - 환불 승인 전에 잔액을 확인하지만, 그 사이에 포인트를 사용했을 수 있으므로
+     *   이미 돈은 돌려준 상태 -> 예외 대신 0 까지만 회수한다.
+     * @param amount (회수할 포인트 값)
+     */
+    public void reclaimPoint(Integer amount) {
+        if (amount == null || amount <= 0) {
+            return;
+        }
+        this.point = Math.max(0, this.point - amount);
+    }
 }
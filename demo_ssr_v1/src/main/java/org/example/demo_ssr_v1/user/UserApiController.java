@@ -2,9 +2,13 @@ package org.example.demo_ssr_v1.user;
 
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
+import org.example.demo_ssr_v1._core.verification.VerificationCodeStore;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.Map;
@@ -15,15 +19,49 @@ public class UserApiController {
 
     private final MailService mailService;
     private final UserService userService;
+    private final UserAvailabilityService userAvailabilityService;
+
+    // 회원가입 화면에서 입력 중 실시간 확인 (대부분 DB 조회 없이 메모리 블룸 필터로 응답)
+    // /api/user/username-check?username=ssar
+    @GetMapping("/api/user/username-check")
+    public ResponseEntity<?> 아이디사용가능확인(@RequestParam(defaultValue = "") String username) {
+        if (username.trim().isEmpty()) {
+            return ResponseEntity.badRequest().body(Map.of("message", "사용자 명을 입력하세요"));
+        }
+        boolean available = userAvailabilityService.아이디사용가능(username.trim());
+        return ResponseEntity.ok().body(Map.of(
+                "available", available,
+                "message", available ? "사용 가능한 사용자 이름입니다" : "이미 존재하는 사용자 이름입니다"));
+    }
+
+    // /api/user/email-check?email=ssar@nate.com
+    @GetMapping("/api/user/email-check")
+    public ResponseEntity<?> 이메일사용가능확인(@RequestParam(defaultValue = "") String email) {
+        if (email.trim().isEmpty() || !email.contains("@")) {
+            return ResponseEntity.badRequest().body(Map.of("message", "올바른 이메일 형식이 아닙니다"));
+        }
+        boolean available = userAvailabilityService.이메일사용가능(email.trim());
+        return ResponseEntity.ok().body(Map.of(
+                "available", available,
+                "message", available ? "사용 가능한 이메일 입니다" : "이미 등록된 이메일 입니다"));
+    }
 
     @PostMapping("/api/email/send")
     public ResponseEntity<?> 인증번호발송(@RequestBody UserRequest.EmailCheckDTO reqDTO) {
         // 1. 유효성 검사
         reqDTO.validate();
 
-        // 2. 서비스 단에서 구글 메일 서버로 이메일 전송 처리
-        mailService.인증번호발송(reqDTO.getEmail());
-        return ResponseEntity.ok().body(Map.of("message", "인증번호가 발송되었습니다"));
+        // 2. 발송 대기열에 등록 (SMTP 발송은 백그라운드에서 처리 -> 바로 응답)
+        long mailId = mailService.인증번호발송(reqDTO.getEmail());
+        return ResponseEntity.ok().body(Map.of("message", "인증번호가 발송되었습니다", "mailId", mailId));
+    }
+
+    // 인증 메일 발송 상태 확인 (/api/email/status/1)
+    @GetMapping("/api/email/status/{mailId}")
+    public ResponseEntity<?> 발송상태조회(@PathVariable long mailId) {
+        return mailService.발송상태조회(mailId)
+                .<ResponseEntity<?>>map(delivery -> ResponseEntity.ok().body(delivery))
+                .orElseGet(() -> ResponseEntity.status(404).body(Map.of("message", "발송 정보가 없습니다")));
     }
 
     @PostMapping("/api/email/verify")
@@ -36,15 +74,18 @@ public class UserApiController {
         }
 
         // 메일 서비스단에서 인증번호 확인
-        boolean isVerified = mailService.인증번호확인(reqDTO.getEmail(), reqDTO.getCode());
+        VerificationCodeStore.Result result = mailService.인증번호확인(reqDTO.getEmail(), reqDTO.getCode());
 
         // 결과값에 따라 분기 처리
-        if (isVerified) {
+        return switch (result) {
             // 인증 성공
-            return ResponseEntity.ok().body(Map.of("message", "인증되었습니다"));
-        } else {
-            return ResponseEntity.badRequest().body(Map.of("message", "인증번호가 일치하지 않습니다."));
-        }
+            case SUCCESS -> ResponseEntity.ok().body(Map.of("message", "인증되었습니다"));
+            case MISMATCH -> ResponseEntity.badRequest().body(Map.of("message", "인증번호가 일치하지 않습니다."));
+            case TOO_MANY_ATTEMPTS -> ResponseEntity.badRequest()
+                    .body(Map.of("message", "입력 횟수를 초과했습니다. 인증번호를 다시 받아주세요."));
+            case EXPIRED -> ResponseEntity.badRequest()
+                    .body(Map.of("message", "인증번호가 만료되었습니다. 인증번호를 다시 받아주세요."));
+        };
     }
 
     // api/point/charge
@@ -53,15 +94,14 @@ public class UserApiController {
         // 1. 유효성 검사
         reqDTO.validate();
         // 2. 세션에서 사용자 정보 추출
-        User sessionUser = (User) session.getAttribute("sessionUser");
+        SessionUser sessionUser = (SessionUser) session.getAttribute("sessionUser");
         if (sessionUser == null) {
             return ResponseEntity.status(401).body(Map.of("message", "로그인이 필요합니다"));
         }
         // 3. 포인트 충전 처리
         User updateUser = userService.포인트충전(sessionUser.getId(), reqDTO.getAmount());
 
-        // 4. 세션에 업데이트 된 사용자 정보 갱신(포인트)
-        session.setAttribute("sessionUser", updateUser);
+        // 4. 포인트는 세션에 저장하지 않으므로 세션 갱신 불필요 (화면에서 필요할 때 DB 조회)
 
         // 5.
         return ResponseEntity.ok()
@@ -0,0 +1,102 @@
+package org.example.demo_ssr_v1.user;
+
+import lombok.extern.slf4j.Slf4j;
+import org.example.demo_ssr_v1._core.utils.BloomFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 아이디 / 이메일 사용 가능 여부 확인 (회원가입 화면 실시간 확인 전용)
+ *
+ * 필터는 서버마다 메모리에 따로 있고 자기 서버에서 가입한 값만 추가된다. (다른 서버의 가입은 재시작 전까지 모름)
+ * -> 입력 중 안내에만 사용하고, 회원가입 요청의 중복 체크는 UserService 가 항상 DB 로 한다.
+ *
+ * 메모리의 블룸 필터가 "없음" 이라고 하면 DB 조회 없이 바로 사용 가능으로 응답한다.
+ * "있을 수도 있음" 일 때만 DB 로 확인 -> 이미 가입된 값이거나 오탐(약 1%) 일 때만 쿼리 1번
+ *
+ * - 서버 시작 시 전체 회원의 username / email 을 키셋 페이징으로 나눠 읽어서 적재
+ * - 회원가입 시 바로 추가 (롤백된 가입이 남아 있어도 오탐이 하나 늘 뿐 결과는 DB 가 판단)
+ * - 적재가 끝나기 전에는 항상 DB 로 확인
+ * - MySQL 기본 collation 은 대소문자를 구분하지 않으므로 소문자로 바꿔서 저장 / 조회
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class UserAvailabilityService {
+
+    private final UserRepository userRepository;
+    private final BloomFilter usernameFilter;
+    private final BloomFilter emailFilter;
+    private final int loadPageSize;
+    private volatile boolean ready = false;
+
+    public UserAvailabilityService(UserRepository userRepository,
+                                   @Value("${user.availability.expected-users:1000000}") long expectedUsers,
+                                   @Value("${user.availability.fpp:0.01}") double fpp,
+                                   @Value("${user.availability.load-page-size:1000}") int loadPageSize) {
+        this.userRepository = userRepository;
+        this.usernameFilter = new BloomFilter(expectedUsers, fpp);
+        this.emailFilter = new BloomFilter(expectedUsers, fpp);
+        this.loadPageSize = loadPageSize;
+    }
+
+    // 페이지마다 짧은 조회 쿼리로 끊어서 실행 (긴 읽기 트랜잭션 방지)
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void 필터적재() {
+        long start = System.currentTimeMillis();
+        long lastId = 0L;
+        long count = 0;
+        while (true) {
+            List<Object[]> rows = userRepository.findUsernameAndEmailAfter(lastId, PageRequest.of(0, loadPageSize));
+            for (Object[] row : rows) {
+                등록((String) row[1], (String) row[2]);
+            }
+            count += rows.size();
+            if (rows.size() < loadPageSize) {
+                break;
+            }
+            lastId = (Long) rows.get(rows.size() - 1)[0];
+        }
+        ready = true;
+        log.info("아이디/이메일 블룸 필터 적재 완료 - {}명, {}ms (필터 크기 {}KB x 2, 해시 {}개)",
+                count, System.currentTimeMillis() - start, usernameFilter.getBitSize() / 8 / 1024,
+                usernameFilter.getHashCount());
+    }
+
+    // 회원가입 (일반 / 소셜) 시 호출
+    public void 등록(String username, String email) {
+        if (username != null) {
+            usernameFilter.put(normalize(username));
+        }
+        if (email != null) {
+            emailFilter.put(normalize(email));
+        }
+    }
+
+    public boolean 아이디사용가능(String username) {
+        if (ready && !usernameFilter.mightContain(normalize(username))) {
+            return true;
+        }
+        return !userRepository.existsByUsername(username);
+    }
+
+    public boolean 이메일사용가능(String email) {
+        if (ready && !emailFilter.mightContain(normalize(email))) {
+            return true;
+        }
+        return !userRepository.existsByEmail(email);
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
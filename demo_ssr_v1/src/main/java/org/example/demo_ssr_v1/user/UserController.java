@@ -3,6 +3,7 @@ package org.example.demo_ssr_v1.user;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.example.demo_ssr_v1._core.errors.exception.Exception401;
+import org.example.demo_ssr_v1._core.errors.exception.Exception503;
 import org.example.demo_ssr_v1.payment.PaymentResponse;
 import org.example.demo_ssr_v1.payment.PaymentService;
 import org.example.demo_ssr_v1.purchase.PurchaseResponse;
@@ -33,13 +34,21 @@ public class UserController {
     private final PurchaseService purchaseService;
     private final PaymentService paymentService;
 
+    // 결제 내역 (키셋 페이징)
+    // 예시 /user/payment/list?cursor=15&size=10 (cursor: 이전 페이지 마지막 결제 번호)
     @GetMapping("/user/payment/list")
-    public String paymentList(Model model, HttpSession session) {
+    public String paymentList(
+            Model model,
+            HttpSession session,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
 
-        User sessionUser = (User) session.getAttribute("sessionUser");
+        SessionUser sessionUser = (SessionUser) session.getAttribute("sessionUser");
 
-        List<PaymentResponse.ListDTO> paymentList = paymentService.결제내역조회(sessionUser.getId());
-        model.addAttribute("paymentList", paymentList);
+        PaymentResponse.HistoryPageDTO paymentPage = paymentService.결제내역조회(sessionUser.getId(), cursor, size);
+        model.addAttribute("paymentList", paymentPage.getContent());
+        model.addAttribute("paymentPage", paymentPage);
 
         return "user/payment-list";
     }
@@ -47,7 +56,7 @@ public class UserController {
     @GetMapping("/user/purchase/list")
     public String purchaseList(Model model, HttpSession session) {
 
-        User sessionUser = (User) session.getAttribute("sessionUser");
+        SessionUser sessionUser = (SessionUser) session.getAttribute("sessionUser");
 
         List<PurchaseResponse.ListDTO> purchaseList = purchaseService.구매내역조회(sessionUser.getId());
         model.addAttribute("purchaseList", purchaseList);
@@ -57,9 +66,11 @@ public class UserController {
 
     @GetMapping("/user/point/charge")
     public String chargePointForm(Model model, HttpSession session) {
-        User sessionUser = (User) session.getAttribute("sessionUser");
+        SessionUser sessionUser = (SessionUser) session.getAttribute("sessionUser");
 
-        model.addAttribute("user", sessionUser);
+        // 포인트는 세션에 저장하지 않으므로 DB 에서 최신 값 조회
+        User user = userService.마이페이지(sessionUser.getId());
+        model.addAttribute("user", user);
         return "user/charge_point";
     }
 
@@ -73,7 +84,7 @@ public class UserController {
             User user = userService.카카오소셜로그인(code);
 
             // 세션 정보에 사용자 정보 저장
-            session.setAttribute("sessionUser", user);
+            session.setAttribute("sessionUser", SessionUser.from(user));
             return "redirect:/";
         } catch (Exception e) {
             System.out.println("소셜 로그인 실패 " + e.getMessage());
@@ -85,12 +96,12 @@ public class UserController {
     // 프로필 이미지 삭제 하기
     @PostMapping("/user/profile-image/delete")
     public String deleteProfileImage(HttpSession session) {
-        User sessionUser = (User) session.getAttribute("sessionUser");
+        SessionUser sessionUser = (SessionUser) session.getAttribute("sessionUser");
 
         User updateUser = userService.프로필이미지삭제(sessionUser.getId());
         // 왜 user 다시 받을까? -> 세션 정보 변경 (프로필이 삭제 되었기 때문에)
         // 세션 정보 갱신 처리 해주기 위함
-        session.setAttribute("sessionUser", updateUser); // 세션 정보 갱신
+        session.setAttribute("sessionUser", SessionUser.from(updateUser)); // 세션 정보 갱신
 
         // 일반적으로 POST 요청이 오면 PRG 패턴으로 설계 됨
         // POST -> Redirect 처리 -> GET 요청
@@ -101,7 +112,7 @@ public class UserController {
     // http://localhost:8080/user/detail
     @GetMapping("/user/detail")
     public String detailForm(Model model, HttpSession session) {
-        User sessionUser = (User) session.getAttribute("sessionUser");
+        SessionUser sessionUser = (SessionUser) session.getAttribute("sessionUser");
 
         User user = userService.마이페이지(sessionUser.getId());
 
@@ -113,7 +124,7 @@ public class UserController {
     // http://localhost:8080/user/update
     @GetMapping("/user/update")
     public String updateForm(Model model, HttpSession session) {
-        User sessionUser = (User) session.getAttribute("sessionUser");
+        SessionUser sessionUser = (SessionUser) session.getAttribute("sessionUser");
         User user = userService.회원정보수정화면(sessionUser.getId());
         model.addAttribute("user", user);
         return "user/update-form";
@@ -123,13 +134,13 @@ public class UserController {
     // http://localhost:8080/user/update
     @PostMapping("/user/update")
     public String updateProc(UserRequest.UpdateDTO updateDTO, HttpSession session) {
-        User sessionUser = (User) session.getAttribute("sessionUser");
+        SessionUser sessionUser = (SessionUser) session.getAttribute("sessionUser");
         try {
             // 유효성 검사 (형식 검사)
             updateDTO.validate();
             User updateUser = userService.회원정보수정(updateDTO, sessionUser.getId());
             // 회원 정보 수정은 - 세션 갱신해 주어야 한다.
-            session.setAttribute("sessionUser", updateUser);
+            session.setAttribute("sessionUser", SessionUser.from(updateUser));
             return "redirect:/";
         } catch (Exception e) {
             return "user/update-form";
@@ -160,9 +171,13 @@ public class UserController {
         try {
             // 유효성 검사
             loginDTO.validate();
-            User sessionUser = userService.로그인(loginDTO);
-            session.setAttribute("sessionUser", sessionUser);
+            User user = userService.로그인(loginDTO);
+            // 엔티티 대신 필요한 값만 담은 불변 객체를 세션에 저장
+            session.setAttribute("sessionUser", SessionUser.from(user));
             return "redirect:/";
+        } catch (Exception503 e) {
+            // 해싱 대기열 초과 -> 로그인 실패가 아니므로 503 응답 (잠시 후 다시 시도)
+            throw e;
         } catch (Exception e) {
             // 로그인 실패시 다시 로그인 화면으로 처리
             return "user/login-form";
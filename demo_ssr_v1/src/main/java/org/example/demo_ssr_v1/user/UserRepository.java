@@ -1,9 +1,14 @@
 package org.example.demo_ssr_v1.user;
 
+import org.example.demo_ssr_v1.board.Role;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 // JpaRepository -> @Repository 있음 -> IoC 됨
@@ -28,6 +33,82 @@ public interface UserRepository extends JpaRepository<User, Long> {
             "WHERE u.username = :username ")
     Optional<User> findByUsernameWithRoles(@Param("username") String username);
 
+    // 로그인 재해싱 저장 - 로그인 트랜잭션 밖에서 짧은 UPDATE 한 번
+    // 검증하는 사이 비밀번호가 바뀌었다면(회원정보수정) 덮어쓰지 않음
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newHash WHERE u.id = :id AND u.password = :oldHash")
+    int updatePasswordIfUnchanged(@Param("id") Long id, @Param("oldHash") String oldHash, @Param("newHash") String newHash);
+
     // 이메일 존재 여부 확인 쿼리 메서드 설계
     Optional<User> findByEmail(String email);
+
+    // 아이디 / 이메일 사용 가능 여부 확인용 (엔티티 로딩 없이 인덱스만 확인)
+    boolean existsByUsername(String username);
+
+    boolean existsByEmail(String email);
+
+    // 블룸 필터 적재용 (키셋 페이징, PK 순서) - [username, email]
+    @Query("SELECT u.id, u.username, u.email FROM User u WHERE u.id > :lastId ORDER BY u.id ASC")
+    List<Object[]> findUsernameAndEmailAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    // ---- 관리자 회원 목록 (키셋 페이징) ----
+    // User 엔티티 대신 UserSummary 프로젝션 -> EAGER roles 컬렉션을 row 마다 로딩하지 않음
+    // 검색어가 있으면 username / email 유니크 인덱스를 범위 검색(LIKE 'abc%') 하도록 쿼리를 분리 했다.
+    // (LIKE '%' 나 OR 조건을 하나의 쿼리에 섞으면 인덱스를 타지 못함)
+    // 앞부분 검색은 인덱스 순서 그대로 검색한 컬럼 오름차순 + 마지막 값 이후로 페이징
+    // (id 역순으로 정렬하면 일치하는 row 를 전부 읽고 정렬해야 함, 유니크 컬럼이라 id 로 동률을 가를 필요 없음)
+
+    // 검색어 없음 - PK 역순 스캔 (provider 필터는 idx_user_provider_id 사용)
+    @Query("""
+    SELECT u.id AS id, u.username AS username, u.email AS email,
+           u.provider AS provider, u.point AS point, u.createdAt AS createdAt
+    FROM User u
+    WHERE (:lastId IS NULL OR u.id < :lastId)
+    AND (:provider IS NULL OR u.provider = :provider)
+    AND (:role IS NULL OR EXISTS (SELECT 1 FROM User u2 JOIN u2.roles r WHERE u2.id = u.id AND r.role = :role))
+    ORDER BY u.id DESC
+    """)
+    List<UserSummary> findDirectory(@Param("provider") OAuthProvider provider,
+                                    @Param("role") Role role,
+                                    @Param("lastId") Long lastId,
+                                    Pageable pageable);
+
+    // username 앞부분 검색 (prefix 는 LIKE 특수문자를 ! 로 이스케이프 한 뒤 % 를 붙인 값, after 는 이전 페이지 마지막 username)
+    @Query("""
+    SELECT u.id AS id, u.username AS username, u.email AS email,
+           u.provider AS provider, u.point AS point, u.createdAt AS createdAt
+    FROM User u
+    WHERE u.username LIKE :prefix ESCAPE '!'
+    AND (:after IS NULL OR u.username > :after)
+    AND (:provider IS NULL OR u.provider = :provider)
+    AND (:role IS NULL OR EXISTS (SELECT 1 FROM User u2 JOIN u2.roles r WHERE u2.id = u.id AND r.role = :role))
+    ORDER BY u.username ASC
+    """)
+    List<UserSummary> findDirectoryByUsernamePrefix(@Param("prefix") String prefix,
+                                                    @Param("provider") OAuthProvider provider,
+                                                    @Param("role") Role role,
+                                                    @Param("after") String after,
+                                                    Pageable pageable);
+
+    // email 앞부분 검색 (after 는 이전 페이지 마지막 email)
+    @Query("""
+    SELECT u.id AS id, u.username AS username, u.email AS email,
+           u.provider AS provider, u.point AS point, u.createdAt AS createdAt
+    FROM User u
+    WHERE u.email LIKE :prefix ESCAPE '!'
+    AND (:after IS NULL OR u.email > :after)
+    AND (:provider IS NULL OR u.provider = :provider)
+    AND (:role IS NULL OR EXISTS (SELECT 1 FROM User u2 JOIN u2.roles r WHERE u2.id = u.id AND r.role = :role))
+    ORDER BY u.email ASC
+    """)
+    List<UserSummary> findDirectoryByEmailPrefix(@Param("prefix") String prefix,
+                                                 @Param("provider") OAuthProvider provider,
+                                                 @Param("role") Role role,
+                                                 @Param("after") String after,
+                                                 Pageable pageable);
+
+    // 현재 페이지 회원들의 역할만 한번에 조회 (회원 수와 상관없이 쿼리 1번, 결과: [userId, role])
+    @Query("SELECT u.id, r.role FROM User u JOIN u.roles r WHERE u.id IN :ids")
+    List<Object[]> findRolesByUserIds(@Param("ids") List<Long> ids);
 }
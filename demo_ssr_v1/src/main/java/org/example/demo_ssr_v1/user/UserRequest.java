@@ -2,6 +2,7 @@ package org.example.demo_ssr_v1.user;
 
 import lombok.Data;
 import org.example.demo_ssr_v1._core.errors.exception.Exception400;
+import org.example.demo_ssr_v1.board.Role;
 import org.springframework.web.multipart.MultipartFile;
 
 public class UserRequest {
@@ -87,4 +88,68 @@ public class UserRequest {
             }
         }
     }
+
+    // 관리자 회원 목록 검색 조건 DTO (쿼리 스트링 바인딩)
+    // 예시 /admin/user/list?provider=KAKAO&role=ADMIN&cursor=100
+    //      /admin/user/list?keyword=ss&searchType=username&after=ssar
+    @Data
+    public static class DirectorySearchDTO {
+        private String keyword;     // 앞부분 일치 검색어
+        private String searchType;  // username (기본) / email
+        private String provider;    // OAuthProvider 이름 (빈 값이면 전체)
+        private String role;        // Role 이름 (빈 값이면 전체)
+        private Long cursor;        // 이전 페이지 마지막 회원 번호 (검색어 없을 때)
+        private String after;       // 이전 페이지 마지막 username / email (앞부분 검색일 때)
+        private Integer size;
+
+        public void validate() {
+            if (keyword != null && keyword.length() > 100) {
+                throw new Exception400("검색어는 100자 이하로 입력하세요");
+            }
+            if (hasText(searchType) && !"username".equals(searchType) && !"email".equals(searchType)) {
+                throw new Exception400("검색 대상은 username 또는 email 만 가능합니다");
+            }
+            // 잘못된 값이면 여기서 400 처리
+            toProvider();
+            toRole();
+        }
+
+        public boolean isEmailSearch() {
+            return "email".equals(searchType);
+        }
+
+        public String getTrimmedKeyword() {
+            return hasText(keyword) ? keyword.trim() : null;
+        }
+
+        public OAuthProvider toProvider() {
+            if (!hasText(provider)) {
+                return null;
+            }
+            try {
+                return OAuthProvider.valueOf(provider.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new Exception400("알 수 없는 로그인 방식입니다: " + provider);
+            }
+        }
+
+        public Role toRole() {
+            if (!hasText(role)) {
+                return null;
+            }
+            try {
+                return Role.valueOf(role.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new Exception400("알 수 없는 역할입니다: " + role);
+            }
+        }
+
+        public int getValidSize() {
+            return size == null ? 20 : Math.max(1, Math.min(100, size));
+        }
+
+        private static boolean hasText(String value) {
+            return value != null && !value.trim().isEmpty();
+        }
+    }
 }
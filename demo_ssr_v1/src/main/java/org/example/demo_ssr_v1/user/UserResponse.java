@@ -4,6 +4,13 @@ import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.PropertyNamingStrategy;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
 import lombok.Data;
+import org.example.demo_ssr_v1._core.utils.MyDateUtil;
+import org.example.demo_ssr_v1.board.Role;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * 사용자 응답 DTO
@@ -73,4 +80,95 @@ public class UserResponse {
         private String profileImage;
         private String thumbnailImage;
     }
+
+    // 관리자 회원 목록 한 줄 DTO
+    @Data
+    public static class DirectoryRowDTO {
+        private Long id;
+        private String username;
+        private String email;
+        private String provider;
+        private Integer point;
+        private String createdAt;
+        private String roleDisplay;
+
+        // roles: 별도 쿼리 1번으로 가져온 해당 회원의 역할 목록
+        public DirectoryRowDTO(UserSummary summary, List<Role> roles) {
+            this.id = summary.getId();
+            this.username = summary.getUsername();
+            this.email = summary.getEmail();
+            this.provider = summary.getProvider() == null ? null : summary.getProvider().name();
+            this.point = summary.getPoint();
+            if (summary.getCreatedAt() != null) {
+                this.createdAt = MyDateUtil.time(summary.getCreatedAt());
+            }
+            this.roleDisplay = roles.contains(Role.ADMIN) ? "ADMIN" : "USER";
+        }
+    }
+
+    // 관리자 회원 목록 페이지 DTO (키셋 페이징)
+    @Data
+    public static class DirectoryPageDTO {
+        private List<DirectoryRowDTO> content;
+        private boolean hasNext;
+        private Long nextCursor;
+        private String nextAfter;
+        private String keyword;
+        private boolean emailSearch;
+        private String provider;
+        private String role;
+        // 다음 페이지 링크 (검색 조건 유지)
+        private String nextUrl;
+        // 검색 폼 select 박스 (선택 상태 유지)
+        private List<OptionDTO> providerOptions;
+        private List<OptionDTO> roleOptions;
+
+        public DirectoryPageDTO(List<DirectoryRowDTO> content, boolean hasNext, UserRequest.DirectorySearchDTO search) {
+            this.content = content;
+            this.hasNext = hasNext;
+            this.keyword = search.getTrimmedKeyword();
+            this.emailSearch = search.isEmailSearch();
+            // 다음 페이지 기준값 - 검색어가 없으면 마지막 회원 번호, 있으면 마지막 username / email
+            if (hasNext && !content.isEmpty()) {
+                DirectoryRowDTO last = content.get(content.size() - 1);
+                if (keyword == null) {
+                    this.nextCursor = last.getId();
+                } else {
+                    this.nextAfter = emailSearch ? last.getEmail() : last.getUsername();
+                }
+            }
+            this.provider = search.toProvider() == null ? null : search.toProvider().name();
+            this.role = search.toRole() == null ? null : search.toRole().name();
+            this.providerOptions = Arrays.stream(OAuthProvider.values())
+                    .map(p -> new OptionDTO(p.name(), p.name().equals(provider)))
+                    .toList();
+            this.roleOptions = Arrays.stream(Role.values())
+                    .map(r -> new OptionDTO(r.name(), r.name().equals(role)))
+                    .toList();
+            if (nextCursor != null || nextAfter != null) {
+                this.nextUrl = "/admin/user/list?"
+                        + (nextCursor != null ? "cursor=" + nextCursor : "after=" + encode(nextAfter))
+                        + "&searchType=" + (emailSearch ? "email" : "username")
+                        + "&keyword=" + encode(keyword)
+                        + "&provider=" + encode(provider)
+                        + "&role=" + encode(role);
+            }
+        }
+
+        private static String encode(String value) {
+            return value == null ? "" : URLEncoder.encode(value, StandardCharsets.UTF_8);
+        }
+    }
+
+    // select 박스 옵션 DTO
+    @Data
+    public static class OptionDTO {
+        private String value;
+        private boolean selected;
+
+        public OptionDTO(String value, boolean selected) {
+            this.value = value;
+            this.selected = selected;
+        }
+    }
 }
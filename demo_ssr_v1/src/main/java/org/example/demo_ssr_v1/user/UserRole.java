@@ -11,6 +11,10 @@ import org.example.demo_ssr_v1.board.Role;
         // 같은 권한일 두번 가질 수 없게 제약 설정 (관리자, 일반사용자, 관리자 -> 불가)
         uniqueConstraints = {
                 @UniqueConstraint(name = "uk_user_role", columnNames = {"user_id", "role"})
+        },
+        // 역할별 회원 조회 (관리자 회원 목록 역할 필터) 용 인덱스
+        indexes = {
+                @Index(name = "idx_user_role_role_user", columnList = "role, user_id")
         }
 )
 @NoArgsConstructor
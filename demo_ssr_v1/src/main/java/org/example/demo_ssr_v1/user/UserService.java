@@ -4,21 +4,29 @@ import lombok.RequiredArgsConstructor;
 import org.example.demo_ssr_v1._core.errors.exception.Exception400;
 import org.example.demo_ssr_v1._core.errors.exception.Exception403;
 import org.example.demo_ssr_v1._core.errors.exception.Exception404;
-import org.example.demo_ssr_v1._core.errors.exception.Exception500;
+import org.example.demo_ssr_v1._core.resilience.UpstreamGuard;
+import org.example.demo_ssr_v1._core.resilience.UpstreamGuardRegistry;
+import org.example.demo_ssr_v1._core.security.PasswordHashingService;
+import org.example.demo_ssr_v1._core.storage.FileStorageService;
 import org.example.demo_ssr_v1._core.utils.FileUtil;
+import org.example.demo_ssr_v1.admin.DashboardStatService;
+import org.example.demo_ssr_v1.board.Role;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
-import org.springframework.web.client.RestTemplate;
 
-import java.io.IOException;
+import java.util.*;
 
 // Service -> 응답 DTO 설계 해서 전달 -> Controller
 
@@ -39,7 +47,17 @@ public class UserService {
     // 객체 지향 개념 --> SOLID 원칙
     // DIP - 추상화가 높은 녀석을 선언하는 것이 좋다.
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    // BCrypt 해싱은 전용 스레드 풀에서 실행 (톰캣 요청 스레드가 CPU 를 오래 잡지 않게)
+    private final PasswordHashingService passwordHashingService;
+    private final UpstreamGuardRegistry upstreamGuardRegistry;
+    private final DashboardStatService dashboardStatService;
+    private final UserAvailabilityService userAvailabilityService;
+    // 카카오 프로필 이미지 로컬 저장 요청 (KakaoProfileImageImporter 가 커밋 이후 비동기로 처리)
+    private final ApplicationEventPublisher eventPublisher;
+    // 프로필 이미지 저장 (같은 내용의 이미지는 파일 하나를 공유 - 참조 횟수 관리)
+    private final FileStorageService fileStorageService;
+    // 해싱을 트랜잭션 밖에서 끝낸 뒤 저장만 짧은 트랜잭션으로 실행
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${oauth.kakao.client-id}")
     private String clientId;
@@ -47,7 +65,15 @@ public class UserService {
     @Value("${tenco.key}")
     private String tencoKey;
 
-    @Transactional
+    // 카카오 인증 / API 서버 주소 (부하 테스트 시에는 로컬 시뮬레이터 주소로 변경 - application-loadtest.yml)
+    @Value("${oauth.kakao.auth-base-url:https://kauth.kakao.com}")
+    private String kakaoAuthBaseUrl;
+
+    @Value("${oauth.kakao.api-base-url:https://kapi.kakao.com}")
+    private String kakaoApiBaseUrl;
+
+    // 카카오 API 호출(토큰 / 프로필)은 트랜잭션 밖에서 -> 응답을 기다리는 동안 DB 커넥션을 잡지 않음
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public User 카카오소셜로그인(String code) {
         // 1. 인가 코드로 엑세스 토큰 발급
         UserResponse.OAuthToken oAuthToken = 카카오엑세스토큰발급(code);
@@ -72,8 +98,8 @@ public class UserService {
         // 2-1 HTTP 헤더 커스텀 -
         // Content-Type: application/x-www-form-urlencoded;charset=utf-8
 
-        // 2-2
-        RestTemplate restTemplate = new RestTemplate();
+        // 2-2 카카오 인증 서버 전용 RestTemplate (타임아웃 + 벌크헤드 + 서킷 브레이커)
+        UpstreamGuard kakaoAuth = upstreamGuardRegistry.get(UpstreamGuardRegistry.KAKAO_AUTH);
 
         // 2-3
         // HTTP 메시지 헤더 구성
@@ -94,12 +120,14 @@ public class UserService {
         HttpEntity<MultiValueMap<String, String>> tokenRequest = new HttpEntity<>(tokenParams, tokenHeaders);
 
         // 2-6 요청하고 JWT 토큰 응답 받기 (카카오에서 엑세스 토큰이라고 부름)
-        ResponseEntity<UserResponse.OAuthToken> tokenResponse = restTemplate.exchange(
-                "https://kauth.kakao.com/oauth/token",
-                HttpMethod.POST,
-                tokenRequest,
-                UserResponse.OAuthToken.class
-        );
+        // 인가 코드는 1회용이므로 재시도 하지 않도록 설정 (resilience.upstreams.kakao-auth.max-attempts: 1)
+        ResponseEntity<UserResponse.OAuthToken> tokenResponse = kakaoAuth.call(() ->
+                kakaoAuth.getRestTemplate().exchange(
+                        kakaoAuthBaseUrl + "/oauth/token",
+                        HttpMethod.POST,
+                        tokenRequest,
+                        UserResponse.OAuthToken.class
+                ));
 
         UserResponse.OAuthToken oAuthToken = tokenResponse.getBody();
 
@@ -112,8 +140,8 @@ public class UserService {
      * @return 카카오 프로필 정보
      */
     private UserResponse.KakaoProfile 카카오프로필조회(String accessToken) {
-        // 3-1 HTTP 클라이언트 선언
-        RestTemplate profileRt = new RestTemplate();
+        // 3-1 HTTP 클라이언트 선언 (카카오 API 서버 전용)
+        UpstreamGuard kakaoApi = upstreamGuardRegistry.get(UpstreamGuardRegistry.KAKAO_API);
 
         // 3-2 HTTP 메시지 헤더 커스텀
         HttpHeaders profileHeaders = new HttpHeaders();
@@ -124,19 +152,21 @@ public class UserService {
         // 3-3 요청 메시지 (요청 엔티티) 생성 -> 요청 바디 없음
         HttpEntity<Void> profileRequest = new HttpEntity<>(profileHeaders);
 
-        ResponseEntity<UserResponse.KakaoProfile> profileResponse = profileRt.exchange(
-                "https://kapi.kakao.com/v2/user/me",
-                HttpMethod.POST,
-                profileRequest,
-                UserResponse.KakaoProfile.class
-        );
+        ResponseEntity<UserResponse.KakaoProfile> profileResponse = kakaoApi.call(() ->
+                kakaoApi.getRestTemplate().exchange(
+                        kakaoApiBaseUrl + "/v2/user/me",
+                        HttpMethod.POST,
+                        profileRequest,
+                        UserResponse.KakaoProfile.class
+                ));
 
         UserResponse.KakaoProfile kakaoProfile = profileResponse.getBody();
 
         return kakaoProfile;
     }
 
-    @Transactional
+    // 최초 로그인이면 임시 비밀번호 해싱은 트랜잭션 밖에서 끝내고 회원 저장만 짧은 쓰기 트랜잭션으로 실행
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public User 카카오사용자생성또는조회(UserResponse.KakaoProfile kakaoProfile) {
         String username = kakaoProfile.getProperties().getNickname() + "_" + kakaoProfile.getId();
 
@@ -146,70 +176,112 @@ public class UserService {
         User userOrigin = 사용자이름조회(username);
         if (userOrigin == null) {
             // 최초 카카오 소셜 로그인 사용자 임
-            User newUser = User.builder()
-                    .username(username)
-                    .password(passwordEncoder.encode(tencoKey)) // 소셜 로그인은 임시 비밀번호로 설정 한다.
-                    .email(username + "@kakao.com") // 선택 사항 (카카오 이메일 비즈니스 앱 신청)
-                    .provider(OAuthProvider.KAKAO)
-                    .build();
-
-            String profileImage = kakaoProfile.getProperties().getProfileImage();
-            if (profileImage != null && !profileImage.isEmpty()) {
-                newUser.setProfileImage(profileImage); // 카카오에서 넘겨 받은 URL 그대로 저장
-            }
+            String hashPwd = passwordHashingService.hash(tencoKey); // 소셜 로그인은 임시 비밀번호로 설정 한다.
+
+            userOrigin = transactionTemplate.execute(status -> {
+                // 해싱하는 동안 같은 사용자로 먼저 가입한 요청이 있으면 그 사용자로 로그인
+                User userEntity = 사용자이름조회(username);
+                if (userEntity != null) {
+                    return userEntity;
+                }
+                User newUser = User.builder()
+                        .username(username)
+                        .password(hashPwd)
+                        .email(username + "@kakao.com") // 선택 사항 (카카오 이메일 비즈니스 앱 신청)
+                        .provider(OAuthProvider.KAKAO)
+                        .build();
+
+                String profileImage = kakaoProfile.getProperties().getProfileImage();
+                if (profileImage != null && !profileImage.isEmpty()) {
+                    newUser.setProfileImage(profileImage); // 카카오에서 넘겨 받은 URL 그대로 저장
+                }
+
+                소셜회원가입(newUser);
+                dashboardStatService.회원가입반영();
+                // 조심 해야 함! 반드시 필요함
+                return newUser; // 반드시 넣어 줘야 함 -> Why? 로그인 처리 해야 함
+            });
+            userAvailabilityService.등록(userOrigin.getUsername(), userOrigin.getEmail());
+        }
 
-            소셜회원가입(newUser);
-            // 조심 해야 함! 반드시 필요함
-            userOrigin = newUser; // 반드시 넣어 줘야 함 -> Why? 로그인 처리 해야 함
+        // 프로필 이미지가 아직 카카오 URL 이면 로컬 저장 요청 (기존 가입자는 로그인 할 때 한 번 옮겨짐)
+        // 가입 트랜잭션은 이미 커밋됨 -> 트랜잭션 밖에서 발행 (KakaoProfileImageImporter 가 바로 처리)
+        String profileImage = userOrigin.getProfileImage();
+        if (profileImage != null && profileImage.startsWith("http")) {
+            eventPublisher.publishEvent(new KakaoProfileImageEvent(userOrigin.getId(), profileImage));
         }
         return userOrigin;
     }
 
+    /**
+     * 카카오 프로필 URL 을 로컬에 저장한 파일 이름으로 교체
+     * 내려받는 동안 사용자가 프로필을 바꾸거나 삭제했다면 교체하지 않는다.
+     * @return 교체 여부 (false 면 호출한 쪽에서 저장한 파일을 지워야 함)
+     */
     @Transactional
+    public boolean 카카오프로필이미지교체(Long userId, String expectedUrl, String filename) {
+        User userEntity = userRepository.findById(userId).orElse(null);
+        if (userEntity == null || !expectedUrl.equals(userEntity.getProfileImage())) {
+            return false;
+        }
+        userEntity.setProfileImage(filename);
+        return true;
+    }
+
+    // 해싱(최대 password.timeout-ms 대기)은 트랜잭션 밖에서 -> 기다리는 동안 DB 커넥션을 잡지 않음
+    // 파일 / 회원 저장만 짧은 쓰기 트랜잭션으로 실행
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public User 회원가입(UserRequest.JoinDTO joinDTO) {
 
-        // 1. 사용자명 중복 체크
-        if(userRepository.findByUsername(joinDTO.getUsername()).isPresent()) {
-            // isPresent -> 있으면 true 반환 , 없으면 false 반환
+        // 1. 사용자명 중복 체크 - 가입 요청은 항상 DB 로 확인
+        // (블룸 필터는 서버마다 따로라서 다른 서버에서 가입한 값을 모름 -> 실시간 확인 API 에서만 사용)
+        if (userRepository.existsByUsername(joinDTO.getUsername())) {
             throw new Exception400("이미 존재하는 사용자 이름입니다");
         }
 
         // 1-1 이메일 중복 체크
-        if (userRepository.findByEmail(joinDTO.getEmail()).isPresent()) {
+        if (userRepository.existsByEmail(joinDTO.getEmail())) {
             throw new Exception400("이미 등록된 이메일 입니다");
         }
 
-        // User 엔티티에 저장할 때는 String 이어야 하고 null 값도 가질 수 있음
-        String profileImageFileName = null;
-
         // 2. 회원 가입시 파일이 넘어 왔는 확인
         // TODO - 수정 해야 함.
         // MultipartFile (기본적으로 null이 넘어올 수 도 "" 공백으로 들어 올 수 있음)
-        if(joinDTO.getProfileImage() != null && !joinDTO.getProfileImage().isEmpty() ) {
-
-            // 2.1 유효성 검사 (이미지 파일 이어야 함)
-            try {
-                if(!FileUtil.isImageFile(joinDTO.getProfileImage())) {
-                    throw new Exception400("이미지 파일만 업로드 가능합니다");
-                }
-                profileImageFileName = FileUtil.saveFile(joinDTO.getProfileImage());
-            } catch (Exception e) {
-                throw new RuntimeException(e);
-            }
-
+        boolean hasProfileImage = joinDTO.getProfileImage() != null && !joinDTO.getProfileImage().isEmpty();
+        // 2.1 유효성 검사 (이미지 파일 이어야 함)
+        if (hasProfileImage && !FileUtil.isImageFile(joinDTO.getProfileImage())) {
+            throw new Exception400("이미지 파일만 업로드 가능합니다");
         }
 
         // 해싱 --> 해시값을 만들어 줌...
-        String hashPwd = passwordEncoder.encode(joinDTO.getPassword());
+        String hashPwd = passwordHashingService.hash(joinDTO.getPassword());
 
-        User user = joinDTO.toEntity(profileImageFileName);
-        // 비밀 번호를 평문에서 해시값으로 변경 해주어야 한다.
-        user.setPassword(hashPwd);
+        User user = transactionTemplate.execute(status -> {
+            // User 엔티티에 저장할 때는 String 이어야 하고 null 값도 가질 수 있음
+            // 2.2 저장소에 저장 -> 저장소 key (ab/cd/{sha256}.png) 를 파일 이름으로 사용
+            String profileImageFileName = hasProfileImage ? fileStorageService.저장(joinDTO.getProfileImage()) : null;
 
-        return userRepository.save(user);
+            User newUser = joinDTO.toEntity(profileImageFileName);
+            // 비밀 번호를 평문에서 해시값으로 변경 해주어야 한다.
+            newUser.setPassword(hashPwd);
+
+            // 중복 체크와 저장 사이에 같은 값으로 가입한 요청이 있으면 unique 제약 위반 -> 500 이 아닌 400 안내
+            try {
+                userRepository.saveAndFlush(newUser);
+            } catch (DataIntegrityViolationException e) {
+                throw new Exception400("이미 사용중인 사용자 이름 또는 이메일 입니다");
+            }
+            dashboardStatService.회원가입반영();
+            return newUser;
+        });
+        userAvailabilityService.등록(user.getUsername(), user.getEmail());
+        return user;
     }
 
     // 로그인 처리
+    // 조회 쿼리가 끝나면 커넥션을 바로 반납하고 비밀번호 검증은 트랜잭션 밖에서 한다.
+    // (해싱 대기 중에 커넥션을 잡고 있으면 로그인이 몰릴 때 커넥션 풀이 바닥나서 일반 페이지까지 멈춤)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public User 로그인(UserRequest.LoginDTO loginDTO) {
         // 사용자가 던진 값과 DB에 있는 사용자 이름과 비밀번호를 확인 필요
         User userEntity = userRepository.findByUsernameWithRoles(loginDTO.getUsername())
@@ -221,14 +293,67 @@ public class UserService {
 
         // 비밀번호 검증 (BCrypt matches 메서드를 사용해서 비교 하면 된다)
         // 일치하면 true, 불일치 하면 false 반환
-        if (!passwordEncoder.matches(loginDTO.getPassword(), userEntity.getPassword())) {
+        PasswordHashingService.MatchResult result =
+                passwordHashingService.verify(loginDTO.getPassword(), userEntity.getPassword());
+        if (!result.matched()) {
             throw new Exception400("사용자명 또는 비밀번호가 올바르지 않습니다.");
         }
+        // 저장된 해시의 cost factor 가 현재 설정보다 낮으면 새 해시로 교체 (짧은 UPDATE 트랜잭션 한 번)
+        if (result.needsRehash()) {
+            userRepository.updatePasswordIfUnchanged(userEntity.getId(), userEntity.getPassword(), result.newHash());
+            userEntity.setPassword(result.newHash());
+        }
 
         // 기존 샘플 데이터로 회원가입한 사용자들로는 로그인을 못 함!!
         return userEntity;
     }
 
+    // 관리자 회원 목록 (키셋 페이징, 검색어가 없으면 최신 가입순 / 있으면 검색한 컬럼 순)
+    // 1. 회원 목록은 필요한 컬럼만 프로젝션으로 조회 (EAGER roles 로딩 X)
+    // 2. 현재 페이지 회원들의 역할은 IN 쿼리 1번으로 조회
+    public UserResponse.DirectoryPageDTO 회원목록조회(UserRequest.DirectorySearchDTO search) {
+        int size = search.getValidSize();
+        OAuthProvider provider = search.toProvider();
+        Role role = search.toRole();
+        String keyword = search.getTrimmedKeyword();
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        PageRequest pageRequest = PageRequest.of(0, size + 1);
+
+        List<UserSummary> rows;
+        if (keyword == null) {
+            rows = userRepository.findDirectory(provider, role, search.getCursor(), pageRequest);
+        } else if (search.isEmailSearch()) {
+            rows = userRepository.findDirectoryByEmailPrefix(toLikePrefix(keyword), provider, role, search.getAfter(), pageRequest);
+        } else {
+            rows = userRepository.findDirectoryByUsernamePrefix(toLikePrefix(keyword), provider, role, search.getAfter(), pageRequest);
+        }
+
+        boolean hasNext = rows.size() > size;
+        List<UserSummary> page = hasNext ? rows.subList(0, size) : rows;
+
+        Map<Long, List<Role>> rolesByUserId = new HashMap<>();
+        if (!page.isEmpty()) {
+            List<Long> ids = page.stream().map(UserSummary::getId).toList();
+            for (Object[] row : userRepository.findRolesByUserIds(ids)) {
+                rolesByUserId.computeIfAbsent((Long) row[0], k -> new ArrayList<>()).add((Role) row[1]);
+            }
+        }
+
+        List<UserResponse.DirectoryRowDTO> content = page.stream()
+                .map(summary -> new UserResponse.DirectoryRowDTO(
+                        summary, rolesByUserId.getOrDefault(summary.getId(), List.of())))
+                .toList();
+
+        return new UserResponse.DirectoryPageDTO(content, hasNext, search);
+    }
+
+    // 앞부분 일치 검색 패턴 (LIKE 특수문자 %, _ 는 ! 로 이스케이프)
+    private static String toLikePrefix(String keyword) {
+        return keyword.replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_") + "%";
+    }
+
     // 회원 정보 수정
     public User 회원정보수정화면(Long userId) {
 
@@ -247,8 +372,17 @@ public class UserService {
     // 2. 인가 검사
     // 3. 엔티티 상태 변경 (더티 체킹)
     // 4. 트랜잭션이 일어나고 변경 된 User 엔티티 반환
-    @Transactional
+    // 비밀번호 해싱은 트랜잭션 시작 전에 (해싱 대기 중에 DB 커넥션을 잡지 않음)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public User 회원정보수정(UserRequest.UpdateDTO updateDTO, Long userId) {
+        // 비밀번호 암호화 처리
+        String hashPsw = passwordHashingService.hash(updateDTO.getPassword());
+        updateDTO.setPassword(hashPsw);
+
+        return transactionTemplate.execute(status -> 회원정보반영(updateDTO, userId));
+    }
+
+    private User 회원정보반영(UserRequest.UpdateDTO updateDTO, Long userId) {
         User userEntity = userRepository.findById(userId)
                 .orElseThrow(() -> new Exception404("사용자를 찾을 수 없습니다."));
 
@@ -269,27 +403,17 @@ public class UserService {
             }
 
             // 2. 새 이미지 저장
-            try {
-                String newProfileImageFilename = FileUtil.saveFile(updateDTO.getProfileImage());
-                // 새로 만들어진 파일 이름을 잠시 DTO에 보관 함
-                updateDTO.setProfileImageFilename(newProfileImageFilename);
+            String newProfileImageFilename = fileStorageService.저장(updateDTO.getProfileImage());
+            // 새로 만들어진 파일 이름을 잠시 DTO에 보관 함
+            updateDTO.setProfileImageFilename(newProfileImageFilename);
 
-                if (oldProfileImage != null && !oldProfileImage.isEmpty()) {
-                    // 내가 기존에 있던 이미지를 삭제 처리 한다.
-                    FileUtil.deleteFile(oldProfileImage);
-                }
-            } catch (IOException e) {
-                throw new Exception500("파일 저장에 실패했습니다.");
-            }
+            // 기존 이미지 반납 (다른 사용자가 같은 이미지를 쓰지 않으면 OrphanBlobCollector 가 파일 삭제)
+            fileStorageService.해제(oldProfileImage);
             // end of 파일이 들어 왔을 때 처리
         } else {
             // 새 이미지가 업로드 되지 않았으면 기존 이미지 파일 이름 유지
             updateDTO.setProfileImageFilename(oldProfileImage);
         }
-        // 비밀번호 암호화 처리
-        String hashPsw = passwordEncoder.encode(updateDTO.getPassword());
-        updateDTO.setPassword(hashPsw);
-
         // 객체 상태값 변경 (트랜잭션이 끝나면 자동으로 commit 및 반영)
         userEntity.update(updateDTO);
         return userEntity;
@@ -320,14 +444,8 @@ public class UserService {
             throw new Exception403("프로필 이미지 삭제 권한이 없습니다.");
         }
 
-        String profileImage = userEntity.getProfileImage();
-        if (profileImage != null && !profileImage.isEmpty()) {
-            try {
-                FileUtil.deleteFile(profileImage);
-            } catch (IOException e) {
-                System.err.println("프로필 이미지 파일 삭제 실패");
-            }
-        }
+        // 저장소에 반납 (다른 사용자가 같은 이미지를 쓰지 않으면 OrphanBlobCollector 가 파일 삭제)
+        fileStorageService.해제(userEntity.getProfileImage());
 
         // 객세 상태값 변경 (트랜 잭션이 끝나는 시점 더티 체킹 됨)
         userEntity.setProfileImage(null);
@@ -0,0 +1,17 @@
+package org.example.demo_ssr_v1.user;
+
+import java.sql.Timestamp;
+
+/**
+ * 관리자 회원 목록용 조회 전용 프로젝션
+ * - User 엔티티를 조회하면 EAGER 인 roles 컬렉션까지 row 마다 로딩 되므로
+ *   목록에 필요한 컬럼만 골라서 조회한다. (JPQL 의 AS 별칭과 getter 이름이 같아야 함)
+ */
+public interface UserSummary {
+    Long getId();
+    String getUsername();
+    String getEmail();
+    OAuthProvider getProvider();
+    Integer getPoint();
+    Timestamp getCreatedAt();
+}
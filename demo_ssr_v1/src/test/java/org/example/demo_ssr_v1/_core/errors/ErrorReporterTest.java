@@ -0,0 +1,37 @@
+package org.example.demo_ssr_v1._core.errors;
+
+import org.example.demo_ssr_v1._core.errors.exception.Exception404;
+import org.example.demo_ssr_v1._core.errors.exception.Exception500;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ErrorReporterTest {
+
+    @Test
+    void 업무_오류_예외는_스택_트레이스를_만들지_않는다() {
+        assertThat(new Exception404("없음").getStackTrace()).isEmpty();
+        assertThat(new Exception500("오류").getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    void 로그는_종류별로_제한하고_발생_수는_모두_센다() {
+        ErrorReporter reporter = new ErrorReporter(2, 1);
+
+        for (int i = 0; i < 10; i++) {
+            reporter.report(HttpStatus.NOT_FOUND, new Exception404("게시글을 찾을 수 없습니다."), "/board/" + i);
+        }
+        reporter.report(HttpStatus.INTERNAL_SERVER_ERROR, new Exception500("오류"), "/board/save");
+
+        List<ErrorReporter.StatusDTO> status = reporter.status();
+        assertThat(status).extracting(ErrorReporter.StatusDTO::getKey)
+                .containsExactly("404 Exception404", "500 Exception500");
+        assertThat(status.get(0).getTotal()).isEqualTo(10);
+        // 처음 2건만 로그, 나머지 8건은 다음 로그에서 "생략 8건" 으로 출력될 예정
+        assertThat(status.get(0).getSuppressedLogs()).isEqualTo(8);
+        assertThat(status.get(1).getSuppressedLogs()).isZero();
+    }
+}
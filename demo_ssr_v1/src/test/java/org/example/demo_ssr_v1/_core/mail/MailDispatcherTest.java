@@ -0,0 +1,124 @@
+package org.example.demo_ssr_v1._core.mail;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 내장 SMTP 서버(GreenMail)를 상대로 MailDispatcher 동작 확인
+ */
+class MailDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private MailDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (dispatcher != null) {
+            dispatcher.shutdown();
+        }
+    }
+
+    private JavaMailSenderImpl smtpSender() {
+        JavaMailSenderImpl sender = new JavaMailSenderImpl();
+        sender.setHost("127.0.0.1");
+        sender.setPort(ServerSetupTest.SMTP.getPort());
+        sender.setDefaultEncoding("UTF-8");
+        return sender;
+    }
+
+    private void awaitFinished(List<Long> ids, long timeoutMs) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        for (long id : ids) {
+            while (true) {
+                String status = dispatcher.delivery(id).orElseThrow().getStatus();
+                if (status.equals("SENT") || status.equals("FAILED")) {
+                    break;
+                }
+                assertThat(System.currentTimeMillis()).isLessThan(deadline);
+                Thread.sleep(10);
+            }
+        }
+    }
+
+    @Test
+    void 대기열에_넣은_메일이_모두_묶음으로_발송된다() throws Exception {
+        dispatcher = new MailDispatcher(smtpSender(), 4, 20, 1000, 3, 50, 200, 60_000);
+        int count = 500;
+
+        long start = System.nanoTime();
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(dispatcher.enqueue("user" + i + "@example.com", "인증번호", "<h3>인증번호는 [123456] 입니다<h3>"));
+        }
+        long enqueueMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+
+        awaitFinished(ids, 30_000);
+
+        MailDispatcher.StatsDTO stats = dispatcher.stats();
+
+        assertThat(stats.getSent()).isEqualTo(count);
+        assertThat(stats.getPending()).isZero();
+        assertThat(greenMail.getReceivedMessages()).hasSize(count);
+        // 요청 스레드는 SMTP 를 기다리지 않는다
+        assertThat(enqueueMicros / count).isLessThan(1_000);
+        // 연결 하나로 여러 건을 보냈는지 (메일 수보다 묶음 수가 훨씬 적음)
+        assertThat(stats.getBatches()).isLessThan(count / 2);
+    }
+
+    @Test
+    void 일시적인_실패는_백오프_후_재시도해서_발송된다() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        JavaMailSenderImpl flaky = new JavaMailSenderImpl() {
+            @Override
+            public void send(MimeMessage... mimeMessages) {
+                if (calls.incrementAndGet() <= 2) {
+                    throw new MailSendException("simulated connection failure");
+                }
+                super.send(mimeMessages);
+            }
+        };
+        flaky.setHost("127.0.0.1");
+        flaky.setPort(ServerSetupTest.SMTP.getPort());
+        dispatcher = new MailDispatcher(flaky, 1, 20, 100, 4, 20, 100, 60_000);
+
+        long id = dispatcher.enqueue("retry@example.com", "인증번호", "<h3>123456</h3>");
+        awaitFinished(List.of(id), 10_000);
+
+        MailDispatcher.DeliveryDTO delivery = dispatcher.delivery(id).orElseThrow();
+        assertThat(delivery.getStatus()).isEqualTo("SENT");
+        assertThat(delivery.getAttempts()).isEqualTo(3);
+        assertThat(dispatcher.stats().getRetried()).isEqualTo(2);
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+    }
+
+    @Test
+    void 최대_시도_횟수를_넘으면_실패로_기록된다() throws Exception {
+        JavaMailSenderImpl down = smtpSender();
+        down.setPort(1); // 연결 거부
+        dispatcher = new MailDispatcher(down, 1, 20, 100, 2, 10, 20, 60_000);
+
+        long id = dispatcher.enqueue("down@example.com", "인증번호", "<h3>123456</h3>");
+        awaitFinished(List.of(id), 10_000);
+
+        MailDispatcher.DeliveryDTO delivery = dispatcher.delivery(id).orElseThrow();
+        assertThat(delivery.getStatus()).isEqualTo("FAILED");
+        assertThat(delivery.getAttempts()).isEqualTo(2);
+        assertThat(delivery.getLastError()).isNotNull();
+        assertThat(dispatcher.stats().getFailed()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,42 @@
+package org.example.demo_ssr_v1._core.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.demo_ssr_v1._core.errors.exception.Exception404;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.stereotype.Service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ServiceMethodTimerTest {
+
+    @Service
+    static class SampleService {
+        public String 조회(boolean found) {
+            if (!found) {
+                throw new Exception404("없음");
+            }
+            return "ok";
+        }
+    }
+
+    @Test
+    void 서비스_메서드마다_성공과_예외를_나눠_기록한다() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AspectJProxyFactory factory = new AspectJProxyFactory(new SampleService());
+        factory.addAspect(new ServiceMethodTimer(registry));
+        SampleService service = factory.getProxy();
+
+        service.조회(true);
+        service.조회(true);
+        assertThatThrownBy(() -> service.조회(false)).isInstanceOf(Exception404.class);
+
+        assertThat(registry.get(ServiceMethodTimer.METRIC)
+                .tags("class", "SampleService", "method", "조회", "exception", "none")
+                .timer().count()).isEqualTo(2);
+        assertThat(registry.get(ServiceMethodTimer.METRIC)
+                .tags("method", "조회", "exception", "Exception404")
+                .timer().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.demo_ssr_v1._core.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 시각(now)을 직접 넘겨서 토큰 버킷 동작 확인
+ */
+class TokenBucketLimiterTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void 버킷_크기만큼_연속_허용하고_이후는_거절한다() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter("test", 5, 60, 1000);
+        long now = 0;
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire("1.1.1.1", now)).isZero();
+        }
+        long wait = limiter.tryAcquire("1.1.1.1", now);
+
+        // 1분에 60개 = 1초에 1개 -> 다음 토큰까지 1초
+        assertThat(wait).isEqualTo(SECOND);
+        // 다른 키는 영향 없음
+        assertThat(limiter.tryAcquire("2.2.2.2", now)).isZero();
+        assertThat(limiter.status().getRejected()).isEqualTo(1);
+    }
+
+    @Test
+    void 시간이_지나면_토큰이_다시_채워진다() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter("test", 2, 60, 1000);
+        long now = 0;
+        limiter.tryAcquire("k", now);
+        limiter.tryAcquire("k", now);
+        assertThat(limiter.tryAcquire("k", now)).isPositive();
+
+        now += SECOND;
+        assertThat(limiter.tryAcquire("k", now)).isZero();
+        assertThat(limiter.tryAcquire("k", now)).isPositive();
+
+        // 오래 쉬어도 버킷 크기 이상은 쌓이지 않는다
+        now += 100 * SECOND;
+        assertThat(limiter.tryAcquire("k", now)).isZero();
+        assertThat(limiter.tryAcquire("k", now)).isZero();
+        assertThat(limiter.tryAcquire("k", now)).isPositive();
+    }
+
+    @Test
+    void 가득_찬_버킷만_정리된다() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter("test", 2, 60, 1000);
+        limiter.tryAcquire("idle", 0);
+        limiter.tryAcquire("busy", 10 * SECOND);
+        limiter.tryAcquire("busy", 10 * SECOND);
+
+        int evicted = limiter.evictIdle(10 * SECOND);
+
+        assertThat(evicted).isEqualTo(1);
+        assertThat(limiter.status().getActiveKeys()).isEqualTo(1);
+    }
+
+    @Test
+    void 키가_가득_차면_새_키는_통과시키지_않고_거절한다() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter("test", 1, 60, 2);
+        limiter.tryAcquire("a", 0);
+        limiter.tryAcquire("b", 0);
+
+        assertThat(limiter.tryAcquire("c", 0)).isPositive();
+        assertThat(limiter.status().getOverflow()).isEqualTo(1);
+        // 이미 있는 키는 영향 없음 (토큰이 없어서 거절)
+        assertThat(limiter.tryAcquire("a", 0)).isPositive();
+
+        // 버킷이 다시 가득 차면 정리되고 새 키가 들어갈 수 있다
+        assertThat(limiter.tryAcquire("c", 2 * SECOND)).isZero();
+    }
+
+    @Test
+    void 동시에_요청해도_버킷_크기를_넘겨서_허용하지_않는다() throws Exception {
+        TokenBucketLimiter limiter = new TokenBucketLimiter("test", 100, 0.001, 1000);
+        AtomicInteger allowed = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1000; i++) {
+            pool.submit(() -> {
+                if (limiter.tryAcquire("same", 0) == 0) {
+                    allowed.incrementAndGet();
+                }
+            });
+        }
+        pool.shutdown();
+        assertThat(pool.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(allowed.get()).isEqualTo(100);
+    }
+}
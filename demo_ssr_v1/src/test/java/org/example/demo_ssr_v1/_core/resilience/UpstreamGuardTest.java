@@ -0,0 +1,180 @@
+package org.example.demo_ssr_v1._core.resilience;
+
+import com.sun.net.httpserver.HttpServer;
+import org.example.demo_ssr_v1._core.errors.exception.Exception503;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 느린 / 실패하는 로컬 스텁 서버를 상대로 UpstreamGuard 동작 확인
+ */
+class UpstreamGuardTest {
+
+    private HttpServer stub;
+    private String baseUrl;
+    private final AtomicInteger hits = new AtomicInteger();
+    private volatile long delayMs = 0;
+    private volatile int status = 200;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stub.setExecutor(Executors.newCachedThreadPool());
+        stub.createContext("/", exchange -> {
+            hits.incrementAndGet();
+            try {
+                Thread.sleep(delayMs);
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        stub.start();
+        baseUrl = "http://127.0.0.1:" + stub.getAddress().getPort() + "/";
+    }
+
+    @AfterEach
+    void tearDown() {
+        stub.stop(0);
+    }
+
+    private ResilienceProperties.Upstream config() {
+        ResilienceProperties.Upstream config = new ResilienceProperties.Upstream();
+        config.setConnectTimeoutMs(500);
+        config.setReadTimeoutMs(200);
+        config.setMaxConcurrentCalls(2);
+        config.setMaxWaitMs(0);
+        config.setSlidingWindowSize(4);
+        config.setMinimumCalls(4);
+        config.setFailureRateThreshold(50);
+        config.setOpenStateMs(300);
+        config.setHalfOpenMaxCalls(1);
+        config.setMaxAttempts(1);
+        config.setRetryBaseDelayMs(10);
+        config.setRetryMaxDelayMs(20);
+        return config;
+    }
+
+    private String get(UpstreamGuard guard) {
+        return guard.call(() -> guard.getRestTemplate().getForObject(baseUrl, String.class));
+    }
+
+    @Test
+    void 읽기_타임아웃은_재시도_후_실패한다() {
+        ResilienceProperties.Upstream config = config();
+        config.setMaxAttempts(3);
+        UpstreamGuard guard = new UpstreamGuard("slow", config);
+        delayMs = 1000;
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> get(guard)).isInstanceOf(ResourceAccessException.class);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(hits.get()).isEqualTo(3);
+        assertThat(guard.status().getRetries()).isEqualTo(2);
+        // 소켓 타임아웃(200ms) 기준으로 끊어지므로 스텁 지연(1초 x 3) 만큼 기다리지 않는다.
+        assertThat(elapsedMs).isLessThan(2000);
+    }
+
+    @Test
+    void callOnce_는_타임아웃이어도_다시_보내지_않는다() {
+        ResilienceProperties.Upstream config = config();
+        config.setMaxAttempts(3);
+        UpstreamGuard guard = new UpstreamGuard("once", config);
+        delayMs = 1000;
+
+        assertThatThrownBy(() -> guard.callOnce(() -> guard.getRestTemplate().getForObject(baseUrl, String.class)))
+                .isInstanceOf(ResourceAccessException.class);
+
+        assertThat(hits.get()).isEqualTo(1);
+        assertThat(guard.status().getRetries()).isZero();
+    }
+
+    @Test
+    void 실패율이_기준을_넘으면_서킷이_열리고_호출없이_바로_실패한다() throws Exception {
+        UpstreamGuard guard = new UpstreamGuard("failing", config());
+        status = 500;
+
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> get(guard)).isInstanceOf(HttpServerErrorException.class);
+        }
+        assertThat(guard.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        int hitsWhenOpened = hits.get();
+        assertThatThrownBy(() -> get(guard)).isInstanceOf(Exception503.class);
+        assertThat(hits.get()).isEqualTo(hitsWhenOpened);
+        assertThat(guard.status().getCircuitRejections()).isEqualTo(1);
+
+        // OPEN 시간이 지나면 HALF_OPEN 시험 호출 -> 성공 시 CLOSED
+        status = 200;
+        Thread.sleep(350);
+        assertThat(get(guard)).isEqualTo("ok");
+        assertThat(guard.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void 동시_호출_한도를_넘으면_벌크헤드가_바로_거절한다() throws Exception {
+        ResilienceProperties.Upstream config = config();
+        config.setReadTimeoutMs(2000);
+        UpstreamGuard guard = new UpstreamGuard("bulkhead", config);
+        delayMs = 500;
+
+        ExecutorService pool = Executors.newFixedThreadPool(6);
+        try {
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                futures.add(pool.submit(() -> get(guard)));
+            }
+
+            int ok = 0;
+            int rejected = 0;
+            for (Future<String> future : futures) {
+                try {
+                    future.get(5, TimeUnit.SECONDS);
+                    ok++;
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).isInstanceOf(Exception503.class);
+                    rejected++;
+                }
+            }
+
+            assertThat(ok).isEqualTo(2);
+            assertThat(rejected).isEqualTo(4);
+            assertThat(hits.get()).isEqualTo(2);
+            assertThat(guard.status().getBulkheadRejections()).isEqualTo(4);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void 백오프_대기시간은_상한_안에서_흩어진다() {
+        ResilienceProperties.Upstream config = config();
+        config.setRetryBaseDelayMs(100);
+        config.setRetryMaxDelayMs(400);
+        UpstreamGuard guard = new UpstreamGuard("backoff", config);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(guard.backoffMs(1)).isBetween(50L, 100L);
+            assertThat(guard.backoffMs(5)).isBetween(200L, 400L);
+        }
+    }
+}
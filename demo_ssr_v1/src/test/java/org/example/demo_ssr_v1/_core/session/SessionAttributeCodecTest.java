@@ -0,0 +1,63 @@
+package org.example.demo_ssr_v1._core.session;
+
+import org.example.demo_ssr_v1.user.SessionUser;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.serializer.support.SerializingConverter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Spring Session 이 사용하는 방식 그대로 (ConversionService, Object <-> byte[]) 변환 확인
+ */
+class SessionAttributeCodecTest {
+
+    private final ConversionService conversionService =
+            SessionAttributeCodec.conversionService(getClass().getClassLoader());
+
+    private byte[] write(Object value) {
+        return (byte[]) conversionService.convert(value, TypeDescriptor.valueOf(Object.class),
+                TypeDescriptor.valueOf(byte[].class));
+    }
+
+    private Object read(byte[] bytes) {
+        return conversionService.convert(bytes, TypeDescriptor.valueOf(byte[].class),
+                TypeDescriptor.valueOf(Object.class));
+    }
+
+    @Test
+    void 세션_사용자는_전용_형식으로_저장되고_그대로_복원된다() {
+        SessionUser sessionUser = new SessionUser(7L, "cos", 1 | 2, null);
+
+        byte[] bytes = write(sessionUser);
+        SessionUser restored = (SessionUser) read(bytes);
+
+        assertThat(restored.getId()).isEqualTo(7L);
+        assertThat(restored.getUsername()).isEqualTo("cos");
+        assertThat(restored.isAdmin()).isTrue();
+        assertThat(restored.getProfilePath()).isNull();
+        assertThat(bytes.length).isLessThan(new SerializingConverter().convert(sessionUser).length / 3);
+    }
+
+    @Test
+    void 문자열과_그_외_타입도_복원된다() {
+        assertThat(read(write("인증코드 123456"))).isEqualTo("인증코드 123456");
+
+        List<Integer> list = new ArrayList<>(List.of(1, 2, 3));
+        assertThat(read(write(list))).isEqualTo(list);
+    }
+
+    @Test
+    void 기존_자바_직렬화_값도_읽을_수_있다() {
+        byte[] legacy = new SerializingConverter().convert(new SessionUser(1L, "ssar", 2, "/images/a.png"));
+
+        SessionUser restored = (SessionUser) read(legacy);
+
+        assertThat(restored.getUsername()).isEqualTo("ssar");
+        assertThat(restored.getProfilePath()).isEqualTo("/images/a.png");
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.demo_ssr_v1._core.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContentAddressedStorageTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void 같은_내용은_같은_key_로_한_번만_저장된다() throws Exception {
+        ContentAddressedStorage storage = new ContentAddressedStorage(new LocalBlobStore(root));
+        byte[] data = new byte[200_000]; // 버퍼(64KB) 보다 큰 파일
+        new Random(1).nextBytes(data);
+
+        ContentAddressedStorage.StoredObject first = storage.write(new ByteArrayInputStream(data), "PNG");
+        ContentAddressedStorage.StoredObject second = storage.write(new ByteArrayInputStream(data), "png");
+
+        assertThat(first.created()).isTrue();
+        assertThat(second.created()).isFalse();
+        assertThat(second.key()).isEqualTo(first.key());
+        assertThat(first.size()).isEqualTo(data.length);
+        assertThat(first.key()).isEqualTo(first.hash().substring(0, 2) + "/" + first.hash().substring(2, 4) + "/" + first.hash() + ".png");
+        assertThat(Files.readAllBytes(root.resolve(first.key()))).isEqualTo(data);
+        // 임시 파일은 남지 않음
+        try (Stream<Path> temps = Files.list(root.resolve(".tmp"))) {
+            assertThat(temps).isEmpty();
+        }
+    }
+
+    @Test
+    void 중복_업로드는_기존_파일의_수정_시각을_갱신한다() throws Exception {
+        InMemoryBlobStore store = new InMemoryBlobStore();
+        ContentAddressedStorage storage = new ContentAddressedStorage(store);
+        String key = storage.write(new ByteArrayInputStream(new byte[]{1, 2, 3}), "png").key();
+        store.setLastModified(key, 1_000L);
+
+        storage.write(new ByteArrayInputStream(new byte[]{1, 2, 3}), "png");
+
+        // 고아 파일 정리(OrphanBlobCollector)가 방금 다시 쓰인 파일을 지우지 않도록
+        assertThat(store.stat(key).orElseThrow().lastModified()).isGreaterThan(1_000L);
+        assertThat(store.keys()).containsExactly(key);
+    }
+
+    @Test
+    void sha256_값이_파일_이름이_된다() throws Exception {
+        ContentAddressedStorage storage = new ContentAddressedStorage(new LocalBlobStore(root));
+
+        ContentAddressedStorage.StoredObject stored =
+                storage.write(new ByteArrayInputStream("abc".getBytes(StandardCharsets.UTF_8)), "../txt");
+
+        assertThat(stored.hash()).isEqualTo("ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad");
+        // 허용되지 않는 확장자는 버림
+        assertThat(stored.key()).doesNotContain(".");
+        assertThat(ContentAddressedStorage.isContentKey(stored.key())).isTrue();
+        assertThat(ContentAddressedStorage.hashOf(stored.key())).isEqualTo(stored.hash());
+    }
+
+    @Test
+    void 저장소가_만든_key_만_인정한다() {
+        assertThat(ContentAddressedStorage.isContentKey("3f2a_profile.png")).isFalse();
+        assertThat(ContentAddressedStorage.isContentKey("https://k.kakaocdn.net/a.jpg")).isFalse();
+        assertThat(ContentAddressedStorage.isContentKey("../../etc/passwd")).isFalse();
+    }
+}
@@ -0,0 +1,110 @@
+package org.example.demo_ssr_v1._core.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileSenderTest {
+
+    private static final String CACHE = "public, max-age=31536000, immutable";
+
+    @TempDir
+    Path dir;
+
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        file = Files.writeString(dir.resolve("a.txt"), "0123456789", StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void 전체_파일과_캐시_헤더를_보낸다() throws Exception {
+        MockHttpServletResponse response = send(new MockHttpServletRequest("GET", "/images/a.txt"));
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo("0123456789");
+        assertThat(response.getHeader("ETag")).isEqualTo("\"abc\"");
+        assertThat(response.getHeader("Cache-Control")).isEqualTo(CACHE);
+        assertThat(response.getHeader("Last-Modified")).isNotNull();
+        assertThat(response.getContentLengthLong()).isEqualTo(10);
+    }
+
+    @Test
+    void ETag_가_같으면_본문_없이_304() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/images/a.txt");
+        request.addHeader("If-None-Match", "\"other\", \"abc\"");
+
+        MockHttpServletResponse response = send(request);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(response.getHeader("ETag")).isEqualTo("\"abc\"");
+    }
+
+    @Test
+    void 수정_시각_이후_변경이_없으면_304() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/images/a.txt");
+        request.addHeader("If-Modified-Since", Files.getLastModifiedTime(file).toMillis() + 1000);
+
+        assertThat(send(request).getStatus()).isEqualTo(304);
+    }
+
+    @Test
+    void Range_요청은_206_으로_일부만_보낸다() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/images/a.txt");
+        request.addHeader("Range", "bytes=2-4");
+
+        MockHttpServletResponse response = send(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsString()).isEqualTo("234");
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes 2-4/10");
+    }
+
+    @Test
+    void 파일_범위를_벗어난_Range_는_416() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/images/a.txt");
+        request.addHeader("Range", "bytes=20-");
+
+        MockHttpServletResponse response = send(request);
+
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes */10");
+    }
+
+    @Test
+    void If_Range_가_다르면_전체를_보낸다() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/images/a.txt");
+        request.addHeader("Range", "bytes=2-4");
+        request.addHeader("If-Range", "\"old\"");
+
+        MockHttpServletResponse response = send(request);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsString()).isEqualTo("0123456789");
+    }
+
+    @Test
+    void Range_해석() {
+        assertThat(FileSender.parseRange("bytes=-3", 10)).containsExactly(7, 9);
+        assertThat(FileSender.parseRange("bytes=5-100", 10)).containsExactly(5, 9);
+        assertThat(FileSender.parseRange("bytes=0-1,4-5", 10)).isEmpty();
+        assertThat(FileSender.parseRange("items=0-1", 10)).isEmpty();
+        assertThat(FileSender.parseRange("bytes=5-2", 10)).isNull();
+    }
+
+    private MockHttpServletResponse send(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FileSender.send(request, response, file, "text/plain", "abc", CACHE);
+        return response;
+    }
+}
@@ -0,0 +1,116 @@
+package org.example.demo_ssr_v1._core.storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageVariantPipelineTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    void 원본에서_medium_축소본을_만든다() throws Exception {
+        ContentAddressedStorage storage = new ContentAddressedStorage(new LocalBlobStore(root));
+        ImageVariantPipeline pipeline = new ImageVariantPipeline(storage, 1, 10, 40_000_000);
+        String key = storage.write(new ByteArrayInputStream(png(2000, 1000)), "png").key();
+
+        pipeline.generate(key);
+
+        BufferedImage medium = ImageIO.read(root.resolve(ContentAddressedStorage.variantKey(key, ImageVariant.MEDIUM)).toFile());
+        assertThat(medium.getWidth()).isEqualTo(400);
+        assertThat(medium.getHeight()).isEqualTo(200);
+        assertThat(pipeline.hasAllVariants(key)).isTrue();
+        // 이미 만들어진 원본은 다시 요청하지 않음
+        assertThat(pipeline.submit(key)).isFalse();
+        pipeline.shutdown();
+    }
+
+    @Test
+    void 로컬_파일이_없는_저장소는_스트림으로_읽어서_만든다() throws Exception {
+        InMemoryBlobStore store = new InMemoryBlobStore();
+        ContentAddressedStorage storage = new ContentAddressedStorage(store);
+        ImageVariantPipeline pipeline = new ImageVariantPipeline(storage, 1, 10, 40_000_000);
+        String key = storage.write(new ByteArrayInputStream(png(800, 800)), "png").key();
+
+        pipeline.generate(key);
+
+        BufferedImage medium = ImageIO.read(store.open(ContentAddressedStorage.variantKey(key, ImageVariant.MEDIUM), 0));
+        assertThat(medium.getWidth()).isEqualTo(400);
+        assertThat(pipeline.hasAllVariants(key)).isTrue();
+        pipeline.shutdown();
+    }
+
+    @Test
+    void EXIF_방향_태그대로_돌려서_만든다() throws Exception {
+        ContentAddressedStorage storage = new ContentAddressedStorage(new LocalBlobStore(root));
+        ImageVariantPipeline pipeline = new ImageVariantPipeline(storage, 1, 10, 40_000_000);
+        // 휴대폰 세로 사진: 픽셀은 가로(800x400)로 저장, Orientation 6 (시계 방향 90도)
+        String key = storage.write(new ByteArrayInputStream(jpegWithOrientation(800, 400, 6)), "jpg").key();
+
+        pipeline.generate(key);
+
+        BufferedImage medium = ImageIO.read(root.resolve(ContentAddressedStorage.variantKey(key, ImageVariant.MEDIUM)).toFile());
+        assertThat(medium.getWidth()).isEqualTo(200);
+        assertThat(medium.getHeight()).isEqualTo(400);
+        pipeline.shutdown();
+    }
+
+    @Test
+    void 픽셀_수_제한을_넘는_원본은_처리하지_않는다() throws Exception {
+        ContentAddressedStorage storage = new ContentAddressedStorage(new LocalBlobStore(root));
+        ImageVariantPipeline pipeline = new ImageVariantPipeline(storage, 1, 10, 1_000);
+        String key = storage.write(new ByteArrayInputStream(png(100, 100)), "png").key();
+
+        pipeline.generate(key);
+
+        assertThat(pipeline.hasAllVariants(key)).isFalse();
+        assertThat(pipeline.status().getFailed()).isEqualTo(1);
+        // 실패한 원본은 다시 시도하지 않음
+        assertThat(pipeline.submit(key)).isFalse();
+        pipeline.shutdown();
+    }
+
+    @Test
+    void 이미지_확장자가_아니면_축소본_대상이_아니다() {
+        String hash = "a".repeat(64);
+        assertThat(ImageVariantPipeline.isImageKey("aa/aa/" + hash + ".png")).isTrue();
+        assertThat(ImageVariantPipeline.isImageKey("aa/aa/" + hash + ".pdf")).isFalse();
+        assertThat(ImageVariantPipeline.isImageKey("aa/aa/" + hash)).isFalse();
+    }
+
+    private static byte[] png(int width, int height) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", out);
+        return out.toByteArray();
+    }
+
+    // JFIF(APP0) 뒤에 Orientation 하나만 있는 EXIF(APP1) 를 끼워 넣은 JPEG
+    private static byte[] jpegWithOrientation(int width, int height, int orientation) throws Exception {
+        ByteArrayOutputStream jpeg = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "jpg", jpeg);
+        byte[] original = jpeg.toByteArray();
+        int app0End = 4 + (((original[4] & 0xFF) << 8) | (original[5] & 0xFF));
+
+        byte[] exif = {
+                'E', 'x', 'i', 'f', 0, 0,
+                'M', 'M', 0, 42, 0, 0, 0, 8,                       // 빅 엔디안, IFD0 위치 8
+                0, 1,                                              // 항목 1개
+                0x01, 0x12, 0, 3, 0, 0, 0, 1, 0, (byte) orientation, 0, 0, // Orientation, SHORT x 1
+                0, 0, 0, 0                                         // 다음 IFD 없음
+        };
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(original, 0, app0End);
+        out.write(new byte[]{(byte) 0xFF, (byte) 0xE1, 0, (byte) (exif.length + 2)});
+        out.write(exif);
+        out.write(original, app0End, original.length - app0End);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.demo_ssr_v1._core.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * 테스트용 메모리 저장소 - S3 처럼 로컬 파일 경로가 없는 저장소 (localPath == null)
+ */
+class InMemoryBlobStore implements BlobStore {
+
+    private record Blob(byte[] data, long lastModified) {
+    }
+
+    private final TreeMap<String, Blob> blobs = new TreeMap<>();
+    private final Path tempDir;
+
+    InMemoryBlobStore() {
+        try {
+            this.tempDir = Files.createTempDirectory("blob-store-");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public synchronized void put(String key, Path source) throws IOException {
+        put(key, Files.readAllBytes(source));
+        Files.delete(source);
+    }
+
+    @Override
+    public synchronized void put(String key, byte[] data) {
+        blobs.put(key, new Blob(data.clone(), System.currentTimeMillis()));
+    }
+
+    @Override
+    public synchronized Optional<BlobInfo> stat(String key) {
+        Blob blob = blobs.get(key);
+        return blob == null ? Optional.empty() : Optional.of(new BlobInfo(key, blob.data().length, blob.lastModified()));
+    }
+
+    @Override
+    public synchronized InputStream open(String key, long offset) throws IOException {
+        Blob blob = blobs.get(key);
+        if (blob == null) {
+            throw new NoSuchFileException(key);
+        }
+        return new ByteArrayInputStream(blob.data(), (int) offset, blob.data().length - (int) offset);
+    }
+
+    @Override
+    public synchronized void delete(String key) {
+        blobs.remove(key);
+    }
+
+    @Override
+    public synchronized List<BlobInfo> list(String prefix, String startAfter, int limit) {
+        List<BlobInfo> result = new ArrayList<>();
+        SortedMap<String, Blob> tail = startAfter == null ? blobs.tailMap(prefix) : blobs.tailMap(startAfter, false);
+        for (String key : tail.keySet()) {
+            if (result.size() >= limit || !key.startsWith(prefix)) {
+                break;
+            }
+            stat(key).ifPresent(result::add);
+        }
+        return result;
+    }
+
+    @Override
+    public Path tempDirectory() {
+        return tempDir;
+    }
+
+    @Override
+    public synchronized void touch(String key) {
+        Blob blob = blobs.get(key);
+        if (blob != null) {
+            blobs.put(key, new Blob(blob.data(), System.currentTimeMillis()));
+        }
+    }
+
+    synchronized void setLastModified(String key, long lastModified) {
+        blobs.put(key, new Blob(blobs.get(key).data(), lastModified));
+    }
+
+    synchronized Set<String> keys() {
+        return new TreeSet<>(blobs.keySet());
+    }
+}
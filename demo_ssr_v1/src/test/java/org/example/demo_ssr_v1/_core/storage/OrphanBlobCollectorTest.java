@@ -0,0 +1,117 @@
+package org.example.demo_ssr_v1._core.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+class OrphanBlobCollectorTest {
+
+    private static final long OLD = 1_000L;
+
+    private InMemoryBlobStore store;
+    private StoredFileRepository repository;
+
+    private String used;
+    private String orphan;
+    private String orphanThumb;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryBlobStore();
+        repository = mock(StoredFileRepository.class);
+
+        used = key("ab", 'a', ".png");
+        orphan = key("cd", 'b', ".png");
+        orphanThumb = ContentAddressedStorage.variantKey(orphan, ImageVariant.MEDIUM);
+        for (String key : List.of(used, orphan, orphanThumb)) {
+            store.put(key, new byte[]{1, 2, 3});
+            store.setLastModified(key, OLD);
+        }
+        // 저장소 도입 전 파일은 대상이 아님
+        store.put("3f2a_profile.png", new byte[]{1});
+        store.setLastModified("3f2a_profile.png", OLD);
+
+        when(repository.findReferencedHashes(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> hashes = invocation.getArgument(0);
+            return hashes.contains(ContentAddressedStorage.hashOf(used)) ? List.of(ContentAddressedStorage.hashOf(used)) : List.of();
+        });
+        when(repository.deleteUnreferenced(anyCollection())).thenReturn(1);
+        when(repository.findExistingHashes(anyCollection())).thenReturn(List.of());
+    }
+
+    @Test
+    void 아무도_쓰지_않는_원본과_축소본을_삭제한다() throws Exception {
+        OrphanBlobCollector collector = new OrphanBlobCollector(store, repository, true, 500, 1000, 60_000);
+
+        int deleted = collector.collect();
+
+        assertThat(deleted).isEqualTo(2);
+        assertThat(store.keys()).containsExactlyInAnyOrder(used, "3f2a_profile.png");
+        assertThat(collector.status().getFreedBytes()).isEqualTo(6);
+        verify(repository).deleteUnreferenced(Set.of(ContentAddressedStorage.hashOf(orphan)));
+    }
+
+    @Test
+    void 최근에_쓰인_파일은_삭제하지_않는다() throws Exception {
+        store.touch(orphan);
+        store.touch(orphanThumb);
+        OrphanBlobCollector collector = new OrphanBlobCollector(store, repository, true, 500, 1000, 60_000);
+
+        assertThat(collector.collect()).isZero();
+        assertThat(store.keys()).contains(orphan, orphanThumb);
+        verify(repository, never()).deleteUnreferenced(anyCollection());
+    }
+
+    @Test
+    void 정리하는_사이_다시_참조된_파일은_남긴다() throws Exception {
+        when(repository.deleteUnreferenced(anyCollection())).thenReturn(0);
+        when(repository.findExistingHashes(anyCollection())).thenReturn(List.of(ContentAddressedStorage.hashOf(orphan)));
+        OrphanBlobCollector collector = new OrphanBlobCollector(store, repository, true, 500, 1000, 60_000);
+
+        assertThat(collector.collect()).isZero();
+        assertThat(store.keys()).contains(orphan, orphanThumb);
+    }
+
+    @Test
+    void 확장자만_다른_key_를_쓰는_회원이_있으면_해시의_파일을_모두_남긴다() throws Exception {
+        // row 는 .png 만 있고 (이미 해제됨) 회원은 같은 내용의 .jpeg 를 사용
+        String jpeg = orphan.replace(".png", ".jpeg");
+        store.put(jpeg, new byte[]{1, 2, 3});
+        store.setLastModified(jpeg, OLD);
+        when(repository.existsProfileImageLike(ContentAddressedStorage.keyPrefix(ContentAddressedStorage.hashOf(orphan)) + "%"))
+                .thenReturn(true);
+        OrphanBlobCollector collector = new OrphanBlobCollector(store, repository, true, 500, 1000, 60_000);
+
+        assertThat(collector.collect()).isZero();
+        assertThat(store.keys()).contains(orphan, jpeg, orphanThumb);
+        verify(repository, never()).deleteUnreferenced(anyCollection());
+    }
+
+    @Test
+    void 한_번에_정해진_개수만큼만_훑고_다음_실행에서_이어간다() throws Exception {
+        // 1개씩 172번 조회 -> 00/ ~ aa/ (빈 prefix 171번) 다음 ab/ 의 used 까지만 확인
+        OrphanBlobCollector collector = new OrphanBlobCollector(store, repository, true, 1, 172, 60_000);
+
+        assertThat(collector.collect()).isZero();
+        assertThat(collector.status().getScanned()).isEqualTo(1);
+        assertThat(collector.status().getCursor()).isEqualTo(used);
+
+        // 나머지는 다음 실행들에서 정리됨
+        for (int i = 0; i < 10 && store.keys().contains(orphanThumb); i++) {
+            collector.collect();
+        }
+        assertThat(store.keys()).containsExactlyInAnyOrder(used, "3f2a_profile.png");
+    }
+
+    private static String key(String prefix, char fill, String extension) {
+        String hash = prefix + prefix + String.valueOf(fill).repeat(60);
+        return prefix + "/" + prefix + "/" + hash + extension;
+    }
+}
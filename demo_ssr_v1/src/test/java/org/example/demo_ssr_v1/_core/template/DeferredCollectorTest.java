@@ -0,0 +1,69 @@
+package org.example.demo_ssr_v1._core.template;
+
+import com.samskivert.mustache.Mustache;
+import com.samskivert.mustache.Template;
+import org.example.demo_ssr_v1._core.errors.exception.Exception404;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DeferredCollectorTest {
+
+    private final Mustache.Compiler compiler = Mustache.compiler();
+    private final Template template = compiler
+            .withCollector(new DeferredCollector(compiler.collector, 1_000))
+            .compile("<header>{{title}}</header>{{#page.items}}<li>{{.}}</li>{{/page.items}}{{^empty}}끝{{/empty}}");
+
+    @Test
+    void 조회를_기다리기_전에_헤더를_먼저_보낸다() throws Exception {
+        CountDownLatch headerSent = new CountDownLatch(1);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream() {
+            @Override
+            public void flush() {
+                headerSent.countDown();
+            }
+        };
+        HtmlChunkWriter out = new HtmlChunkWriter(bytes);
+
+        DeferredFactory factory = new DeferredFactory(true, Executors.newSingleThreadExecutor());
+        Deferred<Map<String, List<String>>> page = factory.defer(() -> {
+            try {
+                // 헤더가 전송되어야 조회가 끝남 -> 먼저 보내지 않으면 시간 초과로 실패
+                assertThat(headerSent.await(1, TimeUnit.SECONDS)).isTrue();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return Map.of("items", List.of("a", "b"));
+        });
+        Deferred<Boolean> empty = page.map(value -> value.get("items").isEmpty());
+        page.bind(out);
+        empty.bind(out);
+
+        template.execute(Map.of("title", "목록", "page", page, "empty", empty), out);
+        out.flush();
+
+        assertThat(bytes.toString(StandardCharsets.UTF_8)).isEqualTo("<header>목록</header><li>a</li><li>b</li>끝");
+    }
+
+    @Test
+    void 조회_예외는_FailedException_으로_전달된다() {
+        Deferred<Object> page = new Deferred<>(CompletableFuture.failedFuture(new Exception404("없음")));
+
+        assertThatThrownBy(() -> template.execute(Map.of("title", "목록", "page", page, "empty", true)))
+                .rootCause()
+                .isInstanceOf(Exception404.class);
+        assertThatThrownBy(() -> page.await(1_000))
+                .isInstanceOf(Deferred.FailedException.class)
+                .hasMessage("없음");
+    }
+}
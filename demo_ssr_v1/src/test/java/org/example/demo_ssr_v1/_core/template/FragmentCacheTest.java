@@ -0,0 +1,75 @@
+package org.example.demo_ssr_v1._core.template;
+
+import com.samskivert.mustache.Mustache;
+import com.samskivert.mustache.Template;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FragmentCacheTest {
+
+    private final Template template = Mustache.compiler()
+            .compile("{{#items}}{{#fragment.card}}<p>{{title}}</p>{{/fragment.card}}{{/items}}");
+
+    private FragmentCache cache(boolean enabled) {
+        FragmentCache cache = new FragmentCache(enabled, 100);
+        cache.register("card", context -> context instanceof Map<?, ?> item
+                ? new FragmentCache.FragmentKey(item.get("id"), (Integer) item.get("version"))
+                : null);
+        return cache;
+    }
+
+    private String render(FragmentCache cache, Map<String, Object> item) {
+        StringWriter out = new StringWriter();
+        template.execute(Map.of("fragment", cache.lambdas(), "items", List.of(item)), out);
+        return out.toString();
+    }
+
+    @Test
+    void 버전이_같으면_캐시된_조각을_쓰고_바뀌면_다시_렌더링한다() {
+        FragmentCache cache = cache(true);
+
+        assertThat(render(cache, Map.of("id", 1, "version", 0, "title", "처음"))).isEqualTo("<p>처음</p>");
+        // 같은 버전 -> 내용이 달라도 캐시된 조각 (버전이 바뀌지 않았다면 내용도 같다는 전제)
+        assertThat(render(cache, Map.of("id", 1, "version", 0, "title", "무시"))).isEqualTo("<p>처음</p>");
+        assertThat(render(cache, Map.of("id", 1, "version", 1, "title", "수정"))).isEqualTo("<p>수정</p>");
+
+        FragmentCache.StatusDTO status = cache.status().get(0);
+        assertThat(status.getHits()).isEqualTo(1);
+        assertThat(status.getMisses()).isEqualTo(2);
+        assertThat(status.getEntries()).isEqualTo(1);
+    }
+
+    @Test
+    void 무효화하거나_꺼져_있으면_다시_렌더링한다() {
+        FragmentCache cache = cache(true);
+        render(cache, Map.of("id", 1, "version", 0, "title", "처음"));
+
+        cache.invalidate("card", 1);
+        assertThat(render(cache, Map.of("id", 1, "version", 0, "title", "다시"))).isEqualTo("<p>다시</p>");
+
+        FragmentCache disabled = cache(false);
+        render(disabled, Map.of("id", 1, "version", 0, "title", "a"));
+        assertThat(render(disabled, Map.of("id", 1, "version", 0, "title", "b"))).isEqualTo("<p>b</p>");
+        assertThat(disabled.status().get(0).getEntries()).isZero();
+    }
+
+    @Test
+    void HtmlChunkWriter_는_캐시된_바이트와_문자열을_순서대로_UTF8_로_쓴다() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        HtmlChunkWriter out = new HtmlChunkWriter(bytes);
+
+        out.write("<div>한글 ");
+        HtmlChunkWriter.write(out, "캐시 😀".getBytes(StandardCharsets.UTF_8));
+        out.write("</div>");
+        out.flush();
+
+        assertThat(bytes.toString(StandardCharsets.UTF_8)).isEqualTo("<div>한글 캐시 😀</div>");
+    }
+}
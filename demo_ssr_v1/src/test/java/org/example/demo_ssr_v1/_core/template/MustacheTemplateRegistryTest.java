@@ -0,0 +1,78 @@
+package org.example.demo_ssr_v1._core.template;
+
+import com.samskivert.mustache.Mustache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MustacheTemplateRegistryTest {
+
+    private static final String PREFIX = "classpath:/templates/";
+
+    @TempDir
+    Path dir;
+
+    private final MustacheTemplateRegistry registry =
+            new MustacheTemplateRegistry(Mustache.compiler(), PREFIX, ".mustache", StandardCharsets.UTF_8);
+
+    @Test
+    void 부분_템플릿까지_미리_컴파일하고_워밍업한다() {
+        registry.load(Map.of(
+                "layout/header", "<h1>{{title}}</h1>",
+                "board/list", "{{> layout/header}}{{#boards}}<li>{{title}}</li>{{/boards}}{{^boards}}없음{{/boards}}"));
+
+        StringWriter out = new StringWriter();
+        registry.get(PREFIX + "board/list.mustache")
+                .execute(Map.of("title", "목록", "boards", List.of(Map.of("title", "a"), Map.of("title", "b"))), out);
+
+        assertThat(out.toString()).isEqualTo("<h1>목록</h1><li>a</li><li>b</li>");
+        assertThat(registry.status().getTemplates()).isEqualTo(2);
+        assertThat(registry.status().getWarmUpFailures()).isEmpty();
+        assertThat(registry.get(PREFIX + "board/none.mustache")).isNull();
+    }
+
+    @Test
+    void 컴파일에_실패하면_기존_템플릿을_유지한다() {
+        registry.load(Map.of("index", "ok"));
+
+        assertThatThrownBy(() -> registry.load(Map.of("index", "{{#open}}")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("index");
+
+        StringWriter out = new StringWriter();
+        registry.get(PREFIX + "index.mustache").execute(Map.of(), out);
+        assertThat(out.toString()).isEqualTo("ok");
+    }
+
+    @Test
+    void 폴더에서_템플릿_이름을_읽는다() throws Exception {
+        Files.createDirectories(dir.resolve("user"));
+        Files.writeString(dir.resolve("user/login-form.mustache"), "로그인");
+        Files.writeString(dir.resolve("notes.txt"), "무시");
+
+        Map<String, String> sources = registry.readSources(dir);
+
+        assertThat(sources).containsExactly(Map.entry("user/login-form", "로그인"));
+    }
+
+    @Test
+    void 렌더링_시간을_뷰별로_기록한다() {
+        registry.record("board/list", 2_000_000);
+        registry.record("board/list", 4_000_000);
+
+        MustacheTemplateRegistry.ViewDTO view = registry.status().getViews().get(0);
+        assertThat(view.getView()).isEqualTo("board/list");
+        assertThat(view.getRenders()).isEqualTo(2);
+        assertThat(view.getAvgMicros()).isEqualTo(3_000);
+        assertThat(view.getMaxMicros()).isEqualTo(4_000);
+    }
+}
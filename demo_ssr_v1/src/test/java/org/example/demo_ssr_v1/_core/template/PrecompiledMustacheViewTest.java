@@ -0,0 +1,73 @@
+package org.example.demo_ssr_v1._core.template;
+
+import com.samskivert.mustache.Mustache;
+import org.example.demo_ssr_v1._core.errors.exception.Exception503;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrecompiledMustacheViewTest {
+
+    private static final String PREFIX = "classpath:/templates/";
+    private static final String ETAG = "W/\"1-0-anonymous\"";
+
+    private PrecompiledMustacheView view;
+
+    @BeforeEach
+    void setUp() {
+        Mustache.Compiler compiler = Mustache.compiler();
+        MustacheTemplateRegistry registry = new MustacheTemplateRegistry(
+                compiler.withCollector(new DeferredCollector(compiler.collector, 1_000)),
+                PREFIX, ".mustache", StandardCharsets.UTF_8);
+        registry.load(Map.of("board/detail", "<h1>{{title}}</h1>{{#replyList}}<li>{{.}}</li>{{/replyList}}"));
+
+        StaticApplicationContext context = new StaticApplicationContext();
+        context.getBeanFactory().registerSingleton("mustacheTemplateRegistry", registry);
+        context.getBeanFactory().registerSingleton("fragmentCache", new FragmentCache(false, 10));
+        context.refresh();
+
+        view = new PrecompiledMustacheView();
+        view.setApplicationContext(context);
+        view.setUrl(PREFIX + "board/detail.mustache");
+        view.setContentType("text/html;charset=UTF-8");
+    }
+
+    @Test
+    void 조회에_실패한_화면에는_ETag_를_붙이지_않아_다시_방문하면_새로_렌더링한다() throws Exception {
+        // 첫 방문 - ETag 를 붙인 뒤 댓글 조회 실패
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/board/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        new ServletWebRequest(request, response).checkNotModified(ETAG);
+        Deferred<List<String>> failed = new Deferred<>(CompletableFuture.failedFuture(new Exception503("잠시 후 다시 시도해 주세요.")));
+
+        view.render(Map.of("title", "글", "replyList", failed), request, response);
+
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+        assertThat(response.getContentType()).isEqualTo("text/html;charset=UTF-8");
+        assertThat(response.getContentAsString()).doesNotContain("<h1>").contains("history.back();");
+
+        // 다시 방문 - 브라우저에 저장된 ETag 가 없으므로 If-None-Match 없이 요청 -> 304 가 아니라 새로 렌더링
+        MockHttpServletRequest revisit = new MockHttpServletRequest("GET", "/board/1");
+        MockHttpServletResponse rendered = new MockHttpServletResponse();
+        assertThat(new ServletWebRequest(revisit, rendered).checkNotModified(ETAG)).isFalse();
+        Deferred<List<String>> replies = new Deferred<>(CompletableFuture.completedFuture(List.of("댓글")));
+
+        view.render(Map.of("title", "글", "replyList", replies), revisit, rendered);
+
+        assertThat(rendered.getStatus()).isEqualTo(200);
+        assertThat(rendered.getHeader(HttpHeaders.ETAG)).isEqualTo(ETAG);
+        assertThat(rendered.getContentAsString()).isEqualTo("<h1>글</h1><li>댓글</li>");
+    }
+}
@@ -0,0 +1,26 @@
+package org.example.demo_ssr_v1._core.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MyDateUtilTest {
+
+    @Test
+    void 두_자리씩_채운_결과가_DateTimeFormatter_와_같다() {
+        assertThat(MyDateUtil.time(Timestamp.valueOf("2025-03-07 09:05:03.123"))).isEqualTo("2025-03-07 09:05:03");
+
+        // 4 자리가 아닌 연도(FORMATTER 로 처리)까지 포함한 임의의 시각
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            LocalDateTime dateTime = LocalDateTime.ofEpochSecond(
+                    random.nextLong(-70_000_000_000L, 300_000_000_000L), 0, ZoneOffset.UTC);
+            assertThat(MyDateUtil.time(dateTime)).isEqualTo(dateTime.format(MyDateUtil.FORMATTER));
+        }
+    }
+}
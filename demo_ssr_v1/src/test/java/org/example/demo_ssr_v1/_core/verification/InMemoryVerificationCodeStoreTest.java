@@ -0,0 +1,60 @@
+package org.example.demo_ssr_v1._core.verification;
+
+import org.example.demo_ssr_v1._core.errors.exception.Exception503;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryVerificationCodeStoreTest {
+
+    @Test
+    void 일치하면_성공하고_같은_번호는_다시_사용할_수_없다() {
+        InMemoryVerificationCodeStore store = new InMemoryVerificationCodeStore(300, 5, 100);
+        store.save("Ssar@Nate.com", "123456");
+
+        assertThat(store.verify("ssar@nate.com", "111111")).isEqualTo(VerificationCodeStore.Result.MISMATCH);
+        assertThat(store.verify("ssar@nate.com", "123456")).isEqualTo(VerificationCodeStore.Result.SUCCESS);
+        assertThat(store.verify("ssar@nate.com", "123456")).isEqualTo(VerificationCodeStore.Result.EXPIRED);
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    void 시도_횟수를_넘으면_맞는_번호도_거절한다() {
+        InMemoryVerificationCodeStore store = new InMemoryVerificationCodeStore(300, 3, 100);
+        store.save("cos@nate.com", "123456");
+
+        assertThat(store.verify("cos@nate.com", "000000")).isEqualTo(VerificationCodeStore.Result.MISMATCH);
+        assertThat(store.verify("cos@nate.com", "000000")).isEqualTo(VerificationCodeStore.Result.MISMATCH);
+        assertThat(store.verify("cos@nate.com", "000000")).isEqualTo(VerificationCodeStore.Result.TOO_MANY_ATTEMPTS);
+        assertThat(store.verify("cos@nate.com", "123456")).isEqualTo(VerificationCodeStore.Result.TOO_MANY_ATTEMPTS);
+
+        // 다시 발급 받으면 시도 횟수 초기화
+        store.save("cos@nate.com", "654321");
+        assertThat(store.verify("cos@nate.com", "654321")).isEqualTo(VerificationCodeStore.Result.SUCCESS);
+    }
+
+    @Test
+    void 만료된_번호는_정리되고_검증에_실패한다() throws Exception {
+        InMemoryVerificationCodeStore store = new InMemoryVerificationCodeStore(0, 5, 100);
+        store.save("a@nate.com", "123456");
+        Thread.sleep(5);
+
+        store.evictExpired();
+
+        assertThat(store.size()).isZero();
+        assertThat(store.verify("a@nate.com", "123456")).isEqualTo(VerificationCodeStore.Result.EXPIRED);
+    }
+
+    @Test
+    void 보관_개수_상한을_넘으면_새_발급을_거절한다() {
+        InMemoryVerificationCodeStore store = new InMemoryVerificationCodeStore(300, 5, 2);
+        store.save("a@nate.com", "123456");
+        store.save("b@nate.com", "123456");
+        // 같은 이메일 재발급은 개수가 늘지 않음
+        store.save("a@nate.com", "654321");
+
+        assertThatThrownBy(() -> store.save("c@nate.com", "123456")).isInstanceOf(Exception503.class);
+        assertThat(store.size()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,282 @@
+package org.example.demo_ssr_v1._simulator;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 포트원 / 카카오 로컬 시뮬레이터 (부하 테스트용)
+ *
+ * 실제 외부 서버 대신 이 서버를 띄우고 애플리케이션을 loadtest 프로필로 실행하면
+ * 결제 검증, 카카오 로그인 흐름 전체를 오프라인으로 부하 테스트 할 수 있다.
+ *
+ * 실행 방법
+ *   ./gradlew runSimulator --args="--port=18080 --payment.latency=lognormal:80,0.6 --payment.error-rate=0.01"
+ *   SPRING_PROFILES_ACTIVE=dev,loadtest ./gradlew bootRun
+ *
+ * 지원 엔드포인트 (키: 설정 이름)
+ *   token   POST /users/getToken      포트원 엑세스 토큰 발급
+ *   payment GET  /payments/{imp_uid}  포트원 결제 단건 조회
+ *   cancel  POST /payments/cancel     포트원 결제 취소 (환불)
+ *   oauth   POST /oauth/token         카카오 엑세스 토큰 발급
+ *   me      POST /v2/user/me          카카오 프로필 조회
+ *           GET  /__sim/stats         엔드포인트별 요청 / 오류 수
+ *
+ * 엔드포인트별 설정: --{키}.latency=분포 --{키}.error-rate=0.01 --{키}.timeout-rate=0.001 --{키}.hang-ms=30000
+ *
+ * 결제 검증 규칙
+ * - 애플리케이션은 merchant_uid 와 status 를 검증하므로, 부하 테스트 클라이언트는
+ *   imp_uid 를 "imp_{금액}_{merchant_uid}" 형식으로 만들어 보내면 된다.
+ *
+ * 카카오 로그인 규칙
+ * - /user/kakao?code=42 -> 카카오 사용자 id 42 로 로그인 (숫자가 아니면 code 의 해시값 사용)
+ */
+public class ExternalApiSimulator {
+
+    private static final String[] ENDPOINTS = {"token", "payment", "cancel", "oauth", "me"};
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<String, LatencyProfile> profiles = new HashMap<>();
+    private final Map<String, LongAdder> requestCounts = new LinkedHashMap<>();
+    private final Map<String, LongAdder> errorCounts = new LinkedHashMap<>();
+
+    public ExternalApiSimulator(int port, Map<String, String> options) throws IOException {
+        for (String endpoint : ENDPOINTS) {
+            profiles.put(endpoint, LatencyProfile.parse(
+                    options.getOrDefault(endpoint + ".latency", "lognormal:50,0.5"),
+                    Double.parseDouble(options.getOrDefault(endpoint + ".error-rate", "0")),
+                    Double.parseDouble(options.getOrDefault(endpoint + ".timeout-rate", "0")),
+                    Long.parseLong(options.getOrDefault(endpoint + ".hang-ms", "30000"))
+            ));
+            requestCounts.put(endpoint, new LongAdder());
+            errorCounts.put(endpoint, new LongAdder());
+        }
+
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 1024);
+        // 지연 시간 동안 스레드가 잠들어 있으므로 요청이 줄 서지 않게 스레드 수 제한 없이 처리
+        this.executor = Executors.newCachedThreadPool();
+        server.setExecutor(executor);
+
+        server.createContext("/users/getToken", exchange -> handle(exchange, "token", this::portOneToken));
+        server.createContext("/payments/", exchange -> handle(exchange, "payment", this::portOnePayment));
+        // 더 긴 경로가 우선 매칭 되므로 /payments/ 보다 먼저 처리 된다.
+        server.createContext("/payments/cancel", exchange -> handle(exchange, "cancel", this::portOneCancel));
+        server.createContext("/oauth/token", exchange -> handle(exchange, "oauth", this::kakaoToken));
+        server.createContext("/v2/user/me", exchange -> handle(exchange, "me", this::kakaoProfile));
+        server.createContext("/__sim/stats", exchange -> send(exchange, 200, stats()));
+    }
+
+    public void start() {
+        server.start();
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + getPort();
+    }
+
+    private interface Responder {
+        String respond(HttpExchange exchange) throws IOException;
+    }
+
+    private void handle(HttpExchange exchange, String endpoint, Responder responder) throws IOException {
+        requestCounts.get(endpoint).increment();
+        LatencyProfile profile = profiles.get(endpoint);
+        try {
+            Thread.sleep(profile.sampleDelayMs());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            exchange.close();
+            return;
+        }
+
+        if (profile.shouldFail()) {
+            errorCounts.get(endpoint).increment();
+            send(exchange, 500, "{\"code\":-1,\"message\":\"simulated failure\",\"response\":null}");
+            return;
+        }
+        send(exchange, 200, responder.respond(exchange));
+    }
+
+    // POST /users/getToken
+    private String portOneToken(HttpExchange exchange) throws IOException {
+        drain(exchange);
+        long now = System.currentTimeMillis() / 1000;
+        return "{\"code\":0,\"message\":null,\"response\":{" +
+                "\"access_token\":\"sim_portone_token\"," +
+                "\"now\":" + now + "," +
+                "\"expired_at\":" + (now + 1800) + "}}";
+    }
+
+    // GET /payments/{imp_uid}  (imp_uid 형식: imp_{금액}_{merchant_uid})
+    private String portOnePayment(HttpExchange exchange) {
+        String impUid = exchange.getRequestURI().getPath().substring("/payments/".length());
+        String[] parts = impUid.split("_", 3);
+        int amount = 1000;
+        String merchantUid = "unknown";
+        if (parts.length == 3) {
+            try {
+                amount = Integer.parseInt(parts[1]);
+            } catch (NumberFormatException ignored) {
+                // 형식이 다르면 기본 금액 사용
+            }
+            merchantUid = parts[2];
+        }
+        return "{\"code\":0,\"message\":null,\"response\":{" +
+                "\"amount\":" + amount + "," +
+                "\"imp_uid\":\"" + impUid + "\"," +
+                "\"merchant_uid\":\"" + merchantUid + "\"," +
+                "\"status\":\"paid\"," +
+                "\"paid_at\":" + (System.currentTimeMillis() / 1000) + "}}";
+    }
+
+    // POST /payments/cancel (json: {"imp_uid": "...", "reason": "..."})
+    private String portOneCancel(HttpExchange exchange) throws IOException {
+        String body = drain(exchange);
+        String impUid = jsonField(body, "imp_uid");
+        if (impUid == null) {
+            return "{\"code\":1,\"message\":\"imp_uid 가 필요합니다\",\"response\":null}";
+        }
+        return "{\"code\":0,\"message\":null,\"response\":{" +
+                "\"imp_uid\":\"" + impUid + "\"," +
+                "\"status\":\"cancelled\"," +
+                "\"cancelled_at\":" + (System.currentTimeMillis() / 1000) + "}}";
+    }
+
+    // POST /oauth/token (form: code=...)
+    private String kakaoToken(HttpExchange exchange) throws IOException {
+        String body = drain(exchange);
+        String code = formParam(body, "code");
+        long kakaoId = toKakaoId(code);
+        return "{\"token_type\":\"bearer\"," +
+                "\"access_token\":\"sim_" + kakaoId + "\"," +
+                "\"expires_in\":\"21599\"," +
+                "\"refresh_token\":\"sim_refresh_" + kakaoId + "\"," +
+                "\"refresh_token_expires_in\":\"5183999\"}";
+    }
+
+    // POST /v2/user/me (Authorization: Bearer sim_{kakaoId})
+    private String kakaoProfile(HttpExchange exchange) throws IOException {
+        drain(exchange);
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        long kakaoId = 0;
+        if (authorization != null && authorization.startsWith("Bearer sim_")) {
+            try {
+                kakaoId = Long.parseLong(authorization.substring("Bearer sim_".length()));
+            } catch (NumberFormatException ignored) {
+                // 시뮬레이터가 발급한 토큰이 아니면 0번 사용자
+            }
+        }
+        return "{\"id\":" + kakaoId + "," +
+                "\"connected_at\":\"2024-01-01T00:00:00Z\"," +
+                "\"properties\":{\"nickname\":\"sim\",\"profile_image\":null,\"thumbnail_image\":null}}";
+    }
+
+    private static long toKakaoId(String code) {
+        if (code == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(code);
+        } catch (NumberFormatException e) {
+            return code.hashCode() & 0x7fffffffL;
+        }
+    }
+
+    private static String formParam(String body, String name) {
+        for (String pair : body.split("&")) {
+            int idx = pair.indexOf('=');
+            if (idx > 0 && pair.substring(0, idx).equals(name)) {
+                return URLDecoder.decode(pair.substring(idx + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    // 단순한 문자열 필드만 꺼내는 용도 (시뮬레이터라 JSON 라이브러리 없이 처리)
+    private static String jsonField(String body, String name) {
+        String key = "\"" + name + "\"";
+        int idx = body.indexOf(key);
+        if (idx < 0) {
+            return null;
+        }
+        int start = body.indexOf('"', body.indexOf(':', idx + key.length()) + 1);
+        int end = body.indexOf('"', start + 1);
+        if (start < 0 || end < 0) {
+            return null;
+        }
+        return body.substring(start + 1, end);
+    }
+
+    private static String drain(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private String stats() {
+        StringBuilder sb = new StringBuilder("{");
+        for (String endpoint : ENDPOINTS) {
+            if (sb.length() > 1) {
+                sb.append(',');
+            }
+            sb.append('"').append(endpoint).append("\":{")
+                    .append("\"requests\":").append(requestCounts.get(endpoint).sum()).append(',')
+                    .append("\"errors\":").append(errorCounts.get(endpoint).sum()).append('}');
+        }
+        return sb.append('}').toString();
+    }
+
+    private static void send(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(body);
+        }
+    }
+
+    // --key=value 인자 또는 -Dsim.key=value 시스템 프로퍼티로 설정
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = new HashMap<>();
+        System.getProperties().forEach((key, value) -> {
+            String k = key.toString();
+            if (k.startsWith("sim.")) {
+                options.put(k.substring("sim.".length()), value.toString());
+            }
+        });
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                int idx = arg.indexOf('=');
+                options.put(arg.substring(2, idx), arg.substring(idx + 1));
+            }
+        }
+
+        int port = Integer.parseInt(options.getOrDefault("port", "18080"));
+        ExternalApiSimulator simulator = new ExternalApiSimulator(port, options);
+        simulator.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(simulator::stop));
+        System.out.println("외부 API 시뮬레이터 실행 중: " + simulator.getBaseUrl());
+    }
+}
@@ -0,0 +1,92 @@
+package org.example.demo_ssr_v1._simulator;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 시뮬레이터 엔드포인트 하나의 응답 지연 분포 + 오류율
+ *
+ * 지연 분포 표기법
+ * - fixed:50           항상 50ms
+ * - uniform:20-200     20 ~ 200ms 균등 분포
+ * - exp:100            평균 100ms 지수 분포
+ * - lognormal:80,0.6   중앙값 80ms, sigma 0.6 로그 정규 분포 (실제 외부 API 응답 시간과 가장 비슷함)
+ *
+ * errorRate: 0.0 ~ 1.0 (해당 비율 만큼 500 응답)
+ * timeoutRate: 0.0 ~ 1.0 (해당 비율 만큼 hangMs 동안 응답하지 않음 - 클라이언트 read timeout 유도)
+ */
+public class LatencyProfile {
+
+    private enum Type { FIXED, UNIFORM, EXP, LOGNORMAL }
+
+    private final Type type;
+    private final double a;
+    private final double b;
+    private final double errorRate;
+    private final double timeoutRate;
+    private final long hangMs;
+
+    private LatencyProfile(Type type, double a, double b, double errorRate, double timeoutRate, long hangMs) {
+        this.type = type;
+        this.a = a;
+        this.b = b;
+        this.errorRate = errorRate;
+        this.timeoutRate = timeoutRate;
+        this.hangMs = hangMs;
+    }
+
+    public static LatencyProfile parse(String spec, double errorRate, double timeoutRate, long hangMs) {
+        String[] parts = spec.trim().split(":", 2);
+        String name = parts[0].toLowerCase();
+        String args = parts.length > 1 ? parts[1] : "0";
+        switch (name) {
+            case "fixed":
+                return new LatencyProfile(Type.FIXED, Double.parseDouble(args), 0, errorRate, timeoutRate, hangMs);
+            case "uniform": {
+                String[] range = args.split("-");
+                return new LatencyProfile(Type.UNIFORM, Double.parseDouble(range[0]), Double.parseDouble(range[1]),
+                        errorRate, timeoutRate, hangMs);
+            }
+            case "exp":
+                return new LatencyProfile(Type.EXP, Double.parseDouble(args), 0, errorRate, timeoutRate, hangMs);
+            case "lognormal": {
+                String[] params = args.split(",");
+                return new LatencyProfile(Type.LOGNORMAL, Double.parseDouble(params[0]), Double.parseDouble(params[1]),
+                        errorRate, timeoutRate, hangMs);
+            }
+            default:
+                throw new IllegalArgumentException("알 수 없는 지연 분포: " + spec);
+        }
+    }
+
+    public static LatencyProfile fixed(long millis) {
+        return new LatencyProfile(Type.FIXED, millis, 0, 0, 0, 0);
+    }
+
+    // 이번 요청에 적용할 지연 시간 (ms)
+    public long sampleDelayMs() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (timeoutRate > 0 && random.nextDouble() < timeoutRate) {
+            return hangMs;
+        }
+        double millis;
+        switch (type) {
+            case UNIFORM:
+                millis = a + random.nextDouble() * (b - a);
+                break;
+            case EXP:
+                millis = -a * Math.log(1 - random.nextDouble());
+                break;
+            case LOGNORMAL:
+                millis = a * Math.exp(b * random.nextGaussian());
+                break;
+            default:
+                millis = a;
+        }
+        return Math.max(0, Math.round(millis));
+    }
+
+    // 이번 요청을 500 오류로 응답할지 여부
+    public boolean shouldFail() {
+        return errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate;
+    }
+}
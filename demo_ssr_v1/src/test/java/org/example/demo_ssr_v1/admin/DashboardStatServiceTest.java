@@ -0,0 +1,82 @@
+package org.example.demo_ssr_v1.admin;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class DashboardStatServiceTest {
+
+    private DashboardStatRepository repository;
+    private DashboardStatService service;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(DashboardStatRepository.class);
+        service = new DashboardStatService(repository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void 커밋된_증감만_모아서_한_번에_반영한다() {
+        // 커밋된 트랜잭션
+        TransactionSynchronizationManager.initSynchronization();
+        service.게시글수반영(1);
+        service.게시글수반영(1);
+        service.회원가입반영();
+        // 통계 row 는 트랜잭션 안에서 건드리지 않음
+        verifyNoInteractions(repository);
+        finish(TransactionSynchronization.STATUS_COMMITTED);
+
+        // 롤백된 트랜잭션
+        TransactionSynchronizationManager.initSynchronization();
+        service.댓글수반영(1);
+        finish(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        service.증감반영();
+
+        verify(repository).addDeltas(eq(1L), eq(2L), eq(0L), eq(0L), eq(0L), any(LocalDate.class));
+    }
+
+    @Test
+    void 반영할_증감이_없으면_UPDATE_하지_않는다() {
+        service.증감반영();
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void 반영에_실패하면_다음_주기에_다시_반영한다() {
+        service.매출반영(1000);
+        when(repository.addDeltas(anyLong(), anyLong(), anyLong(), anyLong(), anyLong(), any()))
+                .thenThrow(new RuntimeException("DB 연결 실패"))
+                .thenReturn(1);
+
+        service.증감반영();
+        service.증감반영();
+
+        verify(repository, times(2)).addDeltas(eq(0L), eq(0L), eq(0L), eq(1000L), eq(0L), any(LocalDate.class));
+    }
+
+    private static void finish(int status) {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                synchronization.afterCommit();
+            }
+            synchronization.afterCompletion(status);
+        }
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+}
@@ -0,0 +1,122 @@
+package org.example.demo_ssr_v1.board;
+
+import com.samskivert.mustache.Mustache;
+import org.example.demo_ssr_v1._core.errors.exception.Exception404;
+import org.example.demo_ssr_v1._core.template.DeferredFactory;
+import org.example.demo_ssr_v1._core.template.MustacheTemplateRegistry;
+import org.example.demo_ssr_v1.purchase.PurchaseService;
+import org.example.demo_ssr_v1.reply.ReplyService;
+import org.example.demo_ssr_v1.user.SessionUser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.servlet.View;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class BoardControllerETagTest {
+
+    private final BoardService boardService = mock(BoardService.class);
+    private final ReplyService replyService = mock(ReplyService.class);
+    private final View view = mock(View.class);
+
+    private BoardPageVersion boardPageVersion;
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setUp() {
+        // 공유 버전 row: 처음 읽으면 1, 변경 이후 2
+        BoardPageRevisionRepository revisionRepository = mock(BoardPageRevisionRepository.class);
+        when(revisionRepository.increment()).thenReturn(1);
+        when(revisionRepository.findRevision()).thenReturn(Optional.of(1L), Optional.of(2L));
+        boardPageVersion = new BoardPageVersion(revisionRepository,
+                new MustacheTemplateRegistry(Mustache.compiler(), "classpath:/templates/", ".mustache", StandardCharsets.UTF_8),
+                mock(PlatformTransactionManager.class));
+        boardPageVersion.sync();
+        BoardController controller = new BoardController(boardService, replyService, mock(PurchaseService.class),
+                new DeferredFactory(false, Runnable::run), boardPageVersion);
+        mvc = MockMvcBuilders.standaloneSetup(controller)
+                .setViewResolvers((viewName, locale) -> view)
+                .build();
+    }
+
+    private String firstVisit(String url, MockHttpSession session) throws Exception {
+        return mvc.perform(get(url).session(session))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "private, no-cache"))
+                .andReturn().getResponse().getHeader("ETag");
+    }
+
+    @Test
+    void 다시_방문하면_DB_조회와_렌더링_없이_304_를_응답한다() throws Exception {
+        MockHttpSession session = new MockHttpSession();
+        String eTag = firstVisit("/board/list", session);
+
+        mvc.perform(get("/board/list").session(session).header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+
+        verify(boardService, times(1)).게시글목록조회(0, 3, null);
+        verify(view, times(1)).render(any(), any(), any());
+    }
+
+    @Test
+    void 게시글이_바뀌면_다시_조회해서_렌더링한다() throws Exception {
+        MockHttpSession session = new MockHttpSession();
+        String eTag = firstVisit("/board/1", session);
+
+        boardPageVersion.onChanged(new BoardChangedEvent(1L));
+
+        mvc.perform(get("/board/1").session(session).header("If-None-Match", eTag))
+                .andExpect(status().isOk());
+        verify(boardService, times(2)).게시글상세조회(1L, null);
+        verify(replyService, times(2)).댓글목록조회(1L, null);
+        verify(view, times(2)).render(any(), any(), any());
+    }
+
+    @Test
+    void 없는_게시글은_응답을_보내기_전에_404_예외로_끝난다() {
+        when(boardService.게시글상세조회(99L, null)).thenThrow(new Exception404("게시글을 찾을 수 없습니다."));
+
+        // MyExceptionHandler 가 404 화면으로 응답하도록 컨트롤러 밖으로 던져짐 (렌더링 시작 전)
+        assertThatThrownBy(() -> mvc.perform(get("/board/99").session(new MockHttpSession())))
+                .rootCause().isInstanceOf(Exception404.class);
+        verifyNoInteractions(view);
+    }
+
+    @Test
+    void 버전을_아직_읽지_못했으면_ETag_없이_응답한다() throws Exception {
+        BoardPageRevisionRepository failing = mock(BoardPageRevisionRepository.class);
+        when(failing.findRevision()).thenThrow(new IllegalStateException("DB 연결 실패"));
+        BoardPageVersion unknown = new BoardPageVersion(failing,
+                new MustacheTemplateRegistry(Mustache.compiler(), "classpath:/templates/", ".mustache", StandardCharsets.UTF_8),
+                mock(PlatformTransactionManager.class));
+        unknown.sync();
+
+        assertThat(unknown.eTag(null)).isNull();
+    }
+
+    @Test
+    void 로그인_사용자가_다르면_ETag_가_다르다() throws Exception {
+        MockHttpSession anonymous = new MockHttpSession();
+        String eTag = firstVisit("/board/list", anonymous);
+
+        MockHttpSession loggedIn = new MockHttpSession();
+        loggedIn.setAttribute("sessionUser", new SessionUser(7L, "ssar", 2, null));
+        mvc.perform(get("/board/list").session(loggedIn).header("If-None-Match", eTag))
+                .andExpect(status().isOk());
+
+        verify(boardService, times(2)).게시글목록조회(0, 3, null);
+    }
+}
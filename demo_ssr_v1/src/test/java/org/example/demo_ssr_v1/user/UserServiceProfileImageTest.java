@@ -0,0 +1,107 @@
+package org.example.demo_ssr_v1.user;
+
+import org.example.demo_ssr_v1._core.storage.ContentAddressedStorage;
+import org.example.demo_ssr_v1._core.storage.StoredFileRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// H2(local) + 외부 API 주소는 loadtest 값 (실제로 호출하지 않음)
+// 저장 / 해제가 호출한 쪽 트랜잭션의 영속성 컨텍스트를 비우지 않는지 (User 변경이 실제 row 에 반영되는지) 확인
+@SpringBootTest
+@ActiveProfiles({"local", "loadtest"})
+class UserServiceProfileImageTest {
+
+    @TempDir
+    static Path root;
+
+    @DynamicPropertySource
+    static void storage(DynamicPropertyRegistry registry) {
+        registry.add("storage.backend", () -> "local");
+        registry.add("storage.root", () -> root.toString());
+        registry.add("storage.gc.enabled", () -> false);
+    }
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StoredFileRepository storedFileRepository;
+
+    @Test
+    void 이미지와_비밀번호를_함께_수정하면_둘_다_저장된다() throws Exception {
+        Long userId = userRepository.findByUsername("cos").orElseThrow().getId();
+
+        userService.회원정보수정(updateDTO("new-password", png(10, 10)), userId);
+
+        User saved = userRepository.findById(userId).orElseThrow();
+        assertThat(ContentAddressedStorage.isContentKey(saved.getProfileImage())).isTrue();
+        assertThat(saved.getPassword()).isNotEqualTo("1234");
+        assertThat(storedFileRepository.findById(saved.getProfileImage()))
+                .hasValueSatisfying(storedFile -> assertThat(storedFile.getRefCount()).isEqualTo(1));
+    }
+
+    @Test
+    void 프로필_이미지를_삭제하면_row_의_이미지도_비워진다() throws Exception {
+        Long userId = userRepository.findByUsername("hong").orElseThrow().getId();
+        userService.회원정보수정(updateDTO("new-password", png(20, 20)), userId);
+        String key = userRepository.findById(userId).orElseThrow().getProfileImage();
+
+        userService.프로필이미지삭제(userId);
+
+        assertThat(userRepository.findById(userId).orElseThrow().getProfileImage()).isNull();
+        assertThat(storedFileRepository.findById(key)).isEmpty();
+    }
+
+    @Test
+    void 같은_내용을_다른_확장자로_올리면_파일마다_참조_횟수를_따로_센다() throws Exception {
+        Long kimId = userRepository.findByUsername("kim").orElseThrow().getId();
+        Long ssarId = userRepository.findByUsername("ssar").orElseThrow().getId();
+        byte[] image = png(30, 30);
+
+        userService.회원정보수정(updateDTO("new-password", image, "me.jpg"), kimId);
+        userService.회원정보수정(updateDTO("new-password", image, "me.jpeg"), ssarId);
+
+        String jpg = userRepository.findById(kimId).orElseThrow().getProfileImage();
+        String jpeg = userRepository.findById(ssarId).orElseThrow().getProfileImage();
+        assertThat(ContentAddressedStorage.hashOf(jpg)).isEqualTo(ContentAddressedStorage.hashOf(jpeg));
+        assertThat(jpg).endsWith(".jpg");
+        assertThat(jpeg).endsWith(".jpeg");
+        assertThat(storedFileRepository.findById(jpg))
+                .hasValueSatisfying(storedFile -> assertThat(storedFile.getRefCount()).isEqualTo(1));
+        assertThat(storedFileRepository.findById(jpeg))
+                .hasValueSatisfying(storedFile -> assertThat(storedFile.getRefCount()).isEqualTo(1));
+    }
+
+    private static UserRequest.UpdateDTO updateDTO(String password, byte[] image) {
+        return updateDTO(password, image, "me.png");
+    }
+
+    private static UserRequest.UpdateDTO updateDTO(String password, byte[] image, String filename) {
+        UserRequest.UpdateDTO updateDTO = new UserRequest.UpdateDTO();
+        updateDTO.setPassword(password);
+        updateDTO.setProfileImage(new MockMultipartFile("profileImage", filename, "image/png", image));
+        return updateDTO;
+    }
+
+    private static byte[] png(int width, int height) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+        return out.toByteArray();
+    }
+}